@@ -32,7 +32,9 @@ import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A helper class used by {@link ApplovinAdapter}.
@@ -43,6 +45,11 @@ public class AppLovinUtils {
 
   private static final String TRUE = "true";
 
+  /** Banner sizes AppLovin supports, matched against the requested ad size. */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(
+          Arrays.asList(AdSize.BANNER, AdSize.LEADERBOARD, AdSize.MEDIUM_RECTANGLE));
+
   @VisibleForTesting
   public static final String ERROR_MSG_REASON_PREFIX =
       "AppLovin SDK returned a load failure callback with reason: ";
@@ -165,12 +172,7 @@ public class AppLovinUtils {
   @Nullable
   public static AppLovinAdSize appLovinAdSizeFromAdMobAdSize(@NonNull Context context,
       @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
     if (AdSize.BANNER.equals(closestSize)) {
       return AppLovinAdSize.BANNER;
     } else if (AdSize.MEDIUM_RECTANGLE.equals(closestSize)) {
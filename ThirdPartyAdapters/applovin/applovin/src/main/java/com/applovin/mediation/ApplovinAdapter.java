@@ -39,6 +39,7 @@ import com.applovin.sdk.AppLovinSdkUtils;
 import com.google.ads.mediation.applovin.AppLovinInitializer;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter;
+import com.google.ads.mediation.applovin.AppLovinZoneAdPool;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
@@ -47,8 +48,6 @@ import com.google.android.gms.ads.mediation.MediationBannerListener;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdapter;
 import com.google.android.gms.ads.mediation.MediationInterstitialListener;
 import com.google.android.gms.ads.mediation.OnContextChangedListener;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
 
 /**
  * The {@link ApplovinAdapter} class is used to load AppLovin Banner, interstitial & rewarded-based
@@ -60,8 +59,8 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
   private static final boolean LOGGING_ENABLED = true;
 
   // Interstitial globals.
-  private static final HashMap<String, WeakReference<ApplovinAdapter>> appLovinInterstitialAds =
-      new HashMap<>();
+  private static final AppLovinZoneAdPool<ApplovinAdapter> appLovinInterstitialAds =
+      new AppLovinZoneAdPool<>();
   private AppLovinAd appLovinInterstitialAd;
 
   // Parent objects.
@@ -78,7 +77,7 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
   // Controlled fields.
   private String zoneId;
 
-  // Flag to let multiple loading of ads
+  // Flag to let multiple ads of the same zone be loading or loaded at the same time.
   private boolean enableMultipleAdLoading = false;
 
   // region MediationInterstitialAdapter implementation.
@@ -110,8 +109,10 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
           @Override
           public void onInitializeSuccess(@NonNull String sdkKey) {
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
-            if (appLovinInterstitialAds.containsKey(zoneId)
-                && appLovinInterstitialAds.get(zoneId).get() != null) {
+            if (!appLovinInterstitialAds.tryAcquire(
+                zoneId,
+                ApplovinAdapter.this,
+                AppLovinZoneAdPool.getMaxAdsPerZone(enableMultipleAdLoading))) {
               AdError error = new AdError(ERROR_AD_ALREADY_REQUESTED,
                   " Cannot load multiple interstitial ads with the same Zone ID. "
                       + "Display one ad before attempting to load another. ", ERROR_DOMAIN);
@@ -119,7 +120,6 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
               interstitialListener.onAdFailedToLoad(ApplovinAdapter.this, error);
               return;
             }
-            appLovinInterstitialAds.put(zoneId, new WeakReference<>(ApplovinAdapter.this));
 
             // Store parent objects.
             sdk = AppLovinInitializer.getInstance().retrieveSdk(serverParameters, context);
@@ -138,9 +138,6 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
                         "Interstitial did load ad: for zone: "
                             + zoneId);
                     appLovinInterstitialAd = ad;
-                    if (enableMultipleAdLoading) {
-                      unregister();
-                    }
 
                     AppLovinSdkUtils.runOnUiThread(
                         new Runnable() {
@@ -305,10 +302,8 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
 
   // Utilities
   void unregister() {
-    if (!TextUtils.isEmpty(zoneId)
-        && appLovinInterstitialAds.containsKey(zoneId)
-        && ApplovinAdapter.this.equals(appLovinInterstitialAds.get(zoneId).get())) {
-      appLovinInterstitialAds.remove(zoneId);
+    if (zoneId != null) {
+      appLovinInterstitialAds.release(zoneId, ApplovinAdapter.this);
     }
   }
 }
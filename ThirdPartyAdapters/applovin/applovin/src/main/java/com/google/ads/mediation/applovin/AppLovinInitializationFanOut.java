@@ -0,0 +1,126 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Completes an adapter initialization that initializes AppLovin SDK with several SDK keys at once.
+ *
+ * <p>The initialization succeeds as soon as every SDK key is initialized. If a deadline is set and
+ * passes first, it succeeds with the SDK keys initialized so far, and fails only if none is. SDK
+ * keys initialized after the deadline can still serve ads.
+ */
+final class AppLovinInitializationFanOut {
+
+  private static final String TAG = AppLovinInitializationFanOut.class.getSimpleName();
+
+  private final Set<String> sdkKeys;
+  private final InitializationCompleteCallback callback;
+  private final Handler handler;
+  private final long deadlineMillis;
+  private final long startTimeMillis = SystemClock.elapsedRealtime();
+
+  private final AtomicInteger remainingSdkKeyCount;
+  private final AtomicBoolean completed = new AtomicBoolean();
+
+  /** How long each initialized SDK key took to initialize, since the fan-out started. */
+  private final ConcurrentHashMap<String, Long> sdkKeyDurationsMillis = new ConcurrentHashMap<>();
+
+  private final Runnable deadlineRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          onDeadlinePassed();
+        }
+      };
+
+  AppLovinInitializationFanOut(
+      @NonNull Set<String> sdkKeys,
+      @NonNull InitializationCompleteCallback callback,
+      long deadlineMillis) {
+    this.sdkKeys = new HashSet<>(sdkKeys);
+    this.callback = callback;
+    handler = new Handler(Looper.getMainLooper());
+    this.deadlineMillis = deadlineMillis;
+    remainingSdkKeyCount = new AtomicInteger(this.sdkKeys.size());
+  }
+
+  /**
+   * Starts the deadline, if it is greater than 0. Call before initializing the first SDK key.
+   */
+  void start() {
+    if (deadlineMillis > 0) {
+      handler.postDelayed(deadlineRunnable, deadlineMillis);
+    }
+  }
+
+  /** Records that AppLovin SDK finished initializing with the given SDK key. */
+  void onSdkKeyInitialized(@NonNull String sdkKey) {
+    long durationMillis = SystemClock.elapsedRealtime() - startTimeMillis;
+    if (!sdkKeys.contains(sdkKey)
+        || sdkKeyDurationsMillis.putIfAbsent(sdkKey, durationMillis) != null) {
+      // Not one of the SDK keys of this initialization, or already reported.
+      return;
+    }
+    Log.d(TAG, String.format("AppLovin SDK key %s initialized in %d ms.", sdkKey, durationMillis));
+
+    if (remainingSdkKeyCount.decrementAndGet() == 0 && completed.compareAndSet(false, true)) {
+      handler.removeCallbacks(deadlineRunnable);
+      callback.onInitializationSucceeded();
+    }
+  }
+
+  /** Returns how long each SDK key initialized so far took to initialize. */
+  @NonNull
+  Map<String, Long> getSdkKeyDurationsMillis() {
+    return Collections.unmodifiableMap(new HashMap<>(sdkKeyDurationsMillis));
+  }
+
+  private void onDeadlinePassed() {
+    if (!completed.compareAndSet(false, true)) {
+      return;
+    }
+
+    int initializedCount = sdkKeyDurationsMillis.size();
+    if (initializedCount == 0) {
+      callback.onInitializationFailed(
+          String.format(
+              "AppLovin SDK did not initialize with any SDK key within %d ms.", deadlineMillis));
+      return;
+    }
+
+    Log.w(
+        TAG,
+        String.format(
+            "AppLovin SDK initialized with %d of %d SDK keys within %d ms. Continuing without the"
+                + " others.",
+            initializedCount, sdkKeys.size(), deadlineMillis));
+    callback.onInitializationSucceeded();
+  }
+}
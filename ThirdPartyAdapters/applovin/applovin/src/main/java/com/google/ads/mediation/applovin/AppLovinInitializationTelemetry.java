@@ -0,0 +1,128 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how long the AppLovin SDK takes to initialize and how the initialization ends. Nothing is
+ * measured, and no objects are allocated, until a listener is set.
+ */
+public final class AppLovinInitializationTelemetry {
+
+  /** Receives a report for every call to the adapter's {@code initialize()}. */
+  public interface Listener {
+
+    /**
+     * Called once the outcome of an {@code initialize()} call has been delivered.
+     *
+     * @param adapterName the name of the adapter that was initialized.
+     * @param durationMillis the wall-clock time from the {@code initialize()} call to its outcome.
+     * @param succeeded whether the initialization succeeded.
+     * @param waitingListenerCount the number of listeners that were waiting for the SDK
+     *     initialization when it completed, or 0 if the SDK was already initialized.
+     */
+    void onInitializationCompleted(
+        @NonNull String adapterName,
+        long durationMillis,
+        boolean succeeded,
+        int waitingListenerCount);
+  }
+
+  /** Supplies the number of listeners that were waiting for the SDK initialization. */
+  interface WaitingListenerCounter {
+
+    int getWaitingListenerCount();
+  }
+
+  @Nullable
+  private static volatile Listener listener;
+
+  private AppLovinInitializationTelemetry() {}
+
+  /** Sets the listener that receives initialization reports, or {@code null} to stop reporting. */
+  public static void setListener(@Nullable Listener listener) {
+    AppLovinInitializationTelemetry.listener = listener;
+  }
+
+  /**
+   * Returns a callback that reports the outcome of an {@code initialize()} call before forwarding
+   * it to {@code callback}, or {@code callback} itself if no listener is set.
+   *
+   * @param counter supplies the number of waiting listeners, or {@code null} if the adapter does
+   *     not share the SDK initialization between callers.
+   */
+  @NonNull
+  static InitializationCompleteCallback track(
+      @NonNull String adapterName,
+      @NonNull InitializationCompleteCallback callback,
+      @Nullable WaitingListenerCounter counter) {
+    Listener currentListener = listener;
+    if (currentListener == null) {
+      return callback;
+    }
+    return new TrackedCallback(currentListener, adapterName, callback, counter);
+  }
+
+  private static final class TrackedCallback implements InitializationCompleteCallback {
+
+    private final Listener listener;
+    private final String adapterName;
+    private final InitializationCompleteCallback callback;
+    @Nullable
+    private final WaitingListenerCounter counter;
+    private final long startTimeMillis = SystemClock.elapsedRealtime();
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    TrackedCallback(
+        @NonNull Listener listener,
+        @NonNull String adapterName,
+        @NonNull InitializationCompleteCallback callback,
+        @Nullable WaitingListenerCounter counter) {
+      this.listener = listener;
+      this.adapterName = adapterName;
+      this.callback = callback;
+      this.counter = counter;
+    }
+
+    @Override
+    public void onInitializationSucceeded() {
+      report(true);
+      callback.onInitializationSucceeded();
+    }
+
+    @Override
+    public void onInitializationFailed(@NonNull String error) {
+      report(false);
+      callback.onInitializationFailed(error);
+    }
+
+    private void report(boolean succeeded) {
+      if (!reported.compareAndSet(false, true)) {
+        return;
+      }
+      int waitingListenerCount = counter != null ? counter.getWaitingListenerCount() : 1;
+      listener.onInitializationCompleted(
+          adapterName,
+          SystemClock.elapsedRealtime() - startTimeMillis,
+          succeeded,
+          waitingListenerCount);
+    }
+  }
+}
@@ -20,6 +20,7 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.applovin.mediation.AppLovinUtils.ServerParameterKeys;
 import com.applovin.mediation.BuildConfig;
@@ -30,8 +31,7 @@ import com.applovin.sdk.AppLovinSdkConfiguration;
 import com.applovin.sdk.AppLovinSdkSettings;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AppLovinInitializer {
 
@@ -54,33 +54,37 @@ public class AppLovinInitializer {
   /**
    * UNINITIALIZED.
    */
-  public static final int UNINITIALIZED = 0;
+  public static final int UNINITIALIZED = InitializationStateMachine.UNINITIALIZED;
   /**
    * INITIALIZING.
    */
-  public static final int INITIALIZING = 1;
+  public static final int INITIALIZING = InitializationStateMachine.INITIALIZING;
   /**
    * INITIALIZED.
    */
-  public static final int INITIALIZED = 2;
+  public static final int INITIALIZED = InitializationStateMachine.INITIALIZED;
 
-  private final HashMap<String, Integer> initializationStatus;
-  private final HashMap<String, ArrayList<OnInitializeSuccessListener>> initializerListeners;
+  private final ConcurrentHashMap<String, InitializationStateMachine<OnInitializeSuccessListener>>
+      stateMachines = new ConcurrentHashMap<>();
+
+  /**
+   * AppLovin SDK instances already set up for mediation, by SDK key. The SDK key from the Android
+   * manifest is stored under {@link #MANIFEST_SDK_KEY}.
+   */
+  private final ConcurrentHashMap<String, AppLovinSdk> sdkInstances = new ConcurrentHashMap<>();
+
+  private static final String MANIFEST_SDK_KEY = "";
 
   private AppLovinInitializer() {
-    initializationStatus = new HashMap<>();
-    initializerListeners = new HashMap<>();
     appLovinSdkWrapper = new AppLovinSdkWrapper();
   }
 
   @VisibleForTesting
   AppLovinInitializer(AppLovinSdkWrapper appLovinSdkWrapper) {
-    initializationStatus = new HashMap<>();
-    initializerListeners = new HashMap<>();
     this.appLovinSdkWrapper = appLovinSdkWrapper;
   }
 
-  public static AppLovinInitializer getInstance() {
+  public static synchronized AppLovinInitializer getInstance() {
     if (instance == null) {
       instance = new AppLovinInitializer();
     }
@@ -89,48 +93,88 @@ public class AppLovinInitializer {
 
   public void initialize(@NonNull Context context, @NonNull final String sdkKey,
       @NonNull OnInitializeSuccessListener onInitializeSuccessListener) {
-    // Initial values
-    if (!initializationStatus.containsKey(sdkKey)) {
-      initializationStatus.put(sdkKey, UNINITIALIZED);
-      initializerListeners.put(sdkKey, new ArrayList<OnInitializeSuccessListener>());
-    }
-
-    if (Integer.valueOf(INITIALIZED).equals(initializationStatus.get(sdkKey))) {
-      onInitializeSuccessListener.onInitializeSuccess(sdkKey);
-      return;
-    }
-
-    initializerListeners.get(sdkKey).add(onInitializeSuccessListener);
-    if (Integer.valueOf(INITIALIZING).equals(initializationStatus.get(sdkKey))) {
-      return;
+    final InitializationStateMachine<OnInitializeSuccessListener> stateMachine =
+        getStateMachine(sdkKey);
+    switch (stateMachine.register(onInitializeSuccessListener)) {
+      case InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED:
+        onInitializeSuccessListener.onInitializeSuccess(sdkKey);
+        return;
+      case InitializationStateMachine.REGISTRATION_QUEUED:
+        return;
+      case InitializationStateMachine.REGISTRATION_START_INITIALIZATION:
+      default:
+        break;
     }
 
-    initializationStatus.put(sdkKey, INITIALIZING);
     String logMessage = String.format("Attempting to initialize SDK with SDK Key: %s", sdkKey);
     Log.d(TAG, logMessage);
 
-    AppLovinSdkSettings sdkSettings = appLovinSdkWrapper.getSdkSettings(context);
-    AppLovinSdk sdk = appLovinSdkWrapper.getInstance(sdkKey, sdkSettings, context);
-    sdk.setPluginVersion(BuildConfig.ADAPTER_VERSION);
-    sdk.setMediationProvider(AppLovinMediationProvider.ADMOB);
+    AppLovinSdk sdk = getSdk(sdkKey, context);
     sdk.initializeSdk(new SdkInitializationListener() {
       @Override
       public void onSdkInitialized(AppLovinSdkConfiguration config) {
         // AppLovin currently has no method to check if initialization returned a failure, so assume
         // it is always a success.
-        initializationStatus.put(sdkKey, INITIALIZED);
-
-        ArrayList<OnInitializeSuccessListener> listeners = initializerListeners.get(sdkKey);
-        if (listeners != null) {
-          for (OnInitializeSuccessListener onInitializeSuccessListener : listeners) {
-            onInitializeSuccessListener.onInitializeSuccess(sdkKey);
-          }
-          listeners.clear();
-        }
+        stateMachine.onInitializationSucceeded(
+            new InitializationStateMachine.ListenerNotifier<OnInitializeSuccessListener>() {
+              @Override
+              public void notify(@NonNull OnInitializeSuccessListener listener) {
+                listener.onInitializeSuccess(sdkKey);
+              }
+            });
       }
     });
   }
 
+  /** Returns the initialization status of AppLovin SDK for the given SDK key. */
+  @InitializationStatus
+  public int getInitializationStatus(@NonNull String sdkKey) {
+    InitializationStateMachine<OnInitializeSuccessListener> stateMachine =
+        stateMachines.get(sdkKey);
+    return stateMachine != null ? stateMachine.getState() : UNINITIALIZED;
+  }
+
+  /**
+   * Returns how long, in milliseconds, the last initialization of AppLovin SDK with the given SDK
+   * key took, or -1 if it has not completed yet.
+   */
+  long getLastInitializationDurationMillis(@NonNull String sdkKey) {
+    InitializationStateMachine<OnInitializeSuccessListener> stateMachine =
+        stateMachines.get(sdkKey);
+    return stateMachine != null ? stateMachine.getLastInitializationDurationMillis() : -1;
+  }
+
+  /**
+   * See {@link InitializationStateMachine#getWaitingListenerCount()}, for the initialization of
+   * AppLovin SDK with the given SDK key. While that initialization is still in progress, for
+   * example when the adapter initialization deadline passes first, returns the number of listeners
+   * waiting for it.
+   */
+  int getWaitingListenerCount(@NonNull String sdkKey) {
+    InitializationStateMachine<OnInitializeSuccessListener> stateMachine =
+        stateMachines.get(sdkKey);
+    if (stateMachine == null) {
+      return 0;
+    }
+    return Math.max(stateMachine.getWaitingListenerCount(), stateMachine.getPendingListenerCount());
+  }
+
+  @NonNull
+  private InitializationStateMachine<OnInitializeSuccessListener> getStateMachine(
+      @NonNull String sdkKey) {
+    InitializationStateMachine<OnInitializeSuccessListener> stateMachine =
+        stateMachines.get(sdkKey);
+    if (stateMachine == null) {
+      InitializationStateMachine<OnInitializeSuccessListener> newStateMachine =
+          new InitializationStateMachine<>();
+      stateMachine = stateMachines.putIfAbsent(sdkKey, newStateMachine);
+      if (stateMachine == null) {
+        stateMachine = newStateMachine;
+      }
+    }
+    return stateMachine;
+  }
+
   /**
    * Retrieves the appropriate instance of AppLovin's SDK from the SDK key given in the server
    * parameters, or Android Manifest.
@@ -138,18 +182,34 @@ public class AppLovinInitializer {
   public AppLovinSdk retrieveSdk(Bundle serverParameters, Context context) {
     String sdkKey =
         (serverParameters != null) ? serverParameters.getString(ServerParameterKeys.SDK_KEY) : null;
-    AppLovinSdk sdk;
+    return getSdk(sdkKey, context);
+  }
+
+  /**
+   * Returns the AppLovin SDK instance for the given SDK key, set up for mediation. The instance is
+   * only looked up and set up the first time a key is used.
+   */
+  @NonNull
+  private AppLovinSdk getSdk(@Nullable String sdkKey, @NonNull Context context) {
+    String cacheKey = TextUtils.isEmpty(sdkKey) ? MANIFEST_SDK_KEY : sdkKey;
+    AppLovinSdk sdk = sdkInstances.get(cacheKey);
+    if (sdk != null) {
+      return sdk;
+    }
 
     AppLovinSdkSettings sdkSettings = appLovinSdkWrapper.getSdkSettings(context);
+    AppLovinSdk newSdk;
     if (!TextUtils.isEmpty(sdkKey)) {
-      sdk = appLovinSdkWrapper.getInstance(sdkKey, sdkSettings, context);
+      newSdk = appLovinSdkWrapper.getInstance(sdkKey, sdkSettings, context);
     } else {
-      sdk = appLovinSdkWrapper.getInstance(sdkSettings, context);
+      newSdk = appLovinSdkWrapper.getInstance(sdkSettings, context);
     }
-
-    sdk.setPluginVersion(BuildConfig.ADAPTER_VERSION);
-    sdk.setMediationProvider(AppLovinMediationProvider.ADMOB);
-    return sdk;
+    // AppLovin SDK returns the same instance for a key, so a concurrent caller may set it up too.
+    // Setting it up is idempotent, and it is done before the instance is shared.
+    newSdk.setPluginVersion(BuildConfig.ADAPTER_VERSION);
+    newSdk.setMediationProvider(AppLovinMediationProvider.ADMOB);
+    sdk = sdkInstances.putIfAbsent(cacheKey, newSdk);
+    return sdk != null ? sdk : newSdk;
   }
 
   public interface OnInitializeSuccessListener {
@@ -58,7 +58,7 @@ public abstract class AppLovinInterstitialRenderer
 
   protected final AppLovinAdFactory appLovinAdFactory;
 
-  @Nullable private MediationInterstitialAdCallback interstitialAdCallback;
+  @Nullable protected MediationInterstitialAdCallback interstitialAdCallback;
 
   @Nullable protected AppLovinAd appLovinInterstitialAd;
 
@@ -29,6 +29,7 @@ import com.applovin.mediation.AppLovinUtils.ServerParameterKeys;
 import com.applovin.mediation.BuildConfig;
 import com.applovin.mediation.rtb.AppLovinRtbInterstitialRenderer;
 import com.applovin.mediation.rtb.AppLovinRtbRewardedRenderer;
+import com.applovin.sdk.AppLovinPrivacySettings;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
@@ -52,8 +53,10 @@ import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("FieldCanBeLocal")
 public class AppLovinMediationAdapter extends RtbAdapter {
@@ -64,6 +67,17 @@ public class AppLovinMediationAdapter extends RtbAdapter {
   @Nullable
   public static AppLovinSdkSettings appLovinSdkSettings;
 
+  /**
+   * Deadline of the adapter initialization, by default. The initialization has no deadline, and
+   * waits for every SDK key to initialize.
+   */
+  public static final long DEFAULT_INITIALIZATION_DEADLINE_MILLIS = 0;
+
+  private static volatile long initializationDeadlineMillis =
+      DEFAULT_INITIALIZATION_DEADLINE_MILLIS;
+
+  @Nullable private static volatile AppLovinInitializationFanOut lastInitializationFanOut;
+
   private AppLovinBannerAd bannerAd;
 
   private AppLovinWaterfallInterstitialAd waterfallInterstitialAd;
@@ -191,7 +205,7 @@ public class AppLovinMediationAdapter extends RtbAdapter {
    * <p>Used to configure AppLovin SDK with specific requirements.
    */
   @NonNull
-  public static AppLovinSdkSettings getSdkSettings(@NonNull Context context) {
+  public static synchronized AppLovinSdkSettings getSdkSettings(@NonNull Context context) {
     if (appLovinSdkSettings == null) {
       appLovinSdkSettings = new AppLovinSdkSettings(context);
     }
@@ -200,14 +214,30 @@ public class AppLovinMediationAdapter extends RtbAdapter {
 
   @Override
   public void initialize(@NonNull Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    final HashSet<String> sdkKeys = new HashSet<>();
+    final InitializationCompleteCallback initializationCompleteCallback =
+        AppLovinInitializationTelemetry.track(
+            TAG,
+            callback,
+            new AppLovinInitializationTelemetry.WaitingListenerCounter() {
+              @Override
+              public int getWaitingListenerCount() {
+                int waitingListenerCount = 0;
+                for (String sdkKey : sdkKeys) {
+                  waitingListenerCount = Math.max(waitingListenerCount,
+                      appLovinInitializer.getWaitingListenerCount(sdkKey));
+                }
+                return waitingListenerCount;
+              }
+            });
+
     if (isChildUser()) {
       initializationCompleteCallback.onInitializationFailed(ERROR_MSG_CHILD_USER);
       return;
     }
 
-    final HashSet<String> sdkKeys = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       String sdkKey = configuration.getServerParameters().getString(ServerParameterKeys.SDK_KEY);
       if (!TextUtils.isEmpty(sdkKey)) {
@@ -223,9 +253,13 @@ public class AppLovinMediationAdapter extends RtbAdapter {
       return;
     }
 
-    // Keep track of the SDK keys that were used to initialize the AppLovin SDK. Once all of them
-    // have been initialized, then the completion callback is invoked.
-    final HashSet<String> initializedSdkKeys = new HashSet<>();
+    // Initialize the AppLovin SDK with every SDK key at once. Once all of them have been
+    // initialized, or the deadline set by the publisher passes, the completion callback is invoked.
+    final AppLovinInitializationFanOut fanOut =
+        new AppLovinInitializationFanOut(
+            sdkKeys, initializationCompleteCallback, initializationDeadlineMillis);
+    lastInitializationFanOut = fanOut;
+    fanOut.start();
 
     for (String sdkKey : sdkKeys) {
       appLovinInitializer.initialize(
@@ -234,15 +268,33 @@ public class AppLovinMediationAdapter extends RtbAdapter {
           new OnInitializeSuccessListener() {
             @Override
             public void onInitializeSuccess(@NonNull String sdkKey) {
-              initializedSdkKeys.add(sdkKey);
-              if (initializedSdkKeys.equals(sdkKeys)) {
-                initializationCompleteCallback.onInitializationSucceeded();
-              }
+              fanOut.onSdkKeyInitialized(sdkKey);
             }
           });
     }
   }
 
+  /**
+   * Sets how long the adapter initialization waits for AppLovin SDK to initialize with every SDK
+   * key. When it passes, the initialization succeeds if at least one SDK key is initialized, and
+   * fails otherwise. A deadline of 0 or less, the default, waits for every SDK key.
+   */
+  public static void setInitializationDeadlineMillis(long deadlineMillis) {
+    initializationDeadlineMillis = deadlineMillis;
+  }
+
+  /**
+   * Returns how long AppLovin SDK took to initialize with each SDK key during the last adapter
+   * initialization. SDK keys that have not initialized yet are missing.
+   */
+  @NonNull
+  public static Map<String, Long> getLastSdkKeyInitializationMillis() {
+    AppLovinInitializationFanOut fanOut = lastInitializationFanOut;
+    return fanOut != null
+        ? fanOut.getSdkKeyDurationsMillis()
+        : Collections.<String, Long>emptyMap();
+  }
+
   @Override
   @NonNull
   public VersionInfo getVersionInfo() {
@@ -309,8 +361,22 @@ public class AppLovinMediationAdapter extends RtbAdapter {
 
     // Check if the publisher provided extra parameters
     Log.i(TAG, "Extras for signal collection: " + rtbSignalData.getNetworkExtras());
-    AppLovinSdk sdk =
-        appLovinInitializer.retrieveSdk(config.getServerParameters(), rtbSignalData.getContext());
+    AppLovinBidTokenCache bidTokenCache = AppLovinBidTokenCache.getInstance();
+    Context context = rtbSignalData.getContext();
+    String cacheKey =
+        bidTokenCache.isEnabled()
+            ? AppLovinBidTokenCache.createKey(
+                rtbSignalData,
+                AppLovinPrivacySettings.hasUserConsent(context),
+                AppLovinPrivacySettings.isDoNotSell(context))
+            : null;
+    String cachedBidToken = cacheKey != null ? bidTokenCache.get(cacheKey) : null;
+    if (cachedBidToken != null) {
+      signalCallbacks.onSuccess(cachedBidToken);
+      return;
+    }
+
+    AppLovinSdk sdk = appLovinInitializer.retrieveSdk(config.getServerParameters(), context);
     String bidToken = sdk.getAdService().getBidToken();
 
     if (TextUtils.isEmpty(bidToken)) {
@@ -322,6 +388,9 @@ public class AppLovinMediationAdapter extends RtbAdapter {
     }
 
     Log.i(TAG, "Generated bid token: " + bidToken);
+    if (cacheKey != null) {
+      bidTokenCache.put(cacheKey, bidToken);
+    }
     signalCallbacks.onSuccess(bidToken);
   }
 
@@ -39,10 +39,7 @@ public class AppLovinSdkWrapper {
   // {@link AppLovinMediationAdapter} instead
   @NonNull
   public AppLovinSdkSettings getSdkSettings(@NonNull Context context) {
-    if (AppLovinMediationAdapter.appLovinSdkSettings == null) {
-      AppLovinMediationAdapter.appLovinSdkSettings = new AppLovinSdkSettings(context);
-    }
-    return AppLovinMediationAdapter.appLovinSdkSettings;
+    return AppLovinMediationAdapter.getSdkSettings(context);
   }
 
   public String getSdkVersion() {
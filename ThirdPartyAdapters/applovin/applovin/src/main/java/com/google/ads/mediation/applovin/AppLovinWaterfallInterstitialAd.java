@@ -20,6 +20,7 @@ import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_A
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MSG_MISSING_SDK;
+import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_PRESENTATON_AD_NOT_READY;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -38,8 +39,6 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
 
 /**
  * Used to load AppLovin interstitial ads and mediate callbacks between Google Mobile Ads SDK and
@@ -49,16 +48,19 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
     implements MediationInterstitialAd {
 
   @VisibleForTesting
-  protected static final HashMap<String, WeakReference<AppLovinWaterfallInterstitialAd>>
-      appLovinWaterfallInterstitialAds = new HashMap<>();
+  protected static final AppLovinZoneAdPool<AppLovinWaterfallInterstitialAd>
+      appLovinWaterfallInterstitialAds = new AppLovinZoneAdPool<>();
 
   private AppLovinSdk sdk;
 
+  // SDK key the ad is loaded with, which the preloaded ads of its zone are kept under.
+  private String sdkKey;
+
   private Context context;
 
   private Bundle networkExtras;
 
-  // Flag to let multiple loading of ads
+  // Flag to let multiple ads of the same zone be loading or loaded at the same time.
   private boolean enableMultipleAdLoading = false;
 
   public AppLovinWaterfallInterstitialAd(
@@ -96,8 +98,10 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
           @Override
           public void onInitializeSuccess(@NonNull String sdkKey) {
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
-            if (appLovinWaterfallInterstitialAds.containsKey(zoneId)
-                && appLovinWaterfallInterstitialAds.get(zoneId).get() != null) {
+            if (!appLovinWaterfallInterstitialAds.tryAcquire(
+                zoneId,
+                AppLovinWaterfallInterstitialAd.this,
+                AppLovinZoneAdPool.getMaxAdsPerZone(enableMultipleAdLoading))) {
               AdError error =
                   new AdError(
                       ERROR_AD_ALREADY_REQUESTED, ERROR_MSG_MULTIPLE_INTERSTITIAL_AD, ERROR_DOMAIN);
@@ -105,16 +109,22 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
               interstitialAdLoadCallback.onFailure(error);
               return;
             }
-            appLovinWaterfallInterstitialAds.put(
-                zoneId, new WeakReference<>(AppLovinWaterfallInterstitialAd.this));
 
             // Store parent objects.
+            AppLovinWaterfallInterstitialAd.this.sdkKey = sdkKey;
             sdk = appLovinInitializer.retrieveSdk(serverParameters, context);
             AppLovinWaterfallInterstitialAd.this.networkExtras = networkExtras;
 
             Log.d(TAG, "Requesting interstitial for zone: " + zoneId);
 
             if (!TextUtils.isEmpty(zoneId)) {
+              AppLovinAd preloadedAd =
+                  AppLovinZonePreloadCache.getInstance().take(sdkKey, zoneId);
+              if (preloadedAd != null) {
+                Log.d(TAG, "Serving preloaded interstitial for zone: " + zoneId);
+                adReceived(preloadedAd);
+                return;
+              }
               sdk.getAdService().loadNextAdForZoneId(zoneId, AppLovinWaterfallInterstitialAd.this);
             } else {
               sdk.getAdService().loadNextAd(INTERSTITIAL, AppLovinWaterfallInterstitialAd.this);
@@ -143,21 +153,32 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
         Log.d(TAG, "Showing interstitial preloaded by SDK.");
         interstitialAdDialog.show();
       } else {
-        // TODO: Show ad for zone identifier if exists
+        AppLovinAd preloadedAd = AppLovinZonePreloadCache.getInstance().take(sdkKey, zoneId);
+        if (preloadedAd != null) {
+          Log.d(TAG, "Showing interstitial preloaded for zone: " + zoneId);
+          interstitialAdDialog.showAndRender(preloadedAd);
+          AppLovinZonePreloadCache.getInstance().refill(sdkKey, zoneId, sdk);
+        } else {
+          AdError error =
+              new AdError(
+                  ERROR_PRESENTATON_AD_NOT_READY,
+                  "No interstitial is ready to show for zone: " + zoneId,
+                  ERROR_DOMAIN);
+          Log.w(TAG, error.getMessage());
+          if (interstitialAdCallback != null) {
+            interstitialAdCallback.onAdFailedToShow(error);
+          }
+        }
       }
       return;
     }
 
     Log.d(TAG, "Showing interstitial for zone: " + zoneId);
     interstitialAdDialog.showAndRender(appLovinInterstitialAd);
-  }
-
-  @Override
-  public void adReceived(AppLovinAd ad) {
-    if (enableMultipleAdLoading) {
-      unregister();
+    if (!TextUtils.isEmpty(zoneId)) {
+      // Get the next interstitial of this zone ready while this one is on screen.
+      AppLovinZonePreloadCache.getInstance().refill(sdkKey, zoneId, sdk);
     }
-    super.adReceived(ad);
   }
 
   @Override
@@ -173,10 +194,8 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
   }
 
   void unregister() {
-    if (!TextUtils.isEmpty(zoneId)
-        && appLovinWaterfallInterstitialAds.containsKey(zoneId)
-        && this.equals(appLovinWaterfallInterstitialAds.get(zoneId).get())) {
-      appLovinWaterfallInterstitialAds.remove(zoneId);
+    if (zoneId != null) {
+      appLovinWaterfallInterstitialAds.release(zoneId, this);
     }
   }
 }
@@ -36,8 +36,6 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
 import java.util.Objects;
 
 /**
@@ -48,8 +46,8 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
     implements MediationRewardedAd {
 
   @VisibleForTesting
-  protected static final HashMap<String, WeakReference<AppLovinWaterfallRewardedRenderer>>
-      incentivizedAdsMap = new HashMap<>();
+  protected static final WeakInstanceRegistry<String, AppLovinWaterfallRewardedRenderer>
+      incentivizedAdsMap = new WeakInstanceRegistry<>();
 
   /** AppLovin's default zone. */
   private static final String DEFAULT_ZONE = "";
@@ -101,15 +99,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
             Log.d(TAG, logMessage);
 
             // Check if incentivized ad for zone already exists.
-            boolean adAlreadyRequested = false;
-            if (incentivizedAdsMap.containsKey(zoneId)) {
-              adAlreadyRequested = true;
-            } else {
-              incentivizedAdsMap.put(
-                  zoneId, new WeakReference<>(AppLovinWaterfallRewardedRenderer.this));
-            }
-
-            if (adAlreadyRequested) {
+            if (!incentivizedAdsMap.putIfAbsent(zoneId, AppLovinWaterfallRewardedRenderer.this)) {
               AdError error =
                   new AdError(
                       ERROR_AD_ALREADY_REQUESTED, ERROR_MSG_MULTIPLE_REWARDED_AD, ERROR_DOMAIN);
@@ -157,7 +147,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
   @Override
   public void adReceived(@NonNull AppLovinAd appLovinAd) {
     if (enableMultipleAdLoading) {
-      incentivizedAdsMap.remove(zoneId);
+      incentivizedAdsMap.remove(zoneId, this);
     }
     super.adReceived(appLovinAd);
   }
@@ -165,7 +155,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
   // region AppLovinAdLoadListener implementation
   @Override
   public void failedToReceiveAd(final int code) {
-    incentivizedAdsMap.remove(zoneId);
+    incentivizedAdsMap.remove(zoneId, this);
     super.failedToReceiveAd(code);
   }
   // endregion
@@ -173,7 +163,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
   // region AppLovinAdDisplayListener implementation.
   @Override
   public void adHidden(@NonNull AppLovinAd ad) {
-    incentivizedAdsMap.remove(zoneId);
+    incentivizedAdsMap.remove(zoneId, this);
     super.adHidden(ad);
   }
   // endregion
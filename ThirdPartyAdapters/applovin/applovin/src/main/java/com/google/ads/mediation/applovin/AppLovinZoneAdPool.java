@@ -0,0 +1,129 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import androidx.annotation.NonNull;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how many ads of one format are loading or loaded at the same time for each AppLovin zone,
+ * and bounds them when a limit applies.
+ *
+ * <p>Ad units that do not enable multiple ads keep a single ad per zone. Ad units that enable them
+ * are not limited unless the publisher sets a limit with {@link #setMaxAdsPerZone(int)}.
+ *
+ * <p>Every ad takes a slot of its zone from the start of its load until it is hidden or fails to
+ * load, and keeps its own loaded {@link com.applovin.sdk.AppLovinAd}. Ads are held weakly, so an ad
+ * that is never shown frees its slot once it is garbage collected.
+ *
+ * @param <T> the type of the ads in the pool.
+ */
+public final class AppLovinZoneAdPool<T> {
+
+  /** Number of ads per zone allowed when multiple ads per ad unit are enabled, by default. */
+  public static final int DEFAULT_MAX_ADS_PER_ZONE = Integer.MAX_VALUE;
+
+  private static volatile int maxAdsPerZone = DEFAULT_MAX_ADS_PER_ZONE;
+
+  private final ConcurrentHashMap<String, ArrayList<WeakReference<T>>> zones =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Sets how many ads per zone may be loading or loaded at the same time when the ad unit enables
+   * multiple ads. There is no limit unless one is set, and passing {@link
+   * #DEFAULT_MAX_ADS_PER_ZONE} removes it again. Ad units that do not enable multiple ads keep a
+   * single ad per zone.
+   */
+  public static void setMaxAdsPerZone(int maxAds) {
+    maxAdsPerZone = Math.max(1, maxAds);
+  }
+
+  /** Returns the number of ads allowed per zone for an ad unit. */
+  public static int getMaxAdsPerZone(boolean multipleAdsEnabled) {
+    return multipleAdsEnabled ? maxAdsPerZone : 1;
+  }
+
+  /**
+   * Takes a slot of the given zone for the given ad.
+   *
+   * @return {@code true} if the zone had a free slot, {@code false} if {@code maxAds} ads of the
+   *     zone are already loading or loaded.
+   */
+  public boolean tryAcquire(@NonNull String zoneId, @NonNull T ad, int maxAds) {
+    ArrayList<WeakReference<T>> zoneAds = getZoneAds(zoneId);
+    synchronized (zoneAds) {
+      pruneCollectedAds(zoneAds);
+      if (zoneAds.size() >= maxAds) {
+        return false;
+      }
+      zoneAds.add(new WeakReference<>(ad));
+      return true;
+    }
+  }
+
+  /** Frees the slot the given ad holds in the given zone, if any. */
+  public void release(@NonNull String zoneId, @NonNull T ad) {
+    ArrayList<WeakReference<T>> zoneAds = zones.get(zoneId);
+    if (zoneAds == null) {
+      return;
+    }
+    synchronized (zoneAds) {
+      Iterator<WeakReference<T>> iterator = zoneAds.iterator();
+      while (iterator.hasNext()) {
+        T zoneAd = iterator.next().get();
+        if (zoneAd == null || zoneAd == ad) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  /** Returns the number of ads loading or loaded for the given zone. */
+  public int getAdCount(@NonNull String zoneId) {
+    ArrayList<WeakReference<T>> zoneAds = zones.get(zoneId);
+    if (zoneAds == null) {
+      return 0;
+    }
+    synchronized (zoneAds) {
+      pruneCollectedAds(zoneAds);
+      return zoneAds.size();
+    }
+  }
+
+  @NonNull
+  private ArrayList<WeakReference<T>> getZoneAds(@NonNull String zoneId) {
+    ArrayList<WeakReference<T>> zoneAds = zones.get(zoneId);
+    if (zoneAds == null) {
+      ArrayList<WeakReference<T>> newZoneAds = new ArrayList<>();
+      zoneAds = zones.putIfAbsent(zoneId, newZoneAds);
+      if (zoneAds == null) {
+        zoneAds = newZoneAds;
+      }
+    }
+    return zoneAds;
+  }
+
+  private static <T> void pruneCollectedAds(@NonNull ArrayList<WeakReference<T>> zoneAds) {
+    Iterator<WeakReference<T>> iterator = zoneAds.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().get() == null) {
+        iterator.remove();
+      }
+    }
+  }
+}
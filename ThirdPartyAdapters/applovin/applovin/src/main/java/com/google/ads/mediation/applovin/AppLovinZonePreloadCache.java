@@ -0,0 +1,174 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinSdk;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one preloaded interstitial ad per AppLovin zone, so that the next interstitial request for
+ * the zone is served from memory instead of waiting for AppLovin SDK to load an ad.
+ *
+ * <p>Slots are kept per SDK key and zone ID, since an ad loaded by the AppLovin SDK instance of one
+ * SDK key must not be served to a request made with another.
+ *
+ * <p>Preloading is disabled by default. Once enabled, the slot of a zone is refilled in the
+ * background every time an interstitial ad of the zone is shown. A preloaded ad that is older than
+ * the time-to-live is discarded instead of being served.
+ */
+public final class AppLovinZonePreloadCache {
+
+  private static final String TAG = AppLovinZonePreloadCache.class.getSimpleName();
+
+  /** How long a preloaded ad may be served, by default. */
+  public static final long DEFAULT_TTL_MILLIS = 30 * 60 * 1000;
+
+  private static final AppLovinZonePreloadCache instance = new AppLovinZonePreloadCache();
+
+  private final ConcurrentHashMap<String, PreloadedAd> preloadedAds = new ConcurrentHashMap<>();
+  private final Set<String> slotsBeingRefilled =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong expiredCount = new AtomicLong();
+
+  private volatile boolean enabled;
+  private volatile long ttlMillis = DEFAULT_TTL_MILLIS;
+
+  private AppLovinZonePreloadCache() {}
+
+  @NonNull
+  public static AppLovinZonePreloadCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables or disables zone preloading. Disabling it drops every preloaded ad.
+   *
+   * <p>Preloading makes an extra ad request to AppLovin SDK after every interstitial shown.
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      preloadedAds.clear();
+    }
+  }
+
+  /** Sets how long a preloaded ad may be served after it was loaded. */
+  public void setTtlMillis(long ttlMillis) {
+    this.ttlMillis = ttlMillis;
+  }
+
+  /**
+   * Takes the preloaded ad of the given SDK key and zone, if preloading is enabled and the ad has
+   * not expired. The slot is empty afterwards.
+   */
+  @Nullable
+  AppLovinAd take(@Nullable String sdkKey, @NonNull String zoneId) {
+    if (!enabled) {
+      return null;
+    }
+
+    PreloadedAd preloadedAd = preloadedAds.remove(getSlotKey(sdkKey, zoneId));
+    if (preloadedAd == null) {
+      missCount.incrementAndGet();
+      return null;
+    }
+    if (SystemClock.elapsedRealtime() - preloadedAd.loadedTimeMillis > ttlMillis) {
+      Log.d(TAG, "Discarding expired preloaded interstitial for zone: " + zoneId);
+      expiredCount.incrementAndGet();
+      missCount.incrementAndGet();
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return preloadedAd.ad;
+  }
+
+  /**
+   * Loads an ad into the slot of the given SDK key and zone in the background, unless preloading is
+   * disabled, the slot is already filled or a load for it is already in progress. {@code sdk} must
+   * be the AppLovin SDK instance of {@code sdkKey}.
+   */
+  void refill(@Nullable String sdkKey, @NonNull final String zoneId, @NonNull AppLovinSdk sdk) {
+    final String slotKey = getSlotKey(sdkKey, zoneId);
+    if (!enabled || preloadedAds.containsKey(slotKey) || !slotsBeingRefilled.add(slotKey)) {
+      return;
+    }
+
+    Log.d(TAG, "Preloading interstitial for zone: " + zoneId);
+    sdk.getAdService()
+        .loadNextAdForZoneId(
+            zoneId,
+            new AppLovinAdLoadListener() {
+              @Override
+              public void adReceived(AppLovinAd ad) {
+                if (enabled) {
+                  preloadedAds.put(slotKey, new PreloadedAd(ad));
+                }
+                slotsBeingRefilled.remove(slotKey);
+              }
+
+              @Override
+              public void failedToReceiveAd(int code) {
+                Log.d(
+                    TAG, "Failed to preload interstitial for zone: " + zoneId + ", code: " + code);
+                slotsBeingRefilled.remove(slotKey);
+              }
+            });
+  }
+
+  /** Returns the number of interstitial requests served with a preloaded ad. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of interstitial requests that found no preloaded ad, including those whose
+   * preloaded ad had expired.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Returns the number of preloaded ads discarded because they had expired. */
+  public long getExpiredCount() {
+    return expiredCount.get();
+  }
+
+  @NonNull
+  private static String getSlotKey(@Nullable String sdkKey, @NonNull String zoneId) {
+    return sdkKey + "/" + zoneId;
+  }
+
+  private static final class PreloadedAd {
+
+    final AppLovinAd ad;
+    final long loadedTimeMillis = SystemClock.elapsedRealtime();
+
+    PreloadedAd(@NonNull AppLovinAd ad) {
+      this.ad = ad;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe map from keys to weakly held values.
+ *
+ * <p>Entries whose value has been garbage collected are removed as soon as the registry is next
+ * used, through a {@link ReferenceQueue}, so that they neither accumulate nor keep blocking their
+ * key. Lookups do not lock.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class WeakInstanceRegistry<K, V> {
+
+  private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+  private final ReferenceQueue<V> collectedValues = new ReferenceQueue<>();
+
+  /** Returns the value registered for the given key, or {@code null} if there is none. */
+  @Nullable
+  public V get(@NonNull K key) {
+    expungeCollectedEntries();
+    Entry<K, V> entry = entries.get(key);
+    return entry != null ? entry.get() : null;
+  }
+
+  /** Registers the given value for the given key, replacing any previous value. */
+  public void put(@NonNull K key, @NonNull V value) {
+    expungeCollectedEntries();
+    entries.put(key, new Entry<>(key, value, collectedValues));
+  }
+
+  /**
+   * Registers the given value for the given key, unless a value that is still alive is already
+   * registered for it.
+   *
+   * @return {@code true} if the value was registered.
+   */
+  public boolean putIfAbsent(@NonNull K key, @NonNull V value) {
+    expungeCollectedEntries();
+    Entry<K, V> newEntry = new Entry<>(key, value, collectedValues);
+    while (true) {
+      Entry<K, V> currentEntry = entries.putIfAbsent(key, newEntry);
+      if (currentEntry == null) {
+        return true;
+      }
+      if (currentEntry.get() != null) {
+        return false;
+      }
+      // The current value is no longer alive but has not been reaped yet.
+      if (entries.replace(key, currentEntry, newEntry)) {
+        return true;
+      }
+    }
+  }
+
+  /** Removes the value registered for the given key. */
+  public void remove(@NonNull K key) {
+    expungeCollectedEntries();
+    entries.remove(key);
+  }
+
+  /**
+   * Removes the value registered for the given key, only if it is the given value.
+   *
+   * @return {@code true} if the value was removed.
+   */
+  public boolean remove(@NonNull K key, @NonNull V value) {
+    expungeCollectedEntries();
+    Entry<K, V> entry = entries.get(key);
+    return entry != null && entry.get() == value && entries.remove(key, entry);
+  }
+
+  /** Removes every value. */
+  public void clear() {
+    entries.clear();
+  }
+
+  /** Returns a view of the keys with a registered value. */
+  @NonNull
+  public Set<K> keySet() {
+    expungeCollectedEntries();
+    return entries.keySet();
+  }
+
+  /** Returns the number of registered values that are still alive. */
+  public int size() {
+    expungeCollectedEntries();
+    int liveEntryCount = 0;
+    for (Entry<K, V> entry : entries.values()) {
+      if (entry.get() != null) {
+        liveEntryCount++;
+      }
+    }
+    return liveEntryCount;
+  }
+
+  /** Returns the reference that holds the value registered for the given key, if any. */
+  @VisibleForTesting
+  @Nullable
+  WeakReference<V> getReference(@NonNull K key) {
+    return entries.get(key);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void expungeCollectedEntries() {
+    Reference<? extends V> reference;
+    while ((reference = collectedValues.poll()) != null) {
+      Entry<K, V> entry = (Entry<K, V>) reference;
+      // The key may have been registered again since, with a different entry.
+      entries.remove(entry.key, entry);
+    }
+  }
+
+  private static final class Entry<K, V> extends WeakReference<V> {
+
+    final K key;
+
+    Entry(@NonNull K key, @NonNull V value, @NonNull ReferenceQueue<V> queue) {
+      super(value, queue);
+      this.key = key;
+    }
+  }
+}
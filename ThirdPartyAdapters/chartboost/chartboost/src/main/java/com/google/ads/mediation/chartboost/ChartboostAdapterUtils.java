@@ -29,7 +29,9 @@ import com.chartboost.sdk.privacy.model.COPPA;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.RequestConfiguration;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Utility methods for the Chartboost Adapter.
@@ -56,6 +58,22 @@ class ChartboostAdapterUtils {
    */
   static final String LOCATION_DEFAULT = "default";
 
+  private static final AdSize STANDARD_SIZE =
+      new AdSize(Banner.BannerSize.STANDARD.getWidth(), Banner.BannerSize.STANDARD.getHeight());
+
+  private static final AdSize MEDIUM_SIZE =
+      new AdSize(Banner.BannerSize.MEDIUM.getWidth(), Banner.BannerSize.MEDIUM.getHeight());
+
+  private static final AdSize LEADERBOARD_SIZE =
+      new AdSize(
+          Banner.BannerSize.LEADERBOARD.getWidth(), Banner.BannerSize.LEADERBOARD.getHeight());
+
+  /**
+   * Banner sizes Chartboost supports, matched against the requested ad size.
+   */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(Arrays.asList(STANDARD_SIZE, MEDIUM_SIZE, LEADERBOARD_SIZE));
+
   /**
    * Chartboost mediation object.
    */
@@ -127,31 +145,17 @@ class ChartboostAdapterUtils {
    */
   @Nullable
   static Banner.BannerSize findClosestBannerSize(@NonNull Context context, @NonNull AdSize adSize) {
-    AdSize standardSize =
-        new AdSize(
-            Banner.BannerSize.STANDARD.getWidth(), Banner.BannerSize.STANDARD.getHeight());
-    AdSize mediumSize =
-        new AdSize(Banner.BannerSize.MEDIUM.getWidth(), Banner.BannerSize.MEDIUM.getHeight());
-    AdSize leaderboardSize =
-        new AdSize(
-            Banner.BannerSize.LEADERBOARD.getWidth(),
-            Banner.BannerSize.LEADERBOARD.getHeight());
-
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(standardSize);
-    potentials.add(mediumSize);
-    potentials.add(leaderboardSize);
-
-    AdSize supportedAdSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize supportedAdSize =
+        MediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
     if (supportedAdSize == null) {
       return null;
     }
 
-    if (supportedAdSize.equals(standardSize)) {
+    if (supportedAdSize.equals(STANDARD_SIZE)) {
       return Banner.BannerSize.STANDARD;
-    } else if (supportedAdSize.equals(mediumSize)) {
+    } else if (supportedAdSize.equals(MEDIUM_SIZE)) {
       return Banner.BannerSize.MEDIUM;
-    } else if (supportedAdSize.equals(leaderboardSize)) {
+    } else if (supportedAdSize.equals(LEADERBOARD_SIZE)) {
       return Banner.BannerSize.LEADERBOARD;
     }
     return null;
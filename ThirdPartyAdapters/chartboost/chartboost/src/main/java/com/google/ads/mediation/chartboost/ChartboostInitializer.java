@@ -25,7 +25,6 @@ import com.chartboost.sdk.callbacks.StartCallback;
 import com.chartboost.sdk.events.StartError;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
-import java.util.ArrayList;
 
 /**
  * The {@link ChartboostInitializer} class is used to handle initialization process.
@@ -34,11 +33,10 @@ public class ChartboostInitializer {
 
   private static ChartboostInitializer instance;
 
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
-  private final ArrayList<Listener> initListeners = new ArrayList<>();
+  private final InitializationStateMachine<Listener> stateMachine =
+      new InitializationStateMachine<>();
 
-  public static ChartboostInitializer getInstance() {
+  public static synchronized ChartboostInitializer getInstance() {
     if (instance == null) {
       instance = new ChartboostInitializer();
     }
@@ -47,19 +45,17 @@ public class ChartboostInitializer {
 
   public void initialize(@NonNull final Context context,
       @NonNull ChartboostParams chartboostParams, @NonNull final Listener listener) {
-    if (isInitializing) {
-      initListeners.add(listener);
-      return;
+    switch (stateMachine.register(listener)) {
+      case InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED:
+        listener.onInitializationSucceeded();
+        return;
+      case InitializationStateMachine.REGISTRATION_QUEUED:
+        return;
+      case InitializationStateMachine.REGISTRATION_START_INITIALIZATION:
+      default:
+        break;
     }
 
-    if (isInitialized) {
-      listener.onInitializationSucceeded();
-      return;
-    }
-
-    isInitializing = true;
-    initListeners.add(listener);
-
     ChartboostAdapterUtils.updateCoppaStatus(context,
         MobileAds.getRequestConfiguration().getTagForChildDirectedTreatment());
     Chartboost.startWithAppId(context, chartboostParams.getAppId(),
@@ -67,25 +63,42 @@ public class ChartboostInitializer {
         new StartCallback() {
           @Override
           public void onStartCompleted(@Nullable StartError startError) {
-            isInitializing = false;
             if (startError == null) {
-              isInitialized = true;
               Log.d(TAG, "Chartboost SDK initialized.");
-              for (Listener initListener : initListeners) {
-                initListener.onInitializationSucceeded();
-              }
+              stateMachine.onInitializationSucceeded(
+                  new InitializationStateMachine.ListenerNotifier<Listener>() {
+                    @Override
+                    public void notify(@NonNull Listener initListener) {
+                      initListener.onInitializationSucceeded();
+                    }
+                  });
             } else {
-              isInitialized = false;
-              AdError initializationError = ChartboostConstants.createSDKError(startError);
-              for (Listener initListener : initListeners) {
-                initListener.onInitializationFailed(initializationError);
-              }
+              final AdError initializationError = ChartboostConstants.createSDKError(startError);
+              stateMachine.onInitializationFailed(
+                  new InitializationStateMachine.ListenerNotifier<Listener>() {
+                    @Override
+                    public void notify(@NonNull Listener initListener) {
+                      initListener.onInitializationFailed(initializationError);
+                    }
+                  });
             }
-            initListeners.clear();
           }
         });
   }
 
+  /**
+   * Returns how long, in milliseconds, the last Chartboost SDK initialization took, or -1 if it
+   * has not completed yet.
+   */
+  long getLastInitializationDurationMillis() {
+    return stateMachine.getLastInitializationDurationMillis();
+  }
+
+  /** See {@link InitializationStateMachine#getWaitingListenerCount()}. */
+  int getWaitingListenerCount() {
+    return stateMachine.getWaitingListenerCount();
+  }
+
   interface Listener {
 
     /**
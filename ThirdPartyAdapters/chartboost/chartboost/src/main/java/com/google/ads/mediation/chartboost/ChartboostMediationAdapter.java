@@ -118,8 +118,18 @@ public class ChartboostMediationAdapter extends Adapter {
 
   @Override
   public void initialize(@NonNull Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    final InitializationCompleteCallback initializationCompleteCallback =
+        ChartboostInitializationTelemetry.track(
+            TAG,
+            callback,
+            new ChartboostInitializationTelemetry.WaitingListenerCounter() {
+              @Override
+              public int getWaitingListenerCount() {
+                return ChartboostInitializer.getInstance().getWaitingListenerCount();
+              }
+            });
 
     ChartboostParams chartboostParams = null;
 
@@ -0,0 +1,241 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.chartboost;
+
+import android.os.SystemClock;
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks the initialization of a network SDK and the listeners waiting for it. Safe to use from
+ * any thread without locking.
+ *
+ * <p>Every registered listener is delivered the outcome of exactly one initialization attempt,
+ * exactly once. Listeners that register while an attempt is in progress wait for that attempt;
+ * listeners that register after it completes with a failure start a new attempt.
+ *
+ * <p>Adapters are published separately, so each one that needs this class has its own copy. Keep
+ * the copies identical apart from the package. The full test suite lives in the InMobi adapter;
+ * the other adapters only test how their initializers use this class.
+ *
+ * @param <L> the type of the initialization listeners.
+ */
+final class InitializationStateMachine<L> {
+
+  @Retention(RetentionPolicy.SOURCE)
+  @IntDef(value = {UNINITIALIZED, INITIALIZING, INITIALIZED})
+  @interface State {}
+
+  static final int UNINITIALIZED = 0;
+  static final int INITIALIZING = 1;
+  static final int INITIALIZED = 2;
+
+  @Retention(RetentionPolicy.SOURCE)
+  @IntDef(value = {REGISTRATION_ALREADY_INITIALIZED, REGISTRATION_START_INITIALIZATION,
+      REGISTRATION_QUEUED})
+  @interface Registration {}
+
+  /** The SDK is already initialized. The listener was not queued. */
+  static final int REGISTRATION_ALREADY_INITIALIZED = 0;
+
+  /** The listener was queued and the caller must start initializing the SDK. */
+  static final int REGISTRATION_START_INITIALIZATION = 1;
+
+  /** The listener was queued behind an initialization that is already in progress. */
+  static final int REGISTRATION_QUEUED = 2;
+
+  /** Delivers the outcome of an initialization attempt to a listener. */
+  interface ListenerNotifier<L> {
+
+    void notify(@NonNull L listener);
+  }
+
+  /**
+   * A snapshot of the state. A new snapshot, with its own listener queue, is installed on every
+   * transition so that listeners are only ever notified of the attempt they waited for.
+   */
+  private static final class Snapshot<L> {
+
+    @State
+    final int state;
+    final ConcurrentLinkedQueue<Node<L>> listeners = new ConcurrentLinkedQueue<>();
+    final long startTimeMillis;
+
+    /** The number of listeners being notified of the attempt that installed this snapshot. */
+    volatile int waitingListenerCount;
+
+    Snapshot(@State int state, long startTimeMillis) {
+      this.state = state;
+      this.startTimeMillis = startTimeMillis;
+    }
+  }
+
+  /** Wraps a listener so that each registration is removed by identity. */
+  private static final class Node<L> {
+
+    final L listener;
+
+    Node(L listener) {
+      this.listener = listener;
+    }
+  }
+
+  private final AtomicReference<Snapshot<L>> snapshot =
+      new AtomicReference<>(new Snapshot<L>(UNINITIALIZED, 0));
+
+  private volatile long lastInitializationDurationMillis = -1;
+
+  /**
+   * Registers a listener for the outcome of the SDK initialization.
+   *
+   * @return {@link #REGISTRATION_ALREADY_INITIALIZED} if the SDK is initialized and the listener
+   *     should be notified right away, {@link #REGISTRATION_START_INITIALIZATION} if the caller
+   *     must start initializing the SDK, or {@link #REGISTRATION_QUEUED} if an initialization is
+   *     already in progress.
+   */
+  @Registration
+  int register(@NonNull L listener) {
+    Node<L> node = new Node<>(listener);
+    while (true) {
+      Snapshot<L> current = snapshot.get();
+      if (current.state == INITIALIZED) {
+        return REGISTRATION_ALREADY_INITIALIZED;
+      }
+
+      if (current.state == UNINITIALIZED) {
+        Snapshot<L> next = new Snapshot<>(INITIALIZING, SystemClock.elapsedRealtime());
+        next.listeners.add(node);
+        if (snapshot.compareAndSet(current, next)) {
+          return REGISTRATION_START_INITIALIZATION;
+        }
+        continue;
+      }
+
+      current.listeners.add(node);
+      if (snapshot.get() == current) {
+        return REGISTRATION_QUEUED;
+      }
+      // The attempt completed concurrently. If the listener is still queued, nobody will notify
+      // it, so take it back and try again. Otherwise it has already been notified.
+      if (!current.listeners.remove(node)) {
+        return REGISTRATION_QUEUED;
+      }
+    }
+  }
+
+  /**
+   * Marks the SDK as initialized and notifies every listener waiting for the current attempt. Does
+   * nothing if no attempt is in progress, such as when the SDK reports an outcome more than once.
+   *
+   * @return the number of listeners notified.
+   */
+  int onInitializationSucceeded(@NonNull ListenerNotifier<L> notifier) {
+    return complete(INITIALIZED, notifier);
+  }
+
+  /**
+   * Marks the SDK as uninitialized and notifies every listener waiting for the current attempt.
+   * Does nothing if no attempt is in progress, so a late failure never undoes a success.
+   *
+   * @return the number of listeners notified.
+   */
+  int onInitializationFailed(@NonNull ListenerNotifier<L> notifier) {
+    return complete(UNINITIALIZED, notifier);
+  }
+
+  /**
+   * Moves an initialized state machine back to {@link #UNINITIALIZED}, for when the SDK reports
+   * that it is no longer initialized.
+   */
+  void invalidate() {
+    Snapshot<L> current = snapshot.get();
+    if (current.state == INITIALIZED) {
+      snapshot.compareAndSet(current, new Snapshot<L>(UNINITIALIZED, 0));
+    }
+  }
+
+  @State
+  int getState() {
+    return snapshot.get().state;
+  }
+
+  /** Returns the number of listeners waiting for the initialization in progress. */
+  int getPendingListenerCount() {
+    return snapshot.get().listeners.size();
+  }
+
+  /** Returns the listeners waiting for the initialization in progress. */
+  @NonNull
+  List<L> getPendingListeners() {
+    List<L> listeners = new ArrayList<>();
+    for (Node<L> node : snapshot.get().listeners) {
+      listeners.add(node.listener);
+    }
+    return listeners;
+  }
+
+  /**
+   * Returns how long, in milliseconds, the last completed initialization attempt took, or -1 if
+   * no attempt has completed yet.
+   */
+  long getLastInitializationDurationMillis() {
+    return lastInitializationDurationMillis;
+  }
+
+  /**
+   * Returns the number of listeners that waited for the attempt that just completed while they are
+   * being notified, and 0 once they all have been. Listeners notified right away because the SDK
+   * was already initialized only read a non-zero count if they race with that notification.
+   */
+  int getWaitingListenerCount() {
+    return snapshot.get().waitingListenerCount;
+  }
+
+  private int complete(@State int state, @NonNull ListenerNotifier<L> notifier) {
+    Snapshot<L> completed = new Snapshot<>(state, 0);
+    Snapshot<L> previous;
+    do {
+      previous = snapshot.get();
+      if (previous.state != INITIALIZING) {
+        return 0;
+      }
+    } while (!snapshot.compareAndSet(previous, completed));
+    lastInitializationDurationMillis = SystemClock.elapsedRealtime() - previous.startTimeMillis;
+
+    // Listeners that register concurrently take their node back unless it was already polled, so
+    // the polled nodes are exactly the listeners to notify. They are counted before any of them is
+    // notified, so that every listener can read the count from its callback.
+    List<L> listeners = new ArrayList<>();
+    Node<L> node;
+    while ((node = previous.listeners.poll()) != null) {
+      listeners.add(node.listener);
+    }
+    completed.waitingListenerCount = listeners.size();
+    try {
+      for (L listener : listeners) {
+        notifier.notify(listener);
+      }
+    } finally {
+      completed.waitingListenerCount = 0;
+    }
+    return listeners.size();
+  }
+}
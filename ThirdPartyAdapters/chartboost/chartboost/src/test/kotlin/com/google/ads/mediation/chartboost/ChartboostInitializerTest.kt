@@ -0,0 +1,127 @@
+package com.google.ads.mediation.chartboost
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.chartboost.sdk.Chartboost
+import com.chartboost.sdk.callbacks.StartCallback
+import com.chartboost.sdk.events.StartError
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.MockedStatic
+import org.mockito.Mockito.mockStatic
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+
+/** Tests for [ChartboostInitializer]. */
+@RunWith(AndroidJUnit4::class)
+class ChartboostInitializerTest {
+
+  // A fresh initializer for every test, since the shared instance keeps its state between tests.
+  private val initializer = ChartboostInitializer()
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val chartboostParams =
+    ChartboostParams().apply {
+      appId = TEST_APP_ID
+      appSignature = TEST_APP_SIGNATURE
+    }
+
+  @Test
+  fun initialize_calledTwiceBeforeStartCompletes_startsChartboostOnceAndNotifiesBothListeners() {
+    val listener1 = mock<ChartboostInitializer.Listener>()
+    val listener2 = mock<ChartboostInitializer.Listener>()
+
+    mockStatic(Chartboost::class.java).use {
+      initializer.initialize(context, chartboostParams, listener1)
+      initializer.initialize(context, chartboostParams, listener2)
+
+      captureStartCallback(it).onStartCompleted(null)
+    }
+
+    verify(listener1).onInitializationSucceeded()
+    verify(listener2).onInitializationSucceeded()
+  }
+
+  @Test
+  fun initialize_afterStartSucceeded_notifiesListenerWithoutStartingChartboost() {
+    val listener = mock<ChartboostInitializer.Listener>()
+
+    mockStatic(Chartboost::class.java).use {
+      initializer.initialize(context, chartboostParams, mock())
+      captureStartCallback(it).onStartCompleted(null)
+
+      initializer.initialize(context, chartboostParams, listener)
+
+      it.verify({ Chartboost.startWithAppId(any(), any(), any(), any()) }, times(1))
+    }
+    verify(listener).onInitializationSucceeded()
+  }
+
+  @Test
+  fun initialize_afterStartFailed_startsChartboostAgain() {
+    val listener = mock<ChartboostInitializer.Listener>()
+    val startCode = mock<StartError.Code> { on { errorCode } doReturn ERROR_CODE }
+    val startError = mock<StartError> { on { code } doReturn startCode }
+
+    mockStatic(Chartboost::class.java).use {
+      initializer.initialize(context, chartboostParams, listener)
+      captureStartCallback(it).onStartCompleted(startError)
+
+      initializer.initialize(context, chartboostParams, listener)
+
+      it.verify({ Chartboost.startWithAppId(any(), any(), any(), any()) }, times(2))
+    }
+    verify(listener).onInitializationFailed(any())
+    verify(listener, never()).onInitializationSucceeded()
+  }
+
+  @Test
+  fun getWaitingListenerCount_fromListenerCallback_returnsNotifiedListenerCount() {
+    val waitingListenerCounts = mutableListOf<Int>()
+    val listener =
+      mock<ChartboostInitializer.Listener> {
+        on { onInitializationSucceeded() } doAnswer
+          {
+            waitingListenerCounts.add(initializer.waitingListenerCount)
+            Unit
+          }
+      }
+
+    mockStatic(Chartboost::class.java).use {
+      initializer.initialize(context, chartboostParams, listener)
+      initializer.initialize(context, chartboostParams, listener)
+      captureStartCallback(it).onStartCompleted(null)
+    }
+
+    assertThat(waitingListenerCounts).containsExactly(2, 2)
+    assertThat(initializer.waitingListenerCount).isEqualTo(0)
+  }
+
+  private fun captureStartCallback(mockedChartboost: MockedStatic<Chartboost>): StartCallback {
+    val startCallback = argumentCaptor<StartCallback>()
+    mockedChartboost.verify {
+      Chartboost.startWithAppId(
+        eq(context),
+        eq(TEST_APP_ID),
+        eq(TEST_APP_SIGNATURE),
+        startCallback.capture(),
+      )
+    }
+    return startCallback.firstValue
+  }
+
+  private companion object {
+    const val TEST_APP_ID = "app_id"
+    const val TEST_APP_SIGNATURE = "app_signature"
+    const val ERROR_CODE = 1
+  }
+}
@@ -26,6 +26,7 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -244,6 +245,41 @@ class ChartboostMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsWaitingListenerCountFromInitializer() {
+    val telemetryListener = mock<ChartboostInitializationTelemetry.Listener>()
+    ChartboostInitializationTelemetry.setListener(telemetryListener)
+    val serverParameters =
+      bundleOf(
+        ChartboostAdapterUtils.KEY_APP_ID to "app_id",
+        ChartboostAdapterUtils.KEY_APP_SIGNATURE to "app_signature"
+      )
+    whenever(mediationConfiguration.serverParameters).thenReturn(serverParameters)
+
+    try {
+      mockStatic(ChartboostInitializer::class.java).use {
+        whenever(getInstance()) doReturn chartboostInitializer
+        whenever(chartboostInitializer.waitingListenerCount) doReturn WAITING_LISTENER_COUNT
+        whenever(chartboostInitializer.initialize(any(), any(), any())).doAnswer {
+          val listener = it.arguments[2] as ChartboostInitializer.Listener
+          listener.onInitializationSucceeded()
+        }
+
+        adapter.initialize(context, initializationCompleteCallback, listOf(mediationConfiguration))
+      }
+    } finally {
+      ChartboostInitializationTelemetry.setListener(null)
+    }
+
+    verify(telemetryListener)
+      .onInitializationCompleted(
+        eq(ChartboostMediationAdapter.TAG),
+        any(),
+        eq(true),
+        eq(WAITING_LISTENER_COUNT)
+      )
+  }
+
   @Test
   fun initialize_setValidAppParam_initializerSucceeded_invokesOnInitializationSucceedCallback() {
     ChartboostMediationAdapter.setAppParams("app_id", "app_signature")
@@ -260,4 +296,8 @@ class ChartboostMediationAdapterTest {
       verify(initializationCompleteCallback).onInitializationSucceeded()
     }
   }
+
+  private companion object {
+    const val WAITING_LISTENER_COUNT = 3
+  }
 }
@@ -227,14 +227,19 @@ public class FyberMediationAdapter extends Adapter
 
   @Override
   public void initialize(@NonNull Context context,
-      @NonNull final InitializationCompleteCallback completionCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
     // Initialize only once.
     if (FyberSdkWrapper.getDelegate().isInitialized()) {
-      completionCallback.onInitializationSucceeded();
+      FyberInitializationTelemetry.track(
+              TAG, callback, FyberInitializationTelemetry.NO_WAITING_LISTENERS)
+          .onInitializationSucceeded();
       return;
     }
 
+    final InitializationCompleteCallback completionCallback =
+        FyberInitializationTelemetry.track(TAG, callback, null);
+
     Set<String> configuredAppIds = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       Bundle serverParameters = configuration.getServerParameters();
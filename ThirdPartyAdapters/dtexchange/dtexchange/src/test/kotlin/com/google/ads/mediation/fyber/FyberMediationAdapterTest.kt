@@ -209,6 +209,53 @@ class FyberMediationAdapterTest {
     verify(mockInitializationCompleteCallback).onInitializationSucceeded()
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsInitializationOutcome() {
+    val mockTelemetryListener = mock<FyberInitializationTelemetry.Listener>()
+    FyberInitializationTelemetry.setListener(mockTelemetryListener)
+    val listener = argumentCaptor<OnFyberMarketplaceInitializedListener>()
+    val initializationParameters = createMediationConfiguration(AdFormat.BANNER, serverParameters)
+
+    try {
+      adapter.initialize(
+        activity,
+        mockInitializationCompleteCallback,
+        listOf(initializationParameters),
+      )
+      mockInneractiveAdManager.verify {
+        InneractiveAdManager.initialize(any(), any(), listener.capture())
+      }
+      listener.firstValue.onFyberMarketplaceInitialized(FyberInitStatus.SUCCESSFULLY)
+    } finally {
+      FyberInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq(FyberMediationAdapter.TAG), any(), eq(true), eq(1))
+  }
+
+  @Test
+  fun initialize_withTelemetryListenerAndFyberAlreadyInitialized_reportsNoWaitingListeners() {
+    val mockTelemetryListener = mock<FyberInitializationTelemetry.Listener>()
+    FyberInitializationTelemetry.setListener(mockTelemetryListener)
+    whenever(mockSdkWrapper.isInitialized()) doReturn true
+    val initializationParameters = createMediationConfiguration(AdFormat.BANNER, serverParameters)
+
+    try {
+      adapter.initialize(
+        activity,
+        mockInitializationCompleteCallback,
+        listOf(initializationParameters),
+      )
+    } finally {
+      FyberInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq(FyberMediationAdapter.TAG), any(), eq(true), eq(0))
+    verify(mockInitializationCompleteCallback).onInitializationSucceeded()
+  }
+
   @Test
   fun initialize_withNoValidAppId_invokesOnInitializationFailed() {
     val invalidServerParameters = bundleOf(FyberMediationAdapter.KEY_APP_ID to "")
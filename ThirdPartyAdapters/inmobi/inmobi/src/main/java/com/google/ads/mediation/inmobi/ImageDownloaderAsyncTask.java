@@ -16,22 +16,24 @@ package com.google.ads.mediation.inmobi;
 
 import android.content.res.Resources;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.AsyncTask;
 import android.util.DisplayMetrics;
 import androidx.annotation.VisibleForTesting;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An {@link AsyncTask} used to load images for InMobi native adapter.
@@ -42,22 +44,40 @@ class ImageDownloaderAsyncTask extends AsyncTask<Object, Void, HashMap<String, D
 
   static final String KEY_ICON = "icon_key";
 
+  /**
+   * Downloads that have started but not completed yet, keyed by image URL. Tasks that request an
+   * image that is already being downloaded wait for the same bitmap instead of downloading it
+   * again, and each wrap it in a drawable of their own.
+   */
+  private static final ConcurrentHashMap<String, Future<Bitmap>> inFlightDownloads =
+      new ConcurrentHashMap<>();
+
+  private static final AtomicLong coalescedDownloadCount = new AtomicLong();
+
   private final long drawableFutureTimeoutSeconds;
 
   private final DrawableDownloadListener listener;
 
+  private final InMobiImageDownloadExecutor downloadExecutor;
+
   @VisibleForTesting
-  final InMobiMemoryCache memoryCache = new InMobiMemoryCache();
+  final InMobiMemoryCache memoryCache = InMobiMemoryCache.getInstance();
 
   public ImageDownloaderAsyncTask(DrawableDownloadListener listener) {
-    this.listener = listener;
-    this.drawableFutureTimeoutSeconds = 10;
+    this(listener, 10L, InMobiImageDownloadExecutor.getInstance());
   }
 
   @VisibleForTesting
   ImageDownloaderAsyncTask(DrawableDownloadListener listener, Long timeout) {
+    this(listener, timeout, InMobiImageDownloadExecutor.getInstance());
+  }
+
+  @VisibleForTesting
+  ImageDownloaderAsyncTask(DrawableDownloadListener listener, Long timeout,
+      InMobiImageDownloadExecutor downloadExecutor) {
     this.listener = listener;
     this.drawableFutureTimeoutSeconds = timeout;
+    this.downloadExecutor = downloadExecutor;
   }
 
   /**
@@ -75,43 +95,95 @@ class ImageDownloaderAsyncTask extends AsyncTask<Object, Void, HashMap<String, D
   @Override
   protected HashMap<String, Drawable> doInBackground(Object... params) {
     HashMap<String, URL> urlsMap = (HashMap<String, URL>) params[0];
-    ExecutorService executorService = Executors.newCachedThreadPool();
     Drawable imageDrawable;
     Drawable iconDrawable;
 
     try {
-      if (null != memoryCache.get(String.valueOf(urlsMap.get(KEY_ICON)))) {
-        iconDrawable = memoryCache.get(String.valueOf(urlsMap.get(KEY_ICON)));
-      } else {
-        iconDrawable = getDrawableFuture(urlsMap.get(KEY_ICON), executorService).get
+      String iconKey = String.valueOf(urlsMap.get(KEY_ICON));
+      iconDrawable = memoryCache.get(iconKey);
+      if (iconDrawable == null) {
+        Bitmap iconBitmap = getBitmapFuture(iconKey, urlsMap.get(KEY_ICON)).get
             (drawableFutureTimeoutSeconds, TimeUnit.SECONDS);
-        memoryCache.put(String.valueOf(urlsMap.get(KEY_ICON)), iconDrawable);
+        iconDrawable = new BitmapDrawable(Resources.getSystem(), iconBitmap);
+        memoryCache.put(iconKey, iconDrawable);
       }
 
       HashMap<String, Drawable> drawableHashMap = new HashMap<>();
       drawableHashMap.put(KEY_ICON, iconDrawable);
 
       return drawableHashMap;
-    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+    } catch (InterruptedException | ExecutionException | TimeoutException
+        | RejectedExecutionException e) {
       e.printStackTrace();
       return null;
     }
   }
 
-  private Future<Drawable> getDrawableFuture(final URL url, ExecutorService executorService) {
-    return executorService.submit(new Callable<Drawable>() {
+  private Future<Bitmap> getBitmapFuture(final String key, final URL url) {
+    Future<Bitmap> inFlightDownload = inFlightDownloads.get(key);
+    if (inFlightDownload != null) {
+      coalescedDownloadCount.incrementAndGet();
+      return inFlightDownload;
+    }
+
+    FutureTask<Bitmap> download = new FutureTask<Bitmap>(createDownloadCallable(url)) {
+      @Override
+      protected void done() {
+        inFlightDownloads.remove(key, this);
+      }
+    };
+    inFlightDownload = inFlightDownloads.putIfAbsent(key, download);
+    if (inFlightDownload != null) {
+      coalescedDownloadCount.incrementAndGet();
+      return inFlightDownload;
+    }
+
+    try {
+      downloadExecutor.execute(download);
+    } catch (RejectedExecutionException e) {
+      // The download never runs, so don't let later requests for this image wait on it.
+      inFlightDownloads.remove(key, download);
+      throw e;
+    }
+    return download;
+  }
+
+  /**
+   * Returns the number of image requests that were served by joining a download already in flight.
+   */
+  static long getCoalescedDownloadCount() {
+    return coalescedDownloadCount.get();
+  }
+
+  private static Callable<Bitmap> createDownloadCallable(final URL url) {
+    return new Callable<Bitmap>() {
 
       @Override
 
-      public Drawable call() throws Exception {
-        InputStream in = url.openStream();
-        Bitmap bitmap = BitmapFactory.decodeStream(in);
+      public Bitmap call() throws Exception {
+        // Icons are never rendered larger than the screen, so decode no more pixels than that.
+        DisplayMetrics displayMetrics = Resources.getSystem().getDisplayMetrics();
+        int targetWidth = displayMetrics.widthPixels;
+        int targetHeight = displayMetrics.heightPixels;
+        InMobiDiskCache diskCache = InMobiDiskCache.getInstance();
+        Bitmap bitmap;
+        if (diskCache != null) {
+          bitmap = InMobiBitmapDecoder.decode(diskCache.fetch(url), targetWidth, targetHeight,
+              Bitmap.Config.ARGB_8888);
+        } else {
+          InputStream in = url.openStream();
+          bitmap = InMobiBitmapDecoder.decode(in, targetWidth, targetHeight,
+              Bitmap.Config.ARGB_8888);
+        }
+        if (bitmap == null) {
+          throw new IOException("Failed to decode image at " + url);
+        }
         // Defaulting to a scale of 1.
         bitmap.setDensity(DisplayMetrics.DENSITY_DEFAULT);
-        return new BitmapDrawable(Resources.getSystem(), bitmap);
+        return bitmap;
       }
 
-    });
+    };
 
   }
 
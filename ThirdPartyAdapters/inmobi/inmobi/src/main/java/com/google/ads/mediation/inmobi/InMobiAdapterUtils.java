@@ -35,7 +35,9 @@ import com.inmobi.sdk.InMobiSdk;
 import com.inmobi.sdk.InMobiSdk.AgeGroup;
 import com.inmobi.sdk.InMobiSdk.Education;
 import com.inmobi.sdk.InMobiSdk.LogLevel;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -53,6 +55,11 @@ public class InMobiAdapterUtils {
   public static final String THIRD_PARTY_VERSION = "tp-ver";
   public static final String COPPA = "coppa";
 
+  /** Banner sizes InMobi supports, matched against the requested ad size. */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(
+          Arrays.asList(new AdSize(320, 50), new AdSize(300, 250), new AdSize(728, 90)));
+
   public static long getPlacementId(@NonNull Bundle serverParameters) {
     String placementId = serverParameters.getString(KEY_PLACEMENT_ID);
     if (TextUtils.isEmpty(placementId)) {
@@ -271,11 +278,7 @@ public class InMobiAdapterUtils {
 
   @Nullable
   public static AdSize findClosestBannerSize(@NonNull Context context, @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(new AdSize(320, 50));
-    potentials.add(new AdSize(300, 250));
-    potentials.add(new AdSize(728, 90));
-    return MediationUtils.findClosestSize(context, adSize, potentials);
+    return MediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
   }
 
   @Nullable
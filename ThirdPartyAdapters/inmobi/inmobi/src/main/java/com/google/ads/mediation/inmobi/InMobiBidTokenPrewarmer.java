@@ -0,0 +1,191 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generates an InMobi SDK bid token as soon as the SDK is initialized, so that the first auction of
+ * the session does not wait for a token to be generated.
+ *
+ * <p>The prewarmed token is handed to the first signal request made within its maximum age under
+ * the same privacy state of the user, and is used only once. Prewarming is disabled by default,
+ * since a network may expect a token generated for the auction itself.
+ */
+public final class InMobiBidTokenPrewarmer {
+
+  /** Generates a bid token. Called on a background thread. */
+  interface TokenGenerator {
+
+    @Nullable
+    String generateToken();
+  }
+
+  /** How long a prewarmed bid token may be used after it was generated, by default. */
+  public static final long DEFAULT_MAX_AGE_MILLIS = 60 * 1000;
+
+  /** Request key of bid tokens that do not depend on the signal request they are generated for. */
+  static final String ANY_REQUEST_KEY = "";
+
+  private static final InMobiBidTokenPrewarmer instance = new InMobiBidTokenPrewarmer();
+
+  private final AtomicReference<PrewarmedToken> prewarmedToken = new AtomicReference<>();
+
+  private final AtomicLong consumedCount = new AtomicLong();
+  private final AtomicLong expiredCount = new AtomicLong();
+
+  private Executor executor = AsyncTask.THREAD_POOL_EXECUTOR;
+
+  private volatile boolean enabled;
+  private volatile long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+
+  private InMobiBidTokenPrewarmer() {}
+
+  @NonNull
+  public static InMobiBidTokenPrewarmer getInstance() {
+    return instance;
+  }
+
+  /** Sets whether a bid token is generated once the SDK is initialized. */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      prewarmedToken.set(null);
+    }
+  }
+
+  /** Sets how long a prewarmed bid token may be used after it was generated. */
+  public void setMaxAgeMillis(long maxAgeMillis) {
+    this.maxAgeMillis = maxAgeMillis;
+  }
+
+  /** Drops the prewarmed bid token, for example after the user's consent changed. */
+  public void invalidate() {
+    prewarmedToken.set(null);
+  }
+
+  /** Returns the number of signal requests served with the prewarmed bid token. */
+  public long getConsumedCount() {
+    return consumedCount.get();
+  }
+
+  /** Returns the number of prewarmed bid tokens that expired before a signal request used them. */
+  public long getExpiredCount() {
+    return expiredCount.get();
+  }
+
+  /**
+   * Returns the key of a bid token generated for the given request key, which includes the privacy
+   * state of the user so that a token is never used once that state has changed.
+   */
+  @NonNull
+  static String createKey(@Nullable Context context, @NonNull String requestKey) {
+    return InMobiBidTokenCache.createPrivacyKey(context) + "|" + requestKey;
+  }
+
+  /** Returns whether a bid token is generated once the SDK is initialized. */
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  @VisibleForTesting
+  void setExecutor(@NonNull Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Generates a bid token for the given key on a background thread and keeps it for the first
+   * signal request, if prewarming is enabled.
+   */
+  void prewarm(@NonNull final String key, @NonNull final TokenGenerator tokenGenerator) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      executor.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              String token = tokenGenerator.generateToken();
+              if (token != null && !token.isEmpty()) {
+                put(key, token);
+              }
+            }
+          });
+    } catch (RejectedExecutionException exception) {
+      // The executor is busy with signal requests, which generate their own tokens.
+    }
+  }
+
+  /**
+   * Keeps a newly generated bid token for the first signal request with the given key, if
+   * prewarming is enabled.
+   */
+  void put(@NonNull String key, @NonNull String token) {
+    if (enabled) {
+      prewarmedToken.set(new PrewarmedToken(key, token));
+    }
+  }
+
+  /**
+   * Returns the prewarmed bid token for the given key and forgets it, or {@code null} if there is
+   * no such token or it is older than the maximum age. A token prewarmed for another key is
+   * dropped.
+   */
+  @Nullable
+  String consume(@NonNull String key) {
+    PrewarmedToken token = prewarmedToken.get();
+    if (token == null) {
+      return null;
+    }
+    if (SystemClock.elapsedRealtime() - token.createdTimeMillis > maxAgeMillis) {
+      if (prewarmedToken.compareAndSet(token, null)) {
+        expiredCount.incrementAndGet();
+      }
+      return null;
+    }
+    if (!token.key.equals(key)) {
+      // The token was generated for another request or under another privacy state of the user.
+      prewarmedToken.compareAndSet(token, null);
+      return null;
+    }
+    if (!prewarmedToken.compareAndSet(token, null)) {
+      return null;
+    }
+    consumedCount.incrementAndGet();
+    return token.token;
+  }
+
+  private static final class PrewarmedToken {
+
+    final String key;
+    final String token;
+    final long createdTimeMillis = SystemClock.elapsedRealtime();
+
+    PrewarmedToken(@NonNull String key, @NonNull String token) {
+      this.key = key;
+      this.token = token;
+    }
+  }
+}
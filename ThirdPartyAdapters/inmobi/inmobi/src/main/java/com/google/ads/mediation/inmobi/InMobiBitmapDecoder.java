@@ -0,0 +1,102 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes InMobi native image assets no larger than needed for a target size, so that large
+ * creatives do not allocate full resolution bitmaps.
+ */
+final class InMobiBitmapDecoder {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private InMobiBitmapDecoder() {}
+
+  /**
+   * Reads the given stream and decodes it into a bitmap that is subsampled to be no smaller than
+   * {@code targetWidth} x {@code targetHeight}.
+   *
+   * @return the decoded bitmap, or {@code null} if the data could not be decoded.
+   */
+  @Nullable
+  static Bitmap decode(@NonNull InputStream inputStream, int targetWidth, int targetHeight,
+      @NonNull Bitmap.Config config) throws IOException {
+    return decode(readFully(inputStream), targetWidth, targetHeight, config);
+  }
+
+  /**
+   * Decodes the given bytes into a bitmap that is subsampled to be no smaller than
+   * {@code targetWidth} x {@code targetHeight}.
+   *
+   * @return the decoded bitmap, or {@code null} if the data could not be decoded.
+   */
+  @Nullable
+  static Bitmap decode(@NonNull byte[] data, int targetWidth, int targetHeight,
+      @NonNull Bitmap.Config config) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeStream(new ByteArrayInputStream(data), null, options);
+    if (options.outWidth <= 0 || options.outHeight <= 0) {
+      return null;
+    }
+
+    options.inSampleSize =
+        calculateInSampleSize(options.outWidth, options.outHeight, targetWidth, targetHeight);
+    options.inPreferredConfig = config;
+    options.inJustDecodeBounds = false;
+    return BitmapFactory.decodeStream(new ByteArrayInputStream(data), null, options);
+  }
+
+  /**
+   * Returns the largest power of two sample size that keeps both dimensions of the decoded image
+   * at or above the target size. A non-positive target dimension is treated as unbounded.
+   */
+  static int calculateInSampleSize(int width, int height, int targetWidth, int targetHeight) {
+    int inSampleSize = 1;
+    if (targetWidth <= 0 || targetHeight <= 0) {
+      return inSampleSize;
+    }
+
+    while ((width / (inSampleSize * 2)) >= targetWidth
+        && (height / (inSampleSize * 2)) >= targetHeight) {
+      inSampleSize *= 2;
+    }
+    return inSampleSize;
+  }
+
+  @NonNull
+  private static byte[] readFully(@NonNull InputStream inputStream) throws IOException {
+    try {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      return outputStream.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+}
@@ -30,6 +30,7 @@ public class InMobiConsent {
       InMobiSdk.updateGDPRConsent(consentObj);
     }
     InMobiConsent.consentObj = consentObj;
+    InMobiBidTokenCache.getInstance().invalidate();
   }
 
   static JSONObject getConsentObj() {
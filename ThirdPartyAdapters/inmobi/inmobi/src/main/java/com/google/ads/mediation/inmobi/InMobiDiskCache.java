@@ -0,0 +1,468 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
+
+import android.content.Context;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An optional on-disk LRU cache for InMobi native ad image assets, so that creatives downloaded in
+ * a previous session can be rendered without network I/O.
+ *
+ * <p>Each entry is stored as a data file and a metadata file holding the URL, ETag, expiry time
+ * and data length. Both are written to temporary files first and the metadata file is renamed into
+ * place last, so an entry only becomes visible once its data is complete. Entries whose data does
+ * not match their metadata are discarded when the cache is opened.
+ *
+ * <p>The cache is disabled by default. Call {@link #enable(Context, long)} to turn it on.
+ */
+public class InMobiDiskCache {
+
+  /** Name of the directory, under the app's cache directory, that holds the cache entries. */
+  static final String DIRECTORY_NAME = "inmobi_native_images";
+
+  /** Default maximum size of the cache, in bytes. */
+  public static final long DEFAULT_MAX_SIZE_BYTES = 10 * 1024 * 1024;
+
+  /** How long an entry is considered fresh when the server does not specify it. */
+  static final long DEFAULT_TTL_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+  private static final String DATA_SUFFIX = ".data";
+  private static final String METADATA_SUFFIX = ".meta";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private static final String KEY_URL = "url";
+  private static final String KEY_ETAG = "etag";
+  private static final String KEY_EXPIRES_AT = "expiresAt";
+  private static final String KEY_LENGTH = "length";
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private static InMobiDiskCache instance;
+
+  private final File directory;
+
+  private final long maxSizeBytes;
+
+  // Last argument true for LRU ordering.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long size;
+
+  private boolean initialized;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong revalidationCount = new AtomicLong();
+
+  @VisibleForTesting
+  InMobiDiskCache(@NonNull File directory, long maxSizeBytes) {
+    this.directory = directory;
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  /**
+   * Enables the disk cache for InMobi native ad images under the app's cache directory.
+   *
+   * @param context any context of the app.
+   * @param maxSizeBytes the maximum number of bytes the cache may use on disk.
+   */
+  public static synchronized void enable(@NonNull Context context, long maxSizeBytes) {
+    if (instance != null && instance.maxSizeBytes == maxSizeBytes) {
+      return;
+    }
+    instance = new InMobiDiskCache(new File(context.getCacheDir(), DIRECTORY_NAME), maxSizeBytes);
+  }
+
+  /**
+   * Disables the disk cache. Entries already on disk are kept for when the cache is enabled again.
+   */
+  public static synchronized void disable() {
+    instance = null;
+  }
+
+  /**
+   * Returns the disk cache, or {@code null} if it has not been enabled.
+   */
+  @Nullable
+  static synchronized InMobiDiskCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the bytes of the resource at the given URL, reading them from disk when a fresh copy
+   * is cached and from the network otherwise. Stale entries that have an ETag are revalidated with
+   * a conditional request.
+   */
+  @NonNull
+  byte[] fetch(@NonNull URL url) throws IOException {
+    String key = getKey(url.toString());
+    Entry entry = getEntry(key);
+    if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+      byte[] data = readData(key, entry);
+      if (data != null) {
+        hitCount.incrementAndGet();
+        return data;
+      }
+      entry = null;
+    }
+    missCount.incrementAndGet();
+
+    URLConnection connection = url.openConnection();
+    if (!(connection instanceof HttpURLConnection)) {
+      return readFully(connection.getInputStream());
+    }
+
+    HttpURLConnection httpConnection = (HttpURLConnection) connection;
+    try {
+      if (entry != null && entry.etag != null) {
+        httpConnection.setRequestProperty("If-None-Match", entry.etag);
+      }
+
+      int responseCode = httpConnection.getResponseCode();
+      if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && entry != null) {
+        byte[] data = readData(key, entry);
+        if (data != null) {
+          revalidationCount.incrementAndGet();
+          long expiresAt = getExpiresAt(httpConnection);
+          if (expiresAt != Long.MIN_VALUE) {
+            put(key, url.toString(), entry.etag, expiresAt, data);
+          }
+          return data;
+        }
+        // The cached copy disappeared, so request the full resource again.
+        httpConnection.disconnect();
+        httpConnection = (HttpURLConnection) url.openConnection();
+        responseCode = httpConnection.getResponseCode();
+      }
+
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        throw new IOException("Unexpected response code " + responseCode + " for " + url);
+      }
+
+      byte[] data = readFully(httpConnection.getInputStream());
+      long expiresAt = getExpiresAt(httpConnection);
+      if (expiresAt != Long.MIN_VALUE) {
+        put(key, url.toString(), httpConnection.getHeaderField("ETag"), expiresAt, data);
+      }
+      return data;
+    } finally {
+      httpConnection.disconnect();
+    }
+  }
+
+  /**
+   * Returns the number of fetches served from disk without a network request.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of fetches that needed a network request.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Returns the number of stale entries that the server confirmed to be unchanged.
+   */
+  public long getRevalidationCount() {
+    return revalidationCount.get();
+  }
+
+  /**
+   * Returns the number of bytes of entry data currently stored on disk.
+   */
+  public synchronized long getSize() {
+    initializeIfNeeded();
+    return size;
+  }
+
+  @Nullable
+  private synchronized Entry getEntry(@NonNull String key) {
+    initializeIfNeeded();
+    return entries.get(key);
+  }
+
+  @Nullable
+  private synchronized byte[] readData(@NonNull String key, @NonNull Entry entry) {
+    File dataFile = new File(directory, key + DATA_SUFFIX);
+    try {
+      byte[] data = readFully(new FileInputStream(dataFile));
+      if (data.length != entry.length) {
+        throw new IOException("Cached data length does not match its metadata.");
+      }
+      dataFile.setLastModified(System.currentTimeMillis());
+      return data;
+    } catch (IOException exception) {
+      Log.w(TAG, "Discarding unreadable InMobi disk cache entry: " + exception.getMessage());
+      remove(key);
+      return null;
+    }
+  }
+
+  private synchronized void put(@NonNull String key, @NonNull String url, @Nullable String etag,
+      long expiresAt, @NonNull byte[] data) {
+    initializeIfNeeded();
+    if (data.length > maxSizeBytes || (!directory.exists() && !directory.mkdirs())) {
+      return;
+    }
+
+    File dataFile = new File(directory, key + DATA_SUFFIX);
+    File metadataFile = new File(directory, key + METADATA_SUFFIX);
+    File tempDataFile = new File(directory, key + DATA_SUFFIX + TEMP_SUFFIX);
+    File tempMetadataFile = new File(directory, key + METADATA_SUFFIX + TEMP_SUFFIX);
+
+    Properties metadata = new Properties();
+    metadata.setProperty(KEY_URL, url);
+    if (etag != null) {
+      metadata.setProperty(KEY_ETAG, etag);
+    }
+    metadata.setProperty(KEY_EXPIRES_AT, String.valueOf(expiresAt));
+    metadata.setProperty(KEY_LENGTH, String.valueOf(data.length));
+
+    try {
+      writeSynced(tempDataFile, data);
+      ByteArrayOutputStream metadataBytes = new ByteArrayOutputStream();
+      metadata.store(metadataBytes, null);
+      writeSynced(tempMetadataFile, metadataBytes.toByteArray());
+
+      // Drop the previous entry first so that a crash never pairs new data with old metadata.
+      remove(key);
+      if (!tempDataFile.renameTo(dataFile) || !tempMetadataFile.renameTo(metadataFile)) {
+        throw new IOException("Failed to commit disk cache entry.");
+      }
+    } catch (IOException exception) {
+      Log.w(TAG, "Failed to write InMobi disk cache entry: " + exception.getMessage());
+      tempDataFile.delete();
+      tempMetadataFile.delete();
+      dataFile.delete();
+      metadataFile.delete();
+      return;
+    }
+
+    entries.put(key, new Entry(etag, expiresAt, data.length));
+    size += data.length;
+    trimToSize();
+  }
+
+  private void remove(@NonNull String key) {
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      size -= entry.length;
+    }
+    // Delete the metadata first so that the entry is never visible without its data.
+    new File(directory, key + METADATA_SUFFIX).delete();
+    new File(directory, key + DATA_SUFFIX).delete();
+  }
+
+  private void trimToSize() {
+    Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+    while (size > maxSizeBytes && iterator.hasNext()) {
+      Map.Entry<String, Entry> eldest = iterator.next();
+      iterator.remove();
+      size -= eldest.getValue().length;
+      new File(directory, eldest.getKey() + METADATA_SUFFIX).delete();
+      new File(directory, eldest.getKey() + DATA_SUFFIX).delete();
+    }
+  }
+
+  /**
+   * Rebuilds the in-memory index from the files on disk, discarding incomplete and corrupt entries.
+   */
+  private void initializeIfNeeded() {
+    if (initialized) {
+      return;
+    }
+    initialized = true;
+
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+
+    List<File> dataFiles = new ArrayList<>();
+    for (File file : files) {
+      String name = file.getName();
+      if (name.endsWith(TEMP_SUFFIX)) {
+        // Left over from a write that never completed.
+        file.delete();
+      } else if (name.endsWith(DATA_SUFFIX)) {
+        dataFiles.add(file);
+      }
+    }
+
+    // Restore the LRU order from the last access times recorded on the data files.
+    Collections.sort(dataFiles, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        return Long.compare(first.lastModified(), second.lastModified());
+      }
+    });
+
+    for (File dataFile : dataFiles) {
+      String name = dataFile.getName();
+      String key = name.substring(0, name.length() - DATA_SUFFIX.length());
+      Entry entry = readEntry(key, dataFile);
+      if (entry == null) {
+        remove(key);
+        continue;
+      }
+      entries.put(key, entry);
+      size += entry.length;
+    }
+
+    // Remove metadata files that have no data file.
+    for (File file : files) {
+      String name = file.getName();
+      if (name.endsWith(METADATA_SUFFIX)) {
+        String key = name.substring(0, name.length() - METADATA_SUFFIX.length());
+        if (!entries.containsKey(key)) {
+          file.delete();
+        }
+      }
+    }
+    trimToSize();
+  }
+
+  @Nullable
+  private Entry readEntry(@NonNull String key, @NonNull File dataFile) {
+    File metadataFile = new File(directory, key + METADATA_SUFFIX);
+    if (!metadataFile.exists()) {
+      return null;
+    }
+
+    Properties metadata = new Properties();
+    try (InputStream inputStream = new FileInputStream(metadataFile)) {
+      metadata.load(inputStream);
+      long length = Long.parseLong(metadata.getProperty(KEY_LENGTH));
+      long expiresAt = Long.parseLong(metadata.getProperty(KEY_EXPIRES_AT));
+      if (length != dataFile.length() || !key.equals(getKey(metadata.getProperty(KEY_URL)))) {
+        return null;
+      }
+      return new Entry(metadata.getProperty(KEY_ETAG), expiresAt, length);
+    } catch (IOException | IllegalArgumentException | NullPointerException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns when a response stops being fresh according to its caching headers, or
+   * {@link Long#MIN_VALUE} if the response must not be stored.
+   */
+  private static long getExpiresAt(@NonNull HttpURLConnection connection) {
+    long now = System.currentTimeMillis();
+    String cacheControl = connection.getHeaderField("Cache-Control");
+    if (cacheControl != null) {
+      for (String directive : cacheControl.split(",")) {
+        directive = directive.trim().toLowerCase();
+        if (directive.equals("no-store")) {
+          return Long.MIN_VALUE;
+        }
+        if (directive.equals("no-cache")) {
+          return now;
+        }
+        if (directive.startsWith("max-age=")) {
+          try {
+            return now + TimeUnit.SECONDS.toMillis(Long.parseLong(directive.substring(8)));
+          } catch (NumberFormatException exception) {
+            return now;
+          }
+        }
+      }
+    }
+
+    long expiration = connection.getExpiration();
+    return expiration > 0 ? expiration : now + DEFAULT_TTL_MILLIS;
+  }
+
+  @NonNull
+  private static String getKey(@NonNull String url) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(url.getBytes(Charset.forName("UTF-8")));
+      StringBuilder key = new StringBuilder(digest.length * 2);
+      for (byte value : digest) {
+        key.append(String.format("%02x", value));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException exception) {
+      return String.valueOf(url.hashCode());
+    }
+  }
+
+  private static void writeSynced(@NonNull File file, @NonNull byte[] data) throws IOException {
+    try (FileOutputStream outputStream = new FileOutputStream(file)) {
+      outputStream.write(data);
+      outputStream.getFD().sync();
+    }
+  }
+
+  @NonNull
+  private static byte[] readFully(@NonNull InputStream inputStream) throws IOException {
+    try (InputStream input = inputStream) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      return outputStream.toByteArray();
+    }
+  }
+
+  private static final class Entry {
+
+    @Nullable
+    final String etag;
+    final long expiresAt;
+    final long length;
+
+    Entry(@Nullable String etag, long expiresAt, long length) {
+      this.etag = etag;
+      this.expiresAt = expiresAt;
+      this.length = length;
+    }
+  }
+}
@@ -0,0 +1,189 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import android.os.SystemClock;
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded executor shared by all InMobi native ads to download image assets. Worker threads are
+ * named, capped at {@link #getMaxConcurrentDownloads()} and released once they have been idle for
+ * {@link #KEEP_ALIVE_SECONDS}.
+ */
+public class InMobiImageDownloadExecutor {
+
+  static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 4;
+
+  static final long KEEP_ALIVE_SECONDS = 30;
+
+  private static final String THREAD_NAME_PREFIX = "InMobiImageDownload-";
+
+  private static InMobiImageDownloadExecutor instance;
+
+  private final ThreadPoolExecutor executor;
+
+  private final AtomicLong completedTaskCount = new AtomicLong();
+
+  private final AtomicLong totalTaskLatencyMillis = new AtomicLong();
+
+  @VisibleForTesting
+  InMobiImageDownloadExecutor(int maxConcurrentDownloads) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    executor =
+        new ThreadPoolExecutor(
+            maxConcurrentDownloads,
+            maxConcurrentDownloads,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(),
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(@NonNull Runnable runnable) {
+                Thread thread =
+                    new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              }
+            });
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Returns the image download executor shared by all InMobi native ads in this process.
+   */
+  @NonNull
+  public static synchronized InMobiImageDownloadExecutor getInstance() {
+    if (instance == null) {
+      instance = new InMobiImageDownloadExecutor(DEFAULT_MAX_CONCURRENT_DOWNLOADS);
+    }
+    return instance;
+  }
+
+  /**
+   * Runs an image download task. The time between submission and completion of the task is
+   * recorded in {@link #getAverageTaskLatencyMillis()}.
+   */
+  void execute(@NonNull final Runnable task) {
+    final long submitTime = SystemClock.elapsedRealtime();
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          task.run();
+        } finally {
+          totalTaskLatencyMillis.addAndGet(SystemClock.elapsedRealtime() - submitTime);
+          completedTaskCount.incrementAndGet();
+        }
+      }
+    });
+  }
+
+  /**
+   * Submits an image download task and returns a {@link Future} representing its result.
+   */
+  @NonNull
+  <T> Future<T> submit(@NonNull Callable<T> task) {
+    FutureTask<T> futureTask = new FutureTask<>(task);
+    execute(futureTask);
+    return futureTask;
+  }
+
+  /**
+   * Sets the maximum number of images that can be downloaded in parallel.
+   */
+  public void setMaxConcurrentDownloads(@IntRange(from = 1) int maxConcurrentDownloads) {
+    if (maxConcurrentDownloads < 1) {
+      throw new IllegalArgumentException("maxConcurrentDownloads must be at least 1.");
+    }
+    synchronized (executor) {
+      if (maxConcurrentDownloads > executor.getMaximumPoolSize()) {
+        executor.setMaximumPoolSize(maxConcurrentDownloads);
+        executor.setCorePoolSize(maxConcurrentDownloads);
+      } else {
+        executor.setCorePoolSize(maxConcurrentDownloads);
+        executor.setMaximumPoolSize(maxConcurrentDownloads);
+      }
+    }
+  }
+
+  public int getMaxConcurrentDownloads() {
+    return executor.getMaximumPoolSize();
+  }
+
+  /**
+   * Returns the number of download tasks waiting for a worker thread.
+   */
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  /**
+   * Returns the number of download tasks currently running.
+   */
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  /**
+   * Returns the number of worker threads currently alive.
+   */
+  public int getPoolSize() {
+    return executor.getPoolSize();
+  }
+
+  /**
+   * Returns the largest number of worker threads that have ever been alive at the same time.
+   */
+  public int getLargestPoolSize() {
+    return executor.getLargestPoolSize();
+  }
+
+  public long getCompletedTaskCount() {
+    return completedTaskCount.get();
+  }
+
+  /**
+   * Returns the average time in milliseconds between submitting a download task and its
+   * completion, including the time it spent waiting in the queue.
+   */
+  public long getAverageTaskLatencyMillis() {
+    long completed = completedTaskCount.get();
+    return completed == 0 ? 0 : totalTaskLatencyMillis.get() / completed;
+  }
+
+  /**
+   * Stops accepting new downloads and releases the worker threads once queued downloads finish.
+   */
+  @VisibleForTesting
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  @VisibleForTesting
+  boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+}
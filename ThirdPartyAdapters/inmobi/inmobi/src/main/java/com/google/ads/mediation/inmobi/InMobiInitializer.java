@@ -28,7 +28,7 @@ import com.google.android.gms.ads.AdError;
 import com.inmobi.sdk.SdkInitializationListener;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
+import java.util.List;
 
 public class InMobiInitializer implements SdkInitializationListener {
 
@@ -48,32 +48,26 @@ public class InMobiInitializer implements SdkInitializationListener {
   /**
    * UNINITIALIZED.
    */
-  public static final int UNINITIALIZED = 0;
+  public static final int UNINITIALIZED = InitializationStateMachine.UNINITIALIZED;
   /**
    * INITIALIZING.
    */
-  public static final int INITIALIZING = 1;
+  public static final int INITIALIZING = InitializationStateMachine.INITIALIZING;
   /**
    * INITIALIZED.
    */
-  public static final int INITIALIZED = 2;
-
-  @VisibleForTesting
-  @InitializationStatus
-  int initializationStatus;
+  public static final int INITIALIZED = InitializationStateMachine.INITIALIZED;
 
-
-  @VisibleForTesting
-  final ArrayList<Listener> listeners = new ArrayList<>();
+  private final InitializationStateMachine<Listener> stateMachine =
+      new InitializationStateMachine<>();
 
   private final InMobiSdkWrapper inMobiSdkWrapper;
 
   private InMobiInitializer() {
-    this.initializationStatus = UNINITIALIZED;
     this.inMobiSdkWrapper = new InMobiSdkWrapper();
   }
 
-  public static InMobiInitializer getInstance() {
+  public static synchronized InMobiInitializer getInstance() {
     if (instance == null) {
       instance = new InMobiInitializer();
     }
@@ -82,48 +76,69 @@ public class InMobiInitializer implements SdkInitializationListener {
 
   @VisibleForTesting
   InMobiInitializer(InMobiSdkWrapper inMobiSdkWrapper) {
-    this.initializationStatus = UNINITIALIZED;
     this.inMobiSdkWrapper = inMobiSdkWrapper;
   }
 
   public void init(@NonNull final Context context,
       @NonNull @Size(min = 32, max = 36) String accountID, @NonNull final Listener listener) {
-
-    if (initializationStatus == INITIALIZED) {
-      listener.onInitializeSuccess();
-      return;
+    switch (stateMachine.register(listener)) {
+      case InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case InitializationStateMachine.REGISTRATION_QUEUED:
+        return;
+      case InitializationStateMachine.REGISTRATION_START_INITIALIZATION:
+      default:
+        inMobiSdkWrapper.init(context, accountID, InMobiConsent.getConsentObj(), this);
     }
-
-    listeners.add(listener);
-    if (initializationStatus == INITIALIZING) {
-      return;
-    }
-
-    initializationStatus = INITIALIZING;
-
-    inMobiSdkWrapper.init(context, accountID, InMobiConsent.getConsentObj(), this);
   }
 
   @Override
   public void onInitializationComplete(@Nullable Error error) {
     if (error == null) {
       Log.d(TAG, "InMobi SDK initialized.");
-
-      initializationStatus = INITIALIZED;
-      for (Listener initListener : listeners) {
-        initListener.onInitializeSuccess();
-      }
+      stateMachine.onInitializationSucceeded(
+          new InitializationStateMachine.ListenerNotifier<Listener>() {
+            @Override
+            public void notify(@NonNull Listener listener) {
+              listener.onInitializeSuccess();
+            }
+          });
     } else {
-      initializationStatus = UNINITIALIZED;
-
-      AdError initializationError =
+      final AdError initializationError =
           InMobiConstants.createAdapterError(
               ERROR_INMOBI_FAILED_INITIALIZATION, error.getLocalizedMessage());
-      for (Listener initListener : listeners) {
-        initListener.onInitializeError(initializationError);
-      }
+      stateMachine.onInitializationFailed(
+          new InitializationStateMachine.ListenerNotifier<Listener>() {
+            @Override
+            public void notify(@NonNull Listener listener) {
+              listener.onInitializeError(initializationError);
+            }
+          });
     }
-    listeners.clear();
+  }
+
+  @InitializationStatus
+  int getInitializationStatus() {
+    return stateMachine.getState();
+  }
+
+  @VisibleForTesting
+  List<Listener> getListeners() {
+    return stateMachine.getPendingListeners();
+  }
+
+  /**
+   * Returns how long, in milliseconds, the last InMobi SDK initialization took, or -1 if it has
+   * not completed yet.
+   */
+  long getLastInitializationDurationMillis() {
+    return stateMachine.getLastInitializationDurationMillis();
+  }
+
+  /** See {@link InitializationStateMachine#getWaitingListenerCount()}. */
+  int getWaitingListenerCount() {
+    return stateMachine.getWaitingListenerCount();
   }
 
   public interface Listener {
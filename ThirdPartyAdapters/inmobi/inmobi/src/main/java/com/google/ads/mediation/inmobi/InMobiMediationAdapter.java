@@ -19,6 +19,7 @@ import android.content.Context;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.ads.mediation.inmobi.InMobiInitializer.Listener;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbBannerAd;
@@ -53,6 +54,7 @@ import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 import com.inmobi.sdk.InMobiSdk;
 import java.util.HashSet;
 import java.util.List;
+import java.util.TreeMap;
 
 /**
  * InMobi Adapter for AdMob Mediation used to load and show rewarded video ads. This class should
@@ -152,15 +154,27 @@ public class InMobiMediationAdapter extends RtbAdapter {
   }
 
   @Override
-  public void initialize(@NonNull Context context,
-      final @NonNull InitializationCompleteCallback initializationCompleteCallback,
+  public void initialize(@NonNull final Context context,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
-
     if (inMobiSdkWrapper.isSDKInitialized()) {
-      initializationCompleteCallback.onInitializationSucceeded();
+      InMobiInitializationTelemetry.track(
+              TAG, callback, InMobiInitializationTelemetry.NO_WAITING_LISTENERS)
+          .onInitializationSucceeded();
       return;
     }
 
+    final InitializationCompleteCallback initializationCompleteCallback =
+        InMobiInitializationTelemetry.track(
+            TAG,
+            callback,
+            new InMobiInitializationTelemetry.WaitingListenerCounter() {
+              @Override
+              public int getWaitingListenerCount() {
+                return inMobiInitializer.getWaitingListenerCount();
+              }
+            });
+
     HashSet<String> accountIDs = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       String serverAccountID = configuration.getServerParameters()
@@ -192,6 +206,7 @@ public class InMobiMediationAdapter extends RtbAdapter {
       @Override
       public void onInitializeSuccess() {
         initializationCompleteCallback.onInitializationSucceeded();
+        prewarmBidToken(context);
       }
 
       @Override
@@ -201,6 +216,46 @@ public class InMobiMediationAdapter extends RtbAdapter {
     });
   }
 
+  /**
+   * Generates a bid token for the first auction without network extras, if bid token prewarming is
+   * enabled.
+   */
+  private void prewarmBidToken(@NonNull Context context) {
+    InMobiBidTokenPrewarmer bidTokenPrewarmer = InMobiBidTokenPrewarmer.getInstance();
+    if (!bidTokenPrewarmer.isEnabled()) {
+      return;
+    }
+
+    final InMobiExtras inMobiExtras =
+        InMobiExtrasBuilder.build(context, null, InMobiAdapterUtils.PROTOCOL_RTB);
+    bidTokenPrewarmer.prewarm(
+        createPrewarmKey(context, inMobiExtras),
+        new InMobiBidTokenPrewarmer.TokenGenerator() {
+          @Nullable
+          @Override
+          public String generateToken() {
+            return inMobiSdkWrapper.getToken(
+                inMobiExtras.getParameterMap(), inMobiExtras.getKeywords());
+          }
+        });
+  }
+
+  /**
+   * Returns the key of a prewarmed bid token, since InMobi SDK generates a bid token for the given
+   * parameters and keywords under the current consent of the user.
+   */
+  @NonNull
+  private static String createPrewarmKey(
+      @Nullable Context context, @NonNull InMobiExtras inMobiExtras) {
+    return InMobiBidTokenPrewarmer.createKey(
+        context,
+        new TreeMap<>(inMobiExtras.getParameterMap())
+            + "|"
+            + inMobiExtras.getKeywords()
+            + "|"
+            + InMobiConsent.getConsentObj());
+  }
+
   @Override
   public void collectSignals(
       @NonNull RtbSignalData rtbSignalData, @NonNull SignalCallbacks signalCallbacks) {
@@ -208,8 +263,30 @@ public class InMobiMediationAdapter extends RtbAdapter {
         InMobiExtrasBuilder.build(
             rtbSignalData.getContext(),
             rtbSignalData.getNetworkExtras(), InMobiAdapterUtils.PROTOCOL_RTB);
-    String token =
-        inMobiSdkWrapper.getToken(inMobiExtras.getParameterMap(), inMobiExtras.getKeywords());
+    InMobiBidTokenCache bidTokenCache = InMobiBidTokenCache.getInstance();
+    String cacheKey =
+        bidTokenCache.isEnabled()
+            ? InMobiBidTokenCache.createKey(
+                rtbSignalData,
+                inMobiExtras.getParameterMap(),
+                inMobiExtras.getKeywords(),
+                InMobiConsent.getConsentObj())
+            : null;
+    String token = cacheKey != null ? bidTokenCache.get(cacheKey) : null;
+    InMobiBidTokenPrewarmer bidTokenPrewarmer = InMobiBidTokenPrewarmer.getInstance();
+    if (token == null && bidTokenPrewarmer.isEnabled()) {
+      token = bidTokenPrewarmer.consume(createPrewarmKey(rtbSignalData.getContext(), inMobiExtras));
+      if (cacheKey != null && token != null) {
+        bidTokenCache.put(cacheKey, token);
+      }
+    }
+    if (token == null) {
+      token =
+          inMobiSdkWrapper.getToken(inMobiExtras.getParameterMap(), inMobiExtras.getKeywords());
+      if (cacheKey != null && token != null) {
+        bidTokenCache.put(cacheKey, token);
+      }
+    }
     signalCallbacks.onSuccess(token);
   }
 
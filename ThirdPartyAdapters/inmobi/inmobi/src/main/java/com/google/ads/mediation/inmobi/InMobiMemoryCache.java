@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.inmobi;
 
+import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
@@ -24,19 +25,34 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * This class is used to cache images loaded/shown by InMobi adapter.
+ * This class is used to cache images loaded/shown by InMobi adapter. A single process-wide
+ * instance, obtained through {@link #getInstance()}, is shared by every native ad so that repeated
+ * creatives are only downloaded and decoded once.
+ *
+ * <p>The cache holds the {@link Drawable.ConstantState} of each image rather than the drawable
+ * itself, and hands a new drawable to every caller, since a drawable's bounds and callback belong
+ * to the single view that draws it.
  */
 public class InMobiMemoryCache {
 
   private static final String TAG = "MemoryCache";
-  // Last argument true for LRU
-  private final Map<String, Drawable> cache = Collections.synchronizedMap(
-      new LinkedHashMap<String, Drawable>(10, 1.5f, true));
-  // ordering.
-  @VisibleForTesting
-  long size = 0; // Current allocated size.
+
+  private static InMobiMemoryCache instance;
+
+  // Last argument true for LRU ordering.
+  private final Map<String, CachedImage> cache = Collections.synchronizedMap(
+      new LinkedHashMap<String, CachedImage>(10, 1.5f, true));
+
+  // Current allocated size.
+  private final AtomicLong size = new AtomicLong();
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
   private long limit = 1000000; // Max memory in bytes.
 
   InMobiMemoryCache() {
@@ -49,49 +65,71 @@ public class InMobiMemoryCache {
     setLimit(limit);
   }
 
+  /**
+   * Returns the memory cache shared by all InMobi native ads in this process.
+   */
+  @NonNull
+  public static synchronized InMobiMemoryCache getInstance() {
+    if (instance == null) {
+      instance = new InMobiMemoryCache();
+    }
+    return instance;
+  }
+
   private void setLimit(long new_limit) {
     limit = new_limit;
     Log.i(TAG, "MemoryCache will use up to " + limit / 1024. / 1024. + "MB");
   }
 
+  /**
+   * Returns a new drawable of the image cached for the given ID, or {@code null} if there is no
+   * such image.
+   */
   public Drawable get(String id) {
-    try {
-      if (!cache.containsKey(id)) {
-        return null;
-      }
-      // NullPointerException sometimes happen here
-      // http://code.google.com/p/osmdroid/issues/detail?id=78
-      return cache.get(id);
-    } catch (NullPointerException ex) {
-      ex.printStackTrace();
+    CachedImage image = cache.get(id);
+    if (image == null) {
+      missCount.incrementAndGet();
       return null;
     }
+    hitCount.incrementAndGet();
+    return image.state.newDrawable(Resources.getSystem());
   }
 
+  /**
+   * Caches the image of the given drawable. Drawables that cannot be copied through their
+   * {@link Drawable.ConstantState} are not cached.
+   */
   void put(String id, Drawable drawable) {
     try {
-      if (cache.containsKey(id)) {
-        size -= getSizeInBytes(((BitmapDrawable) cache.get(id)).getBitmap());
+      Drawable.ConstantState state = drawable.getConstantState();
+      if (state == null) {
+        return;
+      }
+      CachedImage image = new CachedImage(state, getSizeInBytes(drawable));
+      synchronized (cache) {
+        CachedImage previous = cache.put(id, image);
+        if (previous != null) {
+          size.addAndGet(-previous.sizeInBytes);
+        }
+        size.addAndGet(image.sizeInBytes);
+        checkSize();
       }
-      cache.put(id, drawable);
-      size += getSizeInBytes(((BitmapDrawable) drawable).getBitmap());
-      checkSize();
-      Log.d(TAG, "Drawable used from cache");
     } catch (Throwable th) {
       th.printStackTrace();
     }
   }
 
   private void checkSize() {
-    Log.i(TAG, "cache size=" + size + " length=" + cache.size());
-    if (size > limit) {
-      Iterator<Map.Entry<String, Drawable>> iter = cache.entrySet().iterator();//least
+    Log.i(TAG, "cache size=" + size.get() + " length=" + cache.size());
+    if (size.get() > limit) {
+      Iterator<Map.Entry<String, CachedImage>> iter = cache.entrySet().iterator();//least
       // recently accessed item will be the first one iterated
       while (iter.hasNext()) {
-        Map.Entry<String, Drawable> entry = iter.next();
-        size -= getSizeInBytes(((BitmapDrawable) entry.getValue()).getBitmap());
+        Map.Entry<String, CachedImage> entry = iter.next();
+        size.addAndGet(-entry.getValue().sizeInBytes);
         iter.remove();
-        if (size <= limit) {
+        evictionCount.incrementAndGet();
+        if (size.get() <= limit) {
           break;
         }
       }
@@ -100,20 +138,60 @@ public class InMobiMemoryCache {
   }
 
   public void clear() {
-    try {
-      // NullPointerException sometimes happen here
-      // http://code.google.com/p/osmdroid/issues/detail?id=78
+    synchronized (cache) {
       cache.clear();
-      size = 0;
-    } catch (NullPointerException ex) {
-      ex.printStackTrace();
+      size.set(0);
     }
   }
 
-  private long getSizeInBytes(Bitmap bitmap) {
+  /**
+   * Returns the number of bytes currently held by the cache.
+   */
+  public long getSize() {
+    return size.get();
+  }
+
+  /**
+   * Returns the number of {@link #get(String)} calls that returned a cached drawable.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns the number of {@link #get(String)} calls that did not find a cached drawable.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Returns the number of drawables removed to keep the cache within its size limit.
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  private long getSizeInBytes(Drawable drawable) {
+    if (!(drawable instanceof BitmapDrawable)) {
+      return 0;
+    }
+    Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
     if (bitmap == null) {
       return 0;
     }
-    return bitmap.getRowBytes() * bitmap.getHeight();
+    return (long) bitmap.getRowBytes() * bitmap.getHeight();
+  }
+
+  private static final class CachedImage {
+
+    final Drawable.ConstantState state;
+
+    final long sizeInBytes;
+
+    CachedImage(Drawable.ConstantState state, long sizeInBytes) {
+      this.state = state;
+      this.sizeInBytes = sizeInBytes;
+    }
   }
 }
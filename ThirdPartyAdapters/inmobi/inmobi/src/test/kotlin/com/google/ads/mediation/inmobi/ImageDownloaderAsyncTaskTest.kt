@@ -1,14 +1,26 @@
 package com.google.ads.mediation.inmobi
 
+import android.content.res.Resources
+import android.graphics.Bitmap
 import android.graphics.drawable.BitmapDrawable
+import android.graphics.drawable.Drawable
 import android.os.Looper
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.ads.mediation.inmobi.ImageDownloaderAsyncTask.DrawableDownloadListener
+import com.google.common.truth.Truth.assertThat
+import com.sun.net.httpserver.HttpServer
+import java.net.InetAddress
+import java.net.InetSocketAddress
 import java.net.URL
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.verify
 import org.robolectric.Shadows.shadowOf
@@ -25,9 +37,10 @@ class ImageDownloaderAsyncTaskTest {
 
   @Test
   fun onIconKeyFoundInCache_invokesOnDownloadSuccessCallback() {
-    val mockDrawable = mock<BitmapDrawable>()
+    val drawable =
+      BitmapDrawable(Resources.getSystem(), Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
     // pre-populate the cache
-    imageDownloaderAsyncTask.memoryCache.put("http://www.google.com", mockDrawable)
+    imageDownloaderAsyncTask.memoryCache.put("http://www.google.com", drawable)
 
     imageDownloaderAsyncTask.executeOnExecutor(executor, urlMap)
     shadowOf(Looper.getMainLooper()).idle()
@@ -48,7 +61,65 @@ class ImageDownloaderAsyncTaskTest {
     verify(drawableDownloadListener).onDownloadFailure()
   }
 
+  @Test
+  fun concurrentLoadsOfSameUrl_shareSingleDownload() {
+    val requestCount = AtomicInteger()
+    val releaseResponse = CountDownLatch(1)
+    val iconBytes = javaClass.classLoader!!.getResourceAsStream("small_icon.png").readBytes()
+    val server = HttpServer.create(InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+    server.createContext("/icon.png") { exchange ->
+      requestCount.incrementAndGet()
+      releaseResponse.await(10, TimeUnit.SECONDS)
+      exchange.sendResponseHeaders(200, iconBytes.size.toLong())
+      exchange.responseBody.use { it.write(iconBytes) }
+    }
+    server.executor = Executors.newCachedThreadPool()
+    server.start()
+    val taskExecutor = Executors.newFixedThreadPool(CONCURRENT_LOADS)
+    try {
+      val iconUrl = URL("http://127.0.0.1:${server.address.port}/icon.png")
+      val listeners = List(CONCURRENT_LOADS) { mock<DrawableDownloadListener>() }
+      val coalescedCountBefore = ImageDownloaderAsyncTask.getCoalescedDownloadCount()
+
+      val tasks =
+        listeners.map { listener ->
+          ImageDownloaderAsyncTask(listener, 10L).executeOnExecutor(
+            taskExecutor,
+            hashMapOf(ImageDownloaderAsyncTask.KEY_ICON to iconUrl),
+          )
+        }
+      // Hold the response until every other load has joined the in-flight download.
+      while (
+        ImageDownloaderAsyncTask.getCoalescedDownloadCount() - coalescedCountBefore <
+          CONCURRENT_LOADS - 1
+      ) {
+        Thread.sleep(10)
+      }
+      releaseResponse.countDown()
+      tasks.forEach { it.get(10, TimeUnit.SECONDS) }
+      shadowOf(Looper.getMainLooper()).idle()
+
+      assertThat(requestCount.get()).isEqualTo(1)
+      val icons =
+        listeners.map { listener ->
+          val drawableMap = argumentCaptor<HashMap<String, Drawable>>()
+          verify(listener).onDownloadSuccess(drawableMap.capture())
+          drawableMap.firstValue[ImageDownloaderAsyncTask.KEY_ICON] as BitmapDrawable
+        }
+      // Every load gets a drawable of its own, backed by the single downloaded bitmap.
+      assertThat(icons.toSet()).hasSize(CONCURRENT_LOADS)
+      assertThat(icons.map { it.bitmap }.toSet()).hasSize(1)
+    } finally {
+      releaseResponse.countDown()
+      taskExecutor.shutdownNow()
+      server.stop(0)
+      InMobiMemoryCache.getInstance().clear()
+    }
+  }
+
   companion object {
+    private const val CONCURRENT_LOADS = 5
+
     private val urlMap =
       hashMapOf(ImageDownloaderAsyncTask.KEY_ICON to URL("http://www.google.com"))
   }
@@ -0,0 +1,66 @@
+package com.google.ads.mediation.inmobi
+
+import android.graphics.Bitmap
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class InMobiBitmapDecoderTest {
+
+  @Test
+  fun calculateInSampleSize_imageSmallerThanTarget_returnsOne() {
+    assertThat(InMobiBitmapDecoder.calculateInSampleSize(64, 64, 320, 320)).isEqualTo(1)
+  }
+
+  @Test
+  fun calculateInSampleSize_imageLargerThanTarget_returnsLargestPowerOfTwo() {
+    assertThat(InMobiBitmapDecoder.calculateInSampleSize(1200, 800, 300, 200)).isEqualTo(4)
+    assertThat(InMobiBitmapDecoder.calculateInSampleSize(1200, 800, 299, 199)).isEqualTo(4)
+    assertThat(InMobiBitmapDecoder.calculateInSampleSize(1200, 800, 301, 100)).isEqualTo(2)
+  }
+
+  @Test
+  fun calculateInSampleSize_unboundedTarget_returnsOne() {
+    assertThat(InMobiBitmapDecoder.calculateInSampleSize(1200, 800, 0, 0)).isEqualTo(1)
+  }
+
+  @Test
+  fun decode_largeCreative_allocatesSubsampledBitmap() {
+    val bitmap =
+      InMobiBitmapDecoder.decode(openFixture(LARGE_CREATIVE), 300, 200, Bitmap.Config.ARGB_8888)
+
+    assertThat(bitmap).isNotNull()
+    assertThat(bitmap!!.width).isEqualTo(300)
+    assertThat(bitmap.height).isEqualTo(200)
+    // 16 times fewer bytes than the 1200 x 800 x 4 bytes needed at full resolution.
+    assertThat(bitmap.byteCount).isEqualTo(300 * 200 * 4)
+  }
+
+  @Test
+  fun decode_smallIcon_keepsFullResolution() {
+    val bitmap =
+      InMobiBitmapDecoder.decode(openFixture(SMALL_ICON), 300, 300, Bitmap.Config.ARGB_8888)
+
+    assertThat(bitmap).isNotNull()
+    assertThat(bitmap!!.width).isEqualTo(64)
+    assertThat(bitmap.height).isEqualTo(64)
+    assertThat(bitmap.byteCount).isEqualTo(64 * 64 * 4)
+  }
+
+  @Test
+  fun decode_invalidData_returnsNull() {
+    val bitmap =
+      InMobiBitmapDecoder.decode(byteArrayOf(1, 2, 3), 300, 300, Bitmap.Config.ARGB_8888)
+
+    assertThat(bitmap).isNull()
+  }
+
+  private fun openFixture(name: String) = javaClass.classLoader!!.getResourceAsStream(name)
+
+  companion object {
+    private const val LARGE_CREATIVE = "large_creative.png"
+    private const val SMALL_ICON = "small_icon.png"
+  }
+}
@@ -0,0 +1,150 @@
+package com.google.ads.mediation.inmobi
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import com.sun.net.httpserver.HttpServer
+import java.io.File
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.URL
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.After
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class InMobiDiskCacheTest {
+
+  @get:Rule val temporaryFolder = TemporaryFolder()
+
+  private val requestCount = AtomicInteger()
+  private val notModifiedCount = AtomicInteger()
+  private var cacheControl = "max-age=3600"
+  private lateinit var server: HttpServer
+  private lateinit var cacheDirectory: File
+
+  @Before
+  fun setUp() {
+    cacheDirectory = temporaryFolder.newFolder()
+    server = HttpServer.create(InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+    server.createContext("/") { exchange ->
+      requestCount.incrementAndGet()
+      exchange.responseHeaders.add("Cache-Control", cacheControl)
+      exchange.responseHeaders.add("ETag", ETAG)
+      if (exchange.requestHeaders.getFirst("If-None-Match") == ETAG) {
+        notModifiedCount.incrementAndGet()
+        exchange.sendResponseHeaders(304, -1)
+        exchange.close()
+        return@createContext
+      }
+      exchange.sendResponseHeaders(200, CREATIVE.size.toLong())
+      exchange.responseBody.use { it.write(CREATIVE) }
+    }
+    server.start()
+  }
+
+  @After
+  fun tearDown() {
+    server.stop(0)
+  }
+
+  @Test
+  fun fetch_freshEntry_servedFromDiskWithoutNetwork() {
+    val diskCache = InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES)
+
+    assertThat(diskCache.fetch(url("icon.png"))).isEqualTo(CREATIVE)
+    assertThat(diskCache.fetch(url("icon.png"))).isEqualTo(CREATIVE)
+
+    assertThat(requestCount.get()).isEqualTo(1)
+    assertThat(diskCache.hitCount).isEqualTo(1)
+    assertThat(diskCache.missCount).isEqualTo(1)
+  }
+
+  @Test
+  fun fetch_afterRestart_servedFromDiskWithoutNetwork() {
+    InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES).fetch(url("icon.png"))
+
+    // A new instance over the same directory simulates a cold start.
+    val restartedDiskCache = InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES)
+
+    assertThat(restartedDiskCache.fetch(url("icon.png"))).isEqualTo(CREATIVE)
+    assertThat(requestCount.get()).isEqualTo(1)
+    assertThat(restartedDiskCache.hitCount).isEqualTo(1)
+  }
+
+  @Test
+  fun fetch_expiredEntryWithEtag_isRevalidated() {
+    cacheControl = "max-age=0"
+    val diskCache = InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES)
+    diskCache.fetch(url("icon.png"))
+
+    assertThat(diskCache.fetch(url("icon.png"))).isEqualTo(CREATIVE)
+
+    assertThat(requestCount.get()).isEqualTo(2)
+    assertThat(notModifiedCount.get()).isEqualTo(1)
+    assertThat(diskCache.revalidationCount).isEqualTo(1)
+  }
+
+  @Test
+  fun fetch_noStore_isNotCached() {
+    cacheControl = "no-store"
+    val diskCache = InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES)
+
+    diskCache.fetch(url("icon.png"))
+    diskCache.fetch(url("icon.png"))
+
+    assertThat(requestCount.get()).isEqualTo(2)
+    assertThat(diskCache.size).isEqualTo(0)
+  }
+
+  @Test
+  fun open_corruptEntry_isDiscarded() {
+    InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES).fetch(url("icon.png"))
+    // Truncate the stored data, as an interrupted write would.
+    cacheDirectory.listFiles()!!.single { it.name.endsWith(".data") }.writeBytes(byteArrayOf(1))
+
+    val restartedDiskCache = InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES)
+
+    assertThat(restartedDiskCache.fetch(url("icon.png"))).isEqualTo(CREATIVE)
+    assertThat(requestCount.get()).isEqualTo(2)
+  }
+
+  @Test
+  fun open_leftoverTemporaryFiles_areDeleted() {
+    File(cacheDirectory, "entry.data.tmp").writeBytes(CREATIVE)
+    File(cacheDirectory, "entry.meta.tmp").writeText("length=1")
+
+    val diskCache = InMobiDiskCache(cacheDirectory, MAX_SIZE_BYTES)
+
+    assertThat(diskCache.size).isEqualTo(0)
+    assertThat(cacheDirectory.listFiles()).isEmpty()
+  }
+
+  @Test
+  fun fetch_sizeExceeded_leastRecentlyUsedEntryIsEvicted() {
+    val diskCache = InMobiDiskCache(cacheDirectory, CREATIVE.size * 2L)
+    diskCache.fetch(url("first.png"))
+    diskCache.fetch(url("second.png"))
+    // Access the first entry so that the second one becomes the least recently used.
+    diskCache.fetch(url("first.png"))
+
+    diskCache.fetch(url("third.png"))
+    diskCache.fetch(url("first.png"))
+    diskCache.fetch(url("second.png"))
+
+    assertThat(diskCache.size).isEqualTo(CREATIVE.size * 2L)
+    // first, second and third, plus second again after it was evicted.
+    assertThat(requestCount.get()).isEqualTo(4)
+  }
+
+  private fun url(path: String) = URL("http://127.0.0.1:${server.address.port}/$path")
+
+  companion object {
+    private const val ETAG = "\"creative-v1\""
+    private const val MAX_SIZE_BYTES = 1024L * 1024L
+    private val CREATIVE = ByteArray(256) { it.toByte() }
+  }
+}
@@ -0,0 +1,102 @@
+package com.google.ads.mediation.inmobi
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.inmobi.ImageDownloaderAsyncTask.DrawableDownloadListener
+import com.google.common.truth.Truth.assertThat
+import java.net.URL
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.android.util.concurrent.InlineExecutorService
+
+@RunWith(AndroidJUnit4::class)
+class InMobiImageDownloadExecutorTest {
+
+  private val downloadExecutor = InMobiImageDownloadExecutor(MAX_CONCURRENT_DOWNLOADS)
+
+  @After
+  fun tearDown() {
+    downloadExecutor.shutdown()
+    downloadExecutor.awaitTermination(5, TimeUnit.SECONDS)
+  }
+
+  @Test
+  fun submit_thousandsOfTasks_threadCountStaysWithinCap() {
+    val latch = CountDownLatch(TASK_COUNT)
+
+    repeat(TASK_COUNT) { downloadExecutor.submit(Callable { latch.countDown() }) }
+
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue()
+    assertThat(downloadExecutor.largestPoolSize).isAtMost(MAX_CONCURRENT_DOWNLOADS)
+    assertThat(downloadExecutor.poolSize).isAtMost(MAX_CONCURRENT_DOWNLOADS)
+  }
+
+  @Test
+  fun imageDownloaderAsyncTask_thousandsOfLoads_threadCountStaysFlat() {
+    val listener = mock<DrawableDownloadListener>()
+
+    repeat(TASK_COUNT) { index ->
+      val urlMap =
+        hashMapOf(ImageDownloaderAsyncTask.KEY_ICON to URL("file:///nonexistent/icon$index.png"))
+      ImageDownloaderAsyncTask(listener, 10L, downloadExecutor)
+        .executeOnExecutor(InlineExecutorService(), urlMap)
+    }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(listener, times(TASK_COUNT)).onDownloadFailure()
+    downloadExecutor.shutdown()
+    assertThat(downloadExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue()
+    assertThat(downloadExecutor.completedTaskCount).isEqualTo(TASK_COUNT)
+    assertThat(downloadExecutor.largestPoolSize).isAtMost(MAX_CONCURRENT_DOWNLOADS)
+    assertThat(downloadExecutor.poolSize).isAtMost(MAX_CONCURRENT_DOWNLOADS)
+  }
+
+  @Test
+  fun submit_tasksWaitingForWorker_areReportedInQueueDepth() {
+    downloadExecutor.setMaxConcurrentDownloads(1)
+    val blocker = CountDownLatch(1)
+    downloadExecutor.submit(Callable { blocker.await() })
+    downloadExecutor.submit(Callable {})
+    downloadExecutor.submit(Callable {})
+
+    assertThat(downloadExecutor.queueDepth).isEqualTo(2)
+    assertThat(downloadExecutor.maxConcurrentDownloads).isEqualTo(1)
+
+    blocker.countDown()
+  }
+
+  @Test(expected = IllegalArgumentException::class)
+  fun setMaxConcurrentDownloads_lessThanOne_throwsException() {
+    downloadExecutor.setMaxConcurrentDownloads(0)
+  }
+
+  @Test
+  fun imageDownloaderAsyncTask_downloadRejected_failsEveryLoadOfTheImage() {
+    val listener = mock<DrawableDownloadListener>()
+    val urlMap = hashMapOf(ImageDownloaderAsyncTask.KEY_ICON to URL("file:///rejected/icon.png"))
+    val coalescedCount = ImageDownloaderAsyncTask.getCoalescedDownloadCount()
+    downloadExecutor.shutdown()
+
+    repeat(2) {
+      ImageDownloaderAsyncTask(listener, 10L, downloadExecutor)
+        .executeOnExecutor(InlineExecutorService(), urlMap)
+    }
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(listener, times(2)).onDownloadFailure()
+    assertThat(ImageDownloaderAsyncTask.getCoalescedDownloadCount()).isEqualTo(coalescedCount)
+  }
+
+  companion object {
+    private const val MAX_CONCURRENT_DOWNLOADS = 3
+    private const val TASK_COUNT = 2000
+  }
+}
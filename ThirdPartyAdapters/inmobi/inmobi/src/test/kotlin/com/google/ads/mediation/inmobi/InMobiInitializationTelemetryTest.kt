@@ -0,0 +1,81 @@
+package com.google.ads.mediation.inmobi
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.verifyNoInteractions
+
+@RunWith(AndroidJUnit4::class)
+class InMobiInitializationTelemetryTest {
+
+  private val callback = mock<InitializationCompleteCallback>()
+  private val telemetryListener = mock<InMobiInitializationTelemetry.Listener>()
+
+  @After
+  fun tearDown() {
+    InMobiInitializationTelemetry.setListener(null)
+  }
+
+  @Test
+  fun track_noListener_returnsOriginalCallback() {
+    assertThat(InMobiInitializationTelemetry.track(TAG, callback, null)).isSameInstanceAs(callback)
+  }
+
+  @Test
+  fun track_initializationSucceeded_reportsSuccessAndForwardsCallback() {
+    InMobiInitializationTelemetry.setListener(telemetryListener)
+    val trackedCallback =
+      InMobiInitializationTelemetry.track(TAG, callback) { WAITING_LISTENER_COUNT }
+
+    trackedCallback.onInitializationSucceeded()
+
+    verify(telemetryListener)
+      .onInitializationCompleted(eq(TAG), any(), eq(true), eq(WAITING_LISTENER_COUNT))
+    verify(callback).onInitializationSucceeded()
+  }
+
+  @Test
+  fun track_initializationFailed_reportsFailureAndForwardsCallback() {
+    InMobiInitializationTelemetry.setListener(telemetryListener)
+    val trackedCallback = InMobiInitializationTelemetry.track(TAG, callback, null)
+
+    trackedCallback.onInitializationFailed(ERROR_MESSAGE)
+
+    verify(telemetryListener).onInitializationCompleted(eq(TAG), any(), eq(false), eq(1))
+    verify(callback).onInitializationFailed(ERROR_MESSAGE)
+  }
+
+  @Test
+  fun track_listenerRemovedAfterTracking_stillReportsTrackedCall() {
+    InMobiInitializationTelemetry.setListener(telemetryListener)
+    val trackedCallback = InMobiInitializationTelemetry.track(TAG, callback, null)
+    InMobiInitializationTelemetry.setListener(null)
+
+    trackedCallback.onInitializationSucceeded()
+
+    verify(telemetryListener).onInitializationCompleted(eq(TAG), any(), eq(true), any())
+  }
+
+  @Test
+  fun track_noListener_doesNotQueryWaitingListenerCount() {
+    val counter = mock<InMobiInitializationTelemetry.WaitingListenerCounter>()
+
+    InMobiInitializationTelemetry.track(TAG, callback, counter).onInitializationSucceeded()
+
+    verifyNoInteractions(counter)
+    verify(callback).onInitializationSucceeded()
+  }
+
+  private companion object {
+    const val TAG = "InMobiMediationAdapter"
+    const val ERROR_MESSAGE = "Initialization failed."
+    const val WAITING_LISTENER_COUNT = 3
+  }
+}
@@ -53,13 +53,15 @@ class InMobiInitializerTest {
   @Test
   fun init_whenInMobiSDKInitialized_invokesOnInitializationSuccess() {
     // First mimic that InMobiSDK initialization is complete
+    inMobiInitializer.init(context, accountId, enqueuedInitializationListener)
     inMobiInitializer.onInitializationComplete(null)
 
     // ...and init is called
     inMobiInitializer.init(context, accountId, initializationListener)
 
-    // init() method is not invoked on the InMobiSdkWrapper
-    verify(inMobiSdkWrapper, times(0)).init(eq(context), eq(accountId), any(), any())
+    // init() method is not invoked on the InMobiSdkWrapper again
+    verify(inMobiSdkWrapper, times(1)).init(eq(context), eq(accountId), any(), any())
+    verify(initializationListener).onInitializeSuccess()
     assertThat(inMobiInitializer.initializationStatus).isEqualTo(INITIALIZED)
   }
 
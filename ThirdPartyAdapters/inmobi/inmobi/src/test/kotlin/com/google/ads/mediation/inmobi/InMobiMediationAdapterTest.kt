@@ -34,12 +34,14 @@ import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyLong
 import org.mockito.ArgumentMatchers.anyString
 import org.mockito.ArgumentMatchers.eq
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 
@@ -232,6 +234,51 @@ class InMobiMediationAdapterTest {
     verify(initializationCompleteCallback).onInitializationFailed(adError.toString())
   }
 
+  @Test
+  fun initialize_withTelemetryListenerIfInMobiSDKInitialized_reportsNoWaitingListeners() {
+    val telemetryListener = mock<InMobiInitializationTelemetry.Listener>()
+    InMobiInitializationTelemetry.setListener(telemetryListener)
+    whenever(inMobiSdkWrapper.isSDKInitialized).thenReturn(true)
+    whenever(inMobiInitializer.waitingListenerCount).thenReturn(WAITING_LISTENER_COUNT)
+
+    try {
+      adapter.initialize(context, initializationCompleteCallback, listOf(mediationConfiguration))
+    } finally {
+      InMobiInitializationTelemetry.setListener(null)
+    }
+
+    verify(telemetryListener)
+      .onInitializationCompleted(eq(InMobiMediationAdapter.TAG), anyLong(), eq(true), eq(0))
+    verify(initializationCompleteCallback).onInitializationSucceeded()
+  }
+
+  @Test
+  fun initialize_withTelemetryListenerIfInMobiInitializerInitSucceeded_reportsWaitingListeners() {
+    val telemetryListener = mock<InMobiInitializationTelemetry.Listener>()
+    InMobiInitializationTelemetry.setListener(telemetryListener)
+    whenever(inMobiSdkWrapper.isSDKInitialized).thenReturn(false)
+    whenever(mediationConfiguration.serverParameters).thenReturn(serverParameters)
+    whenever(inMobiInitializer.init(any(), any(), any())).doAnswer {
+      whenever(inMobiInitializer.waitingListenerCount).thenReturn(WAITING_LISTENER_COUNT)
+      val listener = it.arguments[2] as Listener
+      listener.onInitializeSuccess()
+    }
+
+    try {
+      adapter.initialize(context, initializationCompleteCallback, listOf(mediationConfiguration))
+    } finally {
+      InMobiInitializationTelemetry.setListener(null)
+    }
+
+    verify(telemetryListener)
+      .onInitializationCompleted(
+        eq(InMobiMediationAdapter.TAG),
+        anyLong(),
+        eq(true),
+        eq(WAITING_LISTENER_COUNT),
+      )
+  }
+
   @Test
   fun collectSignals_invokesOnSuccessCallbackWithBiddingToken() {
     val biddingToken = "inMobiToken"
@@ -242,6 +289,22 @@ class InMobiMediationAdapterTest {
     verify(signalCallbacks).onSuccess(biddingToken)
   }
 
+  @Test
+  fun collectSignals_bidTokenCachingEnabled_getsBiddingTokenOnce() {
+    val biddingToken = "inMobiToken"
+    whenever(inMobiSdkWrapper.getToken(any(), any())).thenReturn(biddingToken)
+    InMobiBidTokenCache.getInstance().setTtlMillis(BID_TOKEN_TTL_MILLIS)
+    try {
+      adapter.collectSignals(rtbSignalData, signalCallbacks)
+      adapter.collectSignals(rtbSignalData, signalCallbacks)
+
+      verify(inMobiSdkWrapper, times(1)).getToken(any(), any())
+      verify(signalCallbacks, times(2)).onSuccess(biddingToken)
+    } finally {
+      InMobiBidTokenCache.getInstance().setTtlMillis(0)
+    }
+  }
+
   @Test
   fun loadBannerAd_invalidBannerSize_invokesFailureCallback() {
     whenever(bannerAdConfiguration.adSize).thenReturn(AdSize(350, 100))
@@ -868,5 +931,7 @@ class InMobiMediationAdapterTest {
     private const val biddingToken = "BiddingToken"
     private const val accountId = "12345"
     private const val TEST_WATERMARK = "WATERMARK"
+    private const val BID_TOKEN_TTL_MILLIS = 10_000L
+    private const val WAITING_LISTENER_COUNT = 3
   }
 }
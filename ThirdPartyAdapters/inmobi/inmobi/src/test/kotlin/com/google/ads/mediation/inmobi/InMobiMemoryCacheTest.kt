@@ -1,5 +1,6 @@
 package com.google.ads.mediation.inmobi
 
+import android.content.res.Resources
 import android.graphics.Bitmap
 import android.graphics.drawable.BitmapDrawable
 import androidx.test.ext.junit.runners.AndroidJUnit4
@@ -7,8 +8,6 @@ import com.google.common.truth.Truth.assertThat
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
-import org.mockito.kotlin.mock
-import org.mockito.kotlin.whenever
 
 @RunWith(AndroidJUnit4::class)
 class InMobiMemoryCacheTest {
@@ -22,8 +21,7 @@ class InMobiMemoryCacheTest {
 
   @Test
   fun put_sizeDidNotExceed_itemStoredInCache() {
-    val drawable = mock<BitmapDrawable>()
-    whenever(drawable.bitmap).thenReturn(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
+    val drawable = createDrawable(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
 
     // when item of size width x height i.e 20 x 20 bytes is put in cache with size 1000 bytes
     inMobiMemoryCache.put("id1", drawable)
@@ -34,12 +32,10 @@ class InMobiMemoryCacheTest {
 
   @Test
   fun put_sizeExceeded_itemLRURemovedFromCache() {
-    val drawable1 = mock<BitmapDrawable>()
-    whenever(drawable1.bitmap).thenReturn(Bitmap.createBitmap(30, 30, Bitmap.Config.ALPHA_8))
+    val drawable1 = createDrawable(Bitmap.createBitmap(30, 30, Bitmap.Config.ALPHA_8))
     // put an item of size 900 bytes in the cache of size 1000 bytes
     inMobiMemoryCache.put("id1", drawable1)
-    val drawable2 = mock<BitmapDrawable>()
-    whenever(drawable2.bitmap).thenReturn(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
+    val drawable2 = createDrawable(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
 
     // ..verify "id1" exists in cache
     assertThat(inMobiMemoryCache.get("id1")).isNotNull()
@@ -55,18 +51,63 @@ class InMobiMemoryCacheTest {
   fun put_itemAlreadyInCache_itemGetsUpdated() {
     val width = 20
     val height = 20
-    val drawable1 = mock<BitmapDrawable>()
-    whenever(drawable1.bitmap).thenReturn(Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
+    val drawable1 = createDrawable(Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
     // put item with id - id1 in cache
     inMobiMemoryCache.put("id1", drawable1)
-    val drawable2 = mock<BitmapDrawable>()
-    whenever(drawable2.bitmap).thenReturn(Bitmap.createBitmap(width, height, Bitmap.Config.ALPHA_8))
+    val drawable2 = createDrawable(Bitmap.createBitmap(width, height, Bitmap.Config.ALPHA_8))
 
     // put item with same id in cache
     inMobiMemoryCache.put("id1", drawable2)
 
     // verify item gets updated
-    assertThat(inMobiMemoryCache.get("id1")).isEqualTo(drawable2)
+    assertThat((inMobiMemoryCache.get("id1") as BitmapDrawable).bitmap)
+      .isSameInstanceAs(drawable2.bitmap)
     assertThat(inMobiMemoryCache.size).isEqualTo(height * width)
   }
+
+  @Test
+  fun get_hitsAndMisses_areCounted() {
+    val drawable = createDrawable(Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
+    inMobiMemoryCache.put("id1", drawable)
+
+    inMobiMemoryCache.get("id1")
+    inMobiMemoryCache.get("id1")
+    inMobiMemoryCache.get("id2")
+
+    assertThat(inMobiMemoryCache.hitCount).isEqualTo(2)
+    assertThat(inMobiMemoryCache.missCount).isEqualTo(1)
+  }
+
+  @Test
+  fun put_sizeExceeded_evictionIsCountedAndSizeReleased() {
+    val drawable1 = createDrawable(Bitmap.createBitmap(30, 30, Bitmap.Config.ALPHA_8))
+    val drawable2 = createDrawable(Bitmap.createBitmap(20, 20, Bitmap.Config.ALPHA_8))
+
+    inMobiMemoryCache.put("id1", drawable1)
+    inMobiMemoryCache.put("id2", drawable2)
+
+    assertThat(inMobiMemoryCache.evictionCount).isEqualTo(1)
+    assertThat(inMobiMemoryCache.size).isEqualTo(20 * 20)
+  }
+
+  @Test
+  fun get_returnsNewDrawableOfCachedImageToEveryCaller() {
+    val drawable = createDrawable(Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8))
+    inMobiMemoryCache.put("id1", drawable)
+
+    val first = inMobiMemoryCache.get("id1") as BitmapDrawable
+    val second = inMobiMemoryCache.get("id1") as BitmapDrawable
+
+    assertThat(first).isNotSameInstanceAs(drawable)
+    assertThat(first).isNotSameInstanceAs(second)
+    assertThat(first.bitmap).isSameInstanceAs(drawable.bitmap)
+    assertThat(second.bitmap).isSameInstanceAs(drawable.bitmap)
+  }
+
+  @Test
+  fun getInstance_returnsSameCacheForEveryCaller() {
+    assertThat(InMobiMemoryCache.getInstance()).isSameInstanceAs(InMobiMemoryCache.getInstance())
+  }
+
+  private fun createDrawable(bitmap: Bitmap) = BitmapDrawable(Resources.getSystem(), bitmap)
 }
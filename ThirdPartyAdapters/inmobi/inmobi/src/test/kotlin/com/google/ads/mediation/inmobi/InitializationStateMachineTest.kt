@@ -0,0 +1,162 @@
+package com.google.ads.mediation.inmobi
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicIntegerArray
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class InitializationStateMachineTest {
+
+  private val stateMachine = InitializationStateMachine<Int>()
+
+  @Test
+  fun register_firstListener_startsInitialization() {
+    assertThat(stateMachine.register(0))
+      .isEqualTo(InitializationStateMachine.REGISTRATION_START_INITIALIZATION)
+    assertThat(stateMachine.state).isEqualTo(InitializationStateMachine.INITIALIZING)
+    assertThat(stateMachine.register(1)).isEqualTo(InitializationStateMachine.REGISTRATION_QUEUED)
+    assertThat(stateMachine.pendingListeners).containsExactly(0, 1).inOrder()
+  }
+
+  @Test
+  fun onInitializationSucceeded_notifiesPendingListenersAndRecordsDuration() {
+    val notifiedListeners = mutableListOf<Int>()
+    stateMachine.register(0)
+    stateMachine.register(1)
+    assertThat(stateMachine.lastInitializationDurationMillis).isEqualTo(-1)
+
+    stateMachine.onInitializationSucceeded { notifiedListeners.add(it) }
+
+    assertThat(notifiedListeners).containsExactly(0, 1).inOrder()
+    assertThat(stateMachine.state).isEqualTo(InitializationStateMachine.INITIALIZED)
+    assertThat(stateMachine.pendingListenerCount).isEqualTo(0)
+    assertThat(stateMachine.lastInitializationDurationMillis).isAtLeast(0)
+    assertThat(stateMachine.register(2))
+      .isEqualTo(InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED)
+  }
+
+  @Test
+  fun onInitializationFailed_nextListenerStartsNewInitialization() {
+    val notifiedListeners = mutableListOf<Int>()
+    stateMachine.register(0)
+
+    stateMachine.onInitializationFailed { notifiedListeners.add(it) }
+
+    assertThat(notifiedListeners).containsExactly(0)
+    assertThat(stateMachine.state).isEqualTo(InitializationStateMachine.UNINITIALIZED)
+    assertThat(stateMachine.register(1))
+      .isEqualTo(InitializationStateMachine.REGISTRATION_START_INITIALIZATION)
+  }
+
+  @Test
+  fun getWaitingListenerCount_whileNotifying_returnsListenersOfCompletedAttempt() {
+    val waitingListenerCounts = mutableListOf<Int>()
+    stateMachine.register(0)
+    stateMachine.register(1)
+
+    stateMachine.onInitializationSucceeded {
+      waitingListenerCounts.add(stateMachine.waitingListenerCount)
+    }
+
+    assertThat(waitingListenerCounts).containsExactly(2, 2)
+    assertThat(stateMachine.waitingListenerCount).isEqualTo(0)
+  }
+
+  @Test
+  fun onInitializationSucceeded_returnsNotifiedListenerCount() {
+    stateMachine.register(0)
+    stateMachine.register(1)
+
+    assertThat(stateMachine.onInitializationSucceeded {}).isEqualTo(2)
+  }
+
+  @Test
+  fun onInitializationFailed_afterSuccess_isIgnored() {
+    val notifiedListeners = mutableListOf<Int>()
+    stateMachine.register(0)
+    stateMachine.onInitializationSucceeded {}
+
+    val notifiedCount = stateMachine.onInitializationFailed { notifiedListeners.add(it) }
+
+    assertThat(notifiedCount).isEqualTo(0)
+    assertThat(notifiedListeners).isEmpty()
+    assertThat(stateMachine.state).isEqualTo(InitializationStateMachine.INITIALIZED)
+    assertThat(stateMachine.register(1))
+      .isEqualTo(InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED)
+  }
+
+  @Test
+  fun onInitializationSucceeded_noInitializationInProgress_isIgnored() {
+    assertThat(stateMachine.onInitializationSucceeded {}).isEqualTo(0)
+    assertThat(stateMachine.state).isEqualTo(InitializationStateMachine.UNINITIALIZED)
+    assertThat(stateMachine.lastInitializationDurationMillis).isEqualTo(-1)
+  }
+
+  @Test
+  fun getWaitingListenerCount_alreadyInitialized_returnsZero() {
+    stateMachine.register(0)
+    stateMachine.register(1)
+    stateMachine.onInitializationSucceeded {}
+
+    assertThat(stateMachine.register(2))
+      .isEqualTo(InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED)
+    assertThat(stateMachine.waitingListenerCount).isEqualTo(0)
+  }
+
+  @Test
+  fun invalidate_initialized_nextListenerStartsNewInitialization() {
+    stateMachine.register(0)
+    stateMachine.onInitializationSucceeded {}
+
+    stateMachine.invalidate()
+
+    assertThat(stateMachine.register(1))
+      .isEqualTo(InitializationStateMachine.REGISTRATION_START_INITIALIZATION)
+  }
+
+  @Test
+  fun register_concurrentWithCompletion_notifiesEveryListenerExactlyOnce() {
+    repeat(STRESS_ITERATIONS) {
+      val stateMachine = InitializationStateMachine<Int>()
+      val notificationCounts = AtomicIntegerArray(LISTENER_COUNT)
+      val initializationStarts = AtomicInteger()
+      val start = CountDownLatch(1)
+      val executor = Executors.newFixedThreadPool(THREAD_COUNT)
+
+      for (listener in 0 until LISTENER_COUNT) {
+        executor.execute {
+          start.await()
+          when (stateMachine.register(listener)) {
+            InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED ->
+              notificationCounts.incrementAndGet(listener)
+            InitializationStateMachine.REGISTRATION_START_INITIALIZATION -> {
+              initializationStarts.incrementAndGet()
+              // Complete the initialization while other threads are still registering.
+              stateMachine.onInitializationSucceeded { notificationCounts.incrementAndGet(it) }
+            }
+          }
+        }
+      }
+      start.countDown()
+      executor.shutdown()
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue()
+
+      assertThat(initializationStarts.get()).isEqualTo(1)
+      for (listener in 0 until LISTENER_COUNT) {
+        assertThat(notificationCounts.get(listener)).isEqualTo(1)
+      }
+    }
+  }
+
+  private companion object {
+    const val STRESS_ITERATIONS = 50
+    const val LISTENER_COUNT = 200
+    const val THREAD_COUNT = 8
+  }
+}
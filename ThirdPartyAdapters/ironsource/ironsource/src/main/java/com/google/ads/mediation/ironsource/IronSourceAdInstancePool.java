@@ -0,0 +1,269 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.ironsource;
+
+import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_AD_ALREADY_LOADED;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.ads.AdError;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the ads of one format that use each IronSource demand-only instance.
+ *
+ * <p>IronSource SDK identifies ads only by their instance ID, so at most one ad per instance can
+ * be loading or loaded in the SDK at a time. That ad is the active ad of the instance and receives
+ * the SDK callbacks. Up to {@link #setMaxAdsPerInstance(int)} ads per instance are accepted: the
+ * ones beyond the active ad wait in arrival order and are loaded, one at a time, as each active ad
+ * is released or garbage collected. An ad that waits longer than {@link #MAX_WAIT_MILLIS} is
+ * failed.
+ *
+ * @param <T> the type of the ads in the pool.
+ */
+public final class IronSourceAdInstancePool<T> {
+
+  @Retention(RetentionPolicy.SOURCE)
+  @IntDef(value = {ACQUIRED, QUEUED, REJECTED})
+  @interface AcquireResult {}
+
+  /** The ad is now the active ad of the instance and must be loaded right away. */
+  static final int ACQUIRED = 0;
+
+  /** The ad waits for the active ad of the instance to be released. */
+  static final int QUEUED = 1;
+
+  /** The instance has no free slot. The ad was not accepted. */
+  static final int REJECTED = 2;
+
+  /** An ad load that waits for a slot in the SDK. */
+  interface WaitingLoad {
+
+    /** Loads the ad, which is now the active ad of its instance. */
+    void load();
+
+    /** Fails the load because the ad waited for too long. */
+    void fail(@NonNull AdError error);
+  }
+
+  /** How long an ad may wait for its instance before its load is failed. */
+  static final long MAX_WAIT_MILLIS = 30000;
+
+  private static volatile int maxAdsPerInstance = 1;
+
+  private final WeakInstanceRegistry<String, T> activeAds;
+  private final Handler handler;
+
+  /** The ads waiting for each instance, in arrival order. Guarded by this. */
+  private final HashMap<String, ArrayDeque<Waiter>> waitingAds = new HashMap<>();
+
+  private final AtomicLong rejectedLoadCount = new AtomicLong();
+  private final AtomicLong waitedLoadCount = new AtomicLong();
+  private final AtomicLong totalWaitMillis = new AtomicLong();
+  private final AtomicLong maxWaitMillis = new AtomicLong();
+
+  IronSourceAdInstancePool(@NonNull WeakInstanceRegistry<String, T> activeAds) {
+    this(activeAds, new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  IronSourceAdInstancePool(
+      @NonNull WeakInstanceRegistry<String, T> activeAds, @NonNull Handler handler) {
+    this.activeAds = activeAds;
+    this.handler = handler;
+    activeAds.setCollectionListener(
+        new WeakInstanceRegistry.CollectionListener<String>() {
+          @Override
+          public void onValueCollected(@NonNull String instanceId) {
+            // The active ad was garbage collected, so its slot is free now.
+            loadNextWaiter(instanceId);
+          }
+        });
+  }
+
+  /**
+   * Sets how many ads per IronSource instance may be loading, loaded or waiting at the same time.
+   * Defaults to 1, which rejects every load for an instance that already has an ad.
+   */
+  public static void setMaxAdsPerInstance(int maxAds) {
+    maxAdsPerInstance = Math.max(1, maxAds);
+  }
+
+  /**
+   * Asks for a slot of the given instance for the given ad.
+   *
+   * @return {@link #ACQUIRED} if the caller must load the ad now, {@link #QUEUED} if {@code
+   *     waitingLoad} will be called once the ad gets its turn, or {@link #REJECTED} if the
+   *     instance has no free slot.
+   */
+  @AcquireResult
+  synchronized int acquire(
+      @NonNull String instanceId, @NonNull T ad, @NonNull WaitingLoad waitingLoad) {
+    // Ads that are already waiting for a free slot get it first.
+    loadNextWaiter(instanceId);
+    if (activeAds.putIfAbsent(instanceId, ad)) {
+      return ACQUIRED;
+    }
+
+    ArrayDeque<Waiter> waiters = waitingAds.get(instanceId);
+    int waiterCount = waiters != null ? waiters.size() : 0;
+    // The active ad takes one slot of the instance.
+    if (1 + waiterCount >= maxAdsPerInstance) {
+      rejectedLoadCount.incrementAndGet();
+      return REJECTED;
+    }
+
+    if (waiters == null) {
+      waiters = new ArrayDeque<>();
+      waitingAds.put(instanceId, waiters);
+    }
+    Waiter waiter = new Waiter(instanceId, ad, waitingLoad);
+    waiters.add(waiter);
+    handler.postDelayed(waiter.timeout, MAX_WAIT_MILLIS);
+    return QUEUED;
+  }
+
+  /** Returns the active ad of the given instance, if any. */
+  @Nullable
+  T get(@NonNull String instanceId) {
+    return activeAds.get(instanceId);
+  }
+
+  /**
+   * Releases the active ad of the given instance, and loads the next waiting ad, if any, on the
+   * main thread.
+   */
+  synchronized void release(@NonNull String instanceId) {
+    activeAds.remove(instanceId);
+    loadNextWaiter(instanceId);
+  }
+
+  /** Returns the number of loads rejected because their instance had no free slot. */
+  public long getRejectedLoadCount() {
+    return rejectedLoadCount.get();
+  }
+
+  /** Returns the number of loads that waited for their instance before being loaded. */
+  public long getWaitedLoadCount() {
+    return waitedLoadCount.get();
+  }
+
+  /** Returns the total time, in milliseconds, loads waited for their instance. */
+  public long getTotalWaitMillis() {
+    return totalWaitMillis.get();
+  }
+
+  /** Returns the longest time, in milliseconds, a load waited for its instance. */
+  public long getMaxWaitMillis() {
+    return maxWaitMillis.get();
+  }
+
+  /** Returns the number of ads waiting for the given instance. */
+  synchronized int getWaitingAdCount(@NonNull String instanceId) {
+    ArrayDeque<Waiter> waiters = waitingAds.get(instanceId);
+    return waiters != null ? waiters.size() : 0;
+  }
+
+  /**
+   * Makes the next waiting ad the active ad of the given instance, if the instance has no active
+   * ad, and loads it on the main thread.
+   */
+  private synchronized void loadNextWaiter(@NonNull String instanceId) {
+    ArrayDeque<Waiter> waiters = waitingAds.get(instanceId);
+    if (waiters == null || !activeAds.putIfAbsent(instanceId, waiters.peek().ad)) {
+      return;
+    }
+
+    final Waiter nextWaiter = waiters.poll();
+    if (waiters.isEmpty()) {
+      waitingAds.remove(instanceId);
+    }
+    handler.removeCallbacks(nextWaiter.timeout);
+    handler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            recordWait(SystemClock.elapsedRealtime() - nextWaiter.queuedTimeMillis);
+            nextWaiter.waitingLoad.load();
+          }
+        });
+  }
+
+  /** Fails the given ad if it is still waiting, since it has waited for too long. */
+  private void failWaiter(@NonNull Waiter waiter) {
+    synchronized (this) {
+      ArrayDeque<Waiter> waiters = waitingAds.get(waiter.instanceId);
+      if (waiters == null || !waiters.remove(waiter)) {
+        return;
+      }
+      if (waiters.isEmpty()) {
+        waitingAds.remove(waiter.instanceId);
+      }
+    }
+
+    // The Google Mobile Ads SDK has most likely given up on this load already.
+    String timeoutMessage =
+        String.format(
+            "Timed out waiting for another IronSource ad to finish with instance ID: %s",
+            waiter.instanceId);
+    waiter.waitingLoad.fail(
+        new AdError(ERROR_AD_ALREADY_LOADED, timeoutMessage, ADAPTER_ERROR_DOMAIN));
+  }
+
+  private void recordWait(long waitMillis) {
+    waitedLoadCount.incrementAndGet();
+    totalWaitMillis.addAndGet(waitMillis);
+    long currentMax;
+    do {
+      currentMax = maxWaitMillis.get();
+    } while (waitMillis > currentMax && !maxWaitMillis.compareAndSet(currentMax, waitMillis));
+    Log.d(TAG, String.format("IronSource ad load waited %d ms for its instance.", waitMillis));
+  }
+
+  private final class Waiter {
+
+    final String instanceId;
+    final T ad;
+    final WaitingLoad waitingLoad;
+    final long queuedTimeMillis = SystemClock.elapsedRealtime();
+
+    /** Fails the ad once it has waited for {@link #MAX_WAIT_MILLIS}. Runs on the main thread. */
+    final Runnable timeout =
+        new Runnable() {
+          @Override
+          public void run() {
+            failWaiter(Waiter.this);
+          }
+        };
+
+    Waiter(@NonNull String instanceId, @NonNull T ad, @NonNull WaitingLoad waitingLoad) {
+      this.instanceId = instanceId;
+      this.ad = ad;
+      this.waitingLoad = waitingLoad;
+    }
+  }
+}
@@ -29,7 +29,9 @@ import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
 import com.ironsource.mediationsdk.ISBannerSize;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -38,15 +40,15 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class IronSourceAdapterUtils {
 
+  /** Banner sizes IronSource supports, matched against the requested ad size. */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(
+          Arrays.asList(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER));
+
   @Nullable
   public static ISBannerSize getISBannerSizeFromGoogleAdSize(
       @NonNull Context context, @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-    potentials.add(AdSize.LARGE_BANNER);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
     if (closestSize == null) {
       return null;
     }
@@ -38,14 +38,15 @@ import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 import com.ironsource.mediationsdk.ISBannerSize;
 import com.ironsource.mediationsdk.IronSource;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyBannerLayout;
-import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceBannerAd implements MediationBannerAd {
 
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceBannerAd>>
-      availableBannerInstances = new ConcurrentHashMap<>();
+  static final WeakInstanceRegistry<String, IronSourceBannerAd> availableBannerInstances =
+      new WeakInstanceRegistry<>();
+
+  private static final IronSourceAdInstancePool<IronSourceBannerAd> instancePool =
+      new IronSourceAdInstancePool<>(availableBannerInstances);
 
   private static final IronSourceBannerAdListener ironSourceBannerListener =
       new IronSourceBannerAdListener();
@@ -102,13 +103,17 @@ public class IronSourceBannerAd implements MediationBannerAd {
 
   /** Instance map access. */
   static IronSourceBannerAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableBannerInstances.containsKey(instanceId)
-        ? availableBannerInstances.get(instanceId).get()
-        : null;
+    return instancePool.get(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableBannerInstances.remove(instanceId);
+    instancePool.release(instanceId);
+  }
+
+  /** Returns the pool that tracks the banner ads of every IronSource instance. */
+  @NonNull
+  public static IronSourceAdInstancePool<IronSourceBannerAd> getInstancePool() {
+    return instancePool;
   }
 
   /**
@@ -132,8 +137,42 @@ public class IronSourceBannerAd implements MediationBannerAd {
       return;
     }
 
+    int acquireResult =
+        instancePool.acquire(
+            instanceID,
+            this,
+            new IronSourceAdInstancePool.WaitingLoad() {
+              @Override
+              public void load() {
+                loadFromInstance();
+              }
+
+              @Override
+              public void fail(@NonNull AdError error) {
+                onAdFailedToLoad(error);
+              }
+            });
+    switch (acquireResult) {
+      case IronSourceAdInstancePool.ACQUIRED:
+        loadFromInstance();
+        break;
+      case IronSourceAdInstancePool.QUEUED:
+        Log.d(TAG, String.format("IronSource banner is waiting for instance ID: %s", instanceID));
+        break;
+      default:
+        // Every slot of this instance is already taken.
+        AdError adError =
+            new AdError(
+                ERROR_AD_ALREADY_LOADED,
+                "An IronSource banner is already loaded for instance ID: " + instanceID,
+                ADAPTER_ERROR_DOMAIN);
+        onAdFailedToLoad(adError);
+        break;
+    }
+  }
+
+  private void loadFromInstance() {
     Activity activity = (Activity) context;
-    availableBannerInstances.put(instanceID, new WeakReference<>(this));
     ironSourceAdView = new FrameLayout(context);
     ironSourceBannerLayout = IronSource.createBannerForDemandOnly(activity, bannerSizeIronSource);
     ironSourceBannerLayout.setBannerDemandOnlyListener(ironSourceBannerListener);
@@ -150,17 +189,6 @@ public class IronSourceBannerAd implements MediationBannerAd {
       return false;
     }
 
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableBannerInstances)) {
-      AdError adError =
-          new AdError(
-              ERROR_AD_ALREADY_LOADED,
-              "An IronSource banner is already loaded for instance ID: " + instanceID,
-              ADAPTER_ERROR_DOMAIN);
-      onAdFailedToLoad(adError);
-      return false;
-    }
-
     bannerSizeIronSource = IronSourceAdapterUtils.getISBannerSizeFromGoogleAdSize(context, adSize);
     if (bannerSizeIronSource == null) {
       AdError sizeError =
@@ -16,6 +16,7 @@ package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRONSOURCE_SDK_ERROR_DOMAIN;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.isDebugLoggingEnabled;
 import static com.ironsource.mediationsdk.logger.IronSourceError.ERROR_DO_BN_LOAD_ALREADY_IN_PROGRESS;
 import static com.ironsource.mediationsdk.logger.IronSourceError.ERROR_DO_IS_LOAD_ALREADY_IN_PROGRESS;
 
@@ -30,7 +31,9 @@ import com.ironsource.mediationsdk.logger.IronSourceError;
 public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
 
   public void onBannerAdLoaded(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource banner ad loaded for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource banner ad loaded for instance ID: %s", instanceId));
+    }
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
@@ -77,7 +80,9 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   }
 
   public void onBannerAdShown(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource banner ad shown for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource banner ad shown for instance ID: %s", instanceId));
+    }
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
     // The banner ad instance will be null if it fails to load or another banner ad is showing.
@@ -92,7 +97,9 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   }
 
   public void onBannerAdClicked(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource banner ad clicked for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource banner ad clicked for instance ID: %s", instanceId));
+    }
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
@@ -106,11 +113,13 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   }
 
   public void onBannerAdLeftApplication(@NonNull String instanceId) {
-    Log.d(
-        TAG,
-        String.format(
-            "IronSource banner ad has caused user to leave the application for instance ID: %s",
-            instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(
+          TAG,
+          String.format(
+              "IronSource banner ad has caused user to leave the application for instance ID: %s",
+              instanceId));
+    }
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
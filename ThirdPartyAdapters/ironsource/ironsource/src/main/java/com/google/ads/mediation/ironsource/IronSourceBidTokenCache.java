@@ -0,0 +1,204 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.ironsource;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Bundle;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.ads.MobileAds;
+import com.google.android.gms.ads.RequestConfiguration;
+import com.google.android.gms.ads.mediation.MediationConfiguration;
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reuses the bid tokens IronSource SDK generates for signal collection, so that auctions repeating
+ * within a short time do not generate the same token again.
+ *
+ * <p>Tokens are cached by the ad formats and server parameters of the signal request and by the
+ * privacy state of the user, and are reused until the time-to-live passes. Caching is disabled by
+ * default, since a network may expect a fresh token for every auction. Call {@link #invalidate()}
+ * whenever the app updates user consent through an API this cache cannot observe.
+ */
+public final class IronSourceBidTokenCache {
+
+  /** IAB consent strings that the privacy state of the user is read from. */
+  private static final String[] IAB_PRIVACY_KEYS = {
+    "IABTCF_TCString", "IABUSPrivacy_String", "IABGPP_HDR_GppString"
+  };
+
+  private static final IronSourceBidTokenCache instance = new IronSourceBidTokenCache();
+
+  private final ConcurrentHashMap<String, CachedToken> tokens = new ConcurrentHashMap<>();
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  private volatile long ttlMillis;
+
+  private IronSourceBidTokenCache() {}
+
+  @NonNull
+  public static IronSourceBidTokenCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets how long a bid token may be reused after it was generated. A value of 0, the default,
+   * disables caching.
+   */
+  public void setTtlMillis(long ttlMillis) {
+    this.ttlMillis = Math.max(0, ttlMillis);
+    if (ttlMillis <= 0) {
+      tokens.clear();
+    }
+  }
+
+  /**
+   * Drops every cached bid token and the prewarmed one, for example after the user's consent
+   * changed.
+   */
+  public void invalidate() {
+    tokens.clear();
+    IronSourceBidTokenPrewarmer.getInstance().invalidate();
+  }
+
+  /** Returns the number of signal requests served with a cached bid token. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /** Returns the number of signal requests that had to generate a bid token while caching. */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Returns whether bid tokens are cached at all. */
+  boolean isEnabled() {
+    return ttlMillis > 0;
+  }
+
+  /**
+   * Returns the cached bid token for the given key, or {@code null} if caching is disabled or the
+   * token is missing or expired.
+   */
+  @Nullable
+  String get(@NonNull String key) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    CachedToken cachedToken = tokens.get(key);
+    if (cachedToken != null
+        && SystemClock.elapsedRealtime() - cachedToken.createdTimeMillis > ttlMillis) {
+      tokens.remove(key, cachedToken);
+      cachedToken = null;
+    }
+    if (cachedToken == null) {
+      missCount.incrementAndGet();
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return cachedToken.token;
+  }
+
+  /** Caches a newly generated bid token for the given key, if caching is enabled. */
+  void put(@NonNull String key, @NonNull String token) {
+    if (isEnabled()) {
+      tokens.put(key, new CachedToken(token));
+    }
+  }
+
+  /**
+   * Returns the cache key of a signal request: its ad formats, its server parameters and the
+   * privacy state of the user, followed by the given network specific inputs.
+   */
+  @NonNull
+  static String createKey(@NonNull RtbSignalData rtbSignalData, @NonNull Object... extraInputs) {
+    StringBuilder key = new StringBuilder();
+    List<MediationConfiguration> configurations = rtbSignalData.getConfigurations();
+    if (configurations != null) {
+      for (MediationConfiguration configuration : configurations) {
+        key.append(configuration.getFormat()).append('{');
+        appendBundle(key, configuration.getServerParameters());
+        key.append('}');
+      }
+    }
+
+    key.append('|').append(createPrivacyKey(rtbSignalData.getContext()));
+
+    for (Object extraInput : extraInputs) {
+      key.append('|').append(extraInput);
+    }
+    return key.toString();
+  }
+
+  /**
+   * Returns the privacy state of the user that bid tokens depend on: the child-directed and
+   * under-age tags of the app, and the IAB consent strings if {@code context} is given.
+   */
+  @NonNull
+  static String createPrivacyKey(@Nullable Context context) {
+    RequestConfiguration requestConfiguration = MobileAds.getRequestConfiguration();
+    StringBuilder key = new StringBuilder();
+    key.append("coppa=")
+        .append(requestConfiguration.getTagForChildDirectedTreatment())
+        .append("|tfua=")
+        .append(requestConfiguration.getTagForUnderAgeOfConsent());
+
+    if (context != null) {
+      // IAB consent strings are stored in the default shared preferences of the app. Only these
+      // are read, since copying every preference of the app on each request is costly.
+      SharedPreferences preferences =
+          context.getSharedPreferences(
+              context.getPackageName() + "_preferences", Context.MODE_PRIVATE);
+      for (String privacyKey : IAB_PRIVACY_KEYS) {
+        key.append('|')
+            .append(privacyKey)
+            .append('=')
+            .append(preferences.getString(privacyKey, null));
+      }
+    }
+    return key.toString();
+  }
+
+  private static void appendBundle(@NonNull StringBuilder key, @Nullable Bundle bundle) {
+    if (bundle == null) {
+      return;
+    }
+    List<String> bundleKeys = new ArrayList<>(bundle.keySet());
+    Collections.sort(bundleKeys);
+    for (String bundleKey : bundleKeys) {
+      key.append(bundleKey).append('=').append(bundle.get(bundleKey)).append(',');
+    }
+  }
+
+  private static final class CachedToken {
+
+    final String token;
+    final long createdTimeMillis = SystemClock.elapsedRealtime();
+
+    CachedToken(@NonNull String token) {
+      this.token = token;
+    }
+  }
+}
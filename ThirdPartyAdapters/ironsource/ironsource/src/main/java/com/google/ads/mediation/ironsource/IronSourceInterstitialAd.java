@@ -32,14 +32,15 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
 import com.ironsource.mediationsdk.IronSource;
-import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceInterstitialAd>>
-      availableInterstitialInstances = new ConcurrentHashMap<>();
+  static final WeakInstanceRegistry<String, IronSourceInterstitialAd>
+      availableInterstitialInstances = new WeakInstanceRegistry<>();
+
+  private static final IronSourceAdInstancePool<IronSourceInterstitialAd> instancePool =
+      new IronSourceAdInstancePool<>(availableInterstitialInstances);
 
   private static final IronSourceInterstitialAdListener ironSourceInterstitialListener =
       new IronSourceInterstitialAdListener();
@@ -66,13 +67,17 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   /** Getters and Setters. */
   static IronSourceInterstitialAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableInterstitialInstances.containsKey(instanceId)
-        ? availableInterstitialInstances.get(instanceId).get()
-        : null;
+    return instancePool.get(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableInterstitialInstances.remove(instanceId);
+    instancePool.release(instanceId);
+  }
+
+  /** Returns the pool that tracks the interstitial ads of every IronSource instance. */
+  @NonNull
+  public static IronSourceAdInstancePool<IronSourceInterstitialAd> getInstancePool() {
+    return instancePool;
   }
 
   static IronSourceInterstitialAdListener getIronSourceInterstitialListener() {
@@ -94,45 +99,55 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
 
   /** Attempts to load an @{link IronSource} interstitial ad. */
   public void loadWaterfallAd() {
-    if (!loadValidConfig()) {
-      return;
-    }
-    Activity activity = (Activity) context;
-    IronSource.loadISDemandOnlyInterstitial(activity, instanceID);
-  }
-
-  /** Returns true if all the parameters needed to load an ad are valid. */
-  private boolean loadValidConfig() {
-    if (!isParamsValid()) {
-      return false;
-    }
-
-    availableInterstitialInstances.put(instanceID, new WeakReference<>(this));
-    Log.d(
-        TAG, String.format("Loading IronSource interstitial ad with instance ID: %s", instanceID));
-    return true;
-  }
-
-  private boolean isParamsValid() {
     AdError loadError = IronSourceAdapterUtils.validateIronSourceAdLoadParams(context, instanceID);
     if (loadError != null) {
       onAdFailedToLoad(loadError);
-      return false;
+      return;
     }
 
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(
-        instanceID, availableInterstitialInstances)) {
-      String errorMessage =
-          String.format(
-              "An IronSource interstitial ad is already loading for instance ID: %s", instanceID);
-      AdError concurrentError =
-          new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
-      onAdFailedToLoad(concurrentError);
-      return false;
+    int acquireResult =
+        instancePool.acquire(
+            instanceID,
+            this,
+            new IronSourceAdInstancePool.WaitingLoad() {
+              @Override
+              public void load() {
+                loadFromInstance();
+              }
+
+              @Override
+              public void fail(@NonNull AdError error) {
+                onAdFailedToLoad(error);
+              }
+            });
+    switch (acquireResult) {
+      case IronSourceAdInstancePool.ACQUIRED:
+        loadFromInstance();
+        break;
+      case IronSourceAdInstancePool.QUEUED:
+        Log.d(
+            TAG,
+            String.format(
+                "IronSource interstitial ad is waiting for instance ID: %s", instanceID));
+        break;
+      default:
+        // Every slot of this instance is already taken.
+        String errorMessage =
+            String.format(
+                "An IronSource interstitial ad is already loading for instance ID: %s",
+                instanceID);
+        AdError concurrentError =
+            new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
+        onAdFailedToLoad(concurrentError);
+        break;
     }
+  }
 
-    return true;
+  private void loadFromInstance() {
+    Log.d(
+        TAG, String.format("Loading IronSource interstitial ad with instance ID: %s", instanceID));
+    Activity activity = (Activity) context;
+    IronSource.loadISDemandOnlyInterstitial(activity, instanceID);
   }
 
   @Override
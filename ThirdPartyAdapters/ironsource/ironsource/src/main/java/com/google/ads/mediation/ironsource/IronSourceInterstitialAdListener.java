@@ -16,6 +16,7 @@ package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRONSOURCE_SDK_ERROR_DOMAIN;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.isDebugLoggingEnabled;
 
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -28,8 +29,11 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdReady(@NonNull String instanceId) {
-    Log.d(
-        TAG, String.format("IronSource interstitial ad is ready for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(
+          TAG,
+          String.format("IronSource interstitial ad is ready for instance ID: %s", instanceId));
+    }
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -66,7 +70,11 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdOpened(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource interstitial ad opened for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(
+          TAG,
+          String.format("IronSource interstitial ad opened for instance ID: %s", instanceId));
+    }
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -82,7 +90,11 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdClosed(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource interstitial ad closed for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(
+          TAG,
+          String.format("IronSource interstitial ad closed for instance ID: %s", instanceId));
+    }
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -122,7 +134,11 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdClicked(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource interstitial ad clicked for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(
+          TAG,
+          String.format("IronSource interstitial ad clicked for instance ID: %s", instanceId));
+    }
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -21,11 +21,13 @@ import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.Build;
 import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
@@ -66,6 +68,13 @@ public class IronSourceMediationAdapter extends RtbAdapter {
 
   private static final AtomicBoolean isInitialized = new AtomicBoolean(false);
 
+  /** Holds ad loads that arrive while IronSource SDK is initializing. */
+  private static final IronSourcePendingLoadQueue pendingLoadQueue =
+      new IronSourcePendingLoadQueue();
+
+  /** Longest tag {@link Log#isLoggable} accepts before Android 8.0. */
+  private static final int MAX_LOGGABLE_TAG_LENGTH = 23;
+
   // region Error codes
   /** IronSource adapter error domain. */
   public static final String ADAPTER_ERROR_DOMAIN = "com.google.ads.mediation.ironsource";
@@ -80,7 +89,9 @@ public class IronSourceMediationAdapter extends RtbAdapter {
         ERROR_REQUIRES_ACTIVITY_CONTEXT,
         ERROR_AD_ALREADY_LOADED,
         ERROR_BANNER_SIZE_MISMATCH,
-        ERROR_SDK_NOT_INITIALIZED
+        ERROR_SDK_NOT_INITIALIZED,
+        ERROR_SIGNAL_COLLECTION_TIMEOUT,
+        ERROR_SIGNAL_COLLECTION_FAILED
       })
   public @interface AdapterError {}
 
@@ -102,6 +113,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
   /** Call show before loaded success. */
   public static final int ERROR_CALL_SHOW_BEFORE_LOADED_SUCCESS = 107;
 
+  /**
+   * IronSource SDK did not generate a bid token before the signal collection deadline, or too many
+   * bid token requests were pending to start a new one.
+   */
+  public static final int ERROR_SIGNAL_COLLECTION_TIMEOUT = 108;
+
+  /** IronSource SDK threw an exception while generating a bid token. */
+  public static final int ERROR_SIGNAL_COLLECTION_FAILED = 109;
+
   // endregion
 
   @NonNull
@@ -155,15 +175,19 @@ public class IronSourceMediationAdapter extends RtbAdapter {
 
   @Override
   public void initialize(
-      @NonNull Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull final Context context,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
-
     if (isInitialized.get()) {
-      initializationCompleteCallback.onInitializationSucceeded();
+      IronSourceInitializationTelemetry.track(
+              TAG, callback, IronSourceInitializationTelemetry.NO_WAITING_LISTENERS)
+          .onInitializationSucceeded();
       return;
     }
 
+    final InitializationCompleteCallback initializationCompleteCallback =
+        IronSourceInitializationTelemetry.track(TAG, callback, null);
+
     HashSet<String> appKeys = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       Bundle serverParameters = configuration.getServerParameters();
@@ -215,6 +239,7 @@ public class IronSourceMediationAdapter extends RtbAdapter {
     InitRequest initRequest =
         new InitRequest.Builder(appKey).withLegacyAdFormats(adFormatsToInitialize).build();
 
+    pendingLoadQueue.onInitializationStarted();
     IronSourceAds.init(
         context,
         initRequest,
@@ -223,12 +248,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
           public void onInitSuccess() {
             isInitialized.set(true);
             initializationCompleteCallback.onInitializationSucceeded();
+            pendingLoadQueue.onInitializationSucceeded();
+            prewarmBidToken(context);
           }
 
           @Override
           public void onInitFailed(@NonNull final IronSourceError ironSourceError) {
             initializationCompleteCallback.onInitializationFailed(
                 ironSourceError.getErrorMessage());
+            pendingLoadQueue.onInitializationFailed();
           }
         });
 
@@ -241,7 +269,59 @@ public class IronSourceMediationAdapter extends RtbAdapter {
   @Override
   public void collectSignals(
       @NonNull RtbSignalData rtbSignalData, @NonNull SignalCallbacks signalCallbacks) {
-    signalCallbacks.onSuccess(IronSource.getISDemandOnlyBiddingData(rtbSignalData.getContext()));
+    final IronSourceBidTokenCache bidTokenCache = IronSourceBidTokenCache.getInstance();
+    final String cacheKey =
+        bidTokenCache.isEnabled() ? IronSourceBidTokenCache.createKey(rtbSignalData) : null;
+    String cachedBidToken = cacheKey != null ? bidTokenCache.get(cacheKey) : null;
+    if (cachedBidToken != null) {
+      signalCallbacks.onSuccess(cachedBidToken);
+      return;
+    }
+
+    IronSourceBidTokenPrewarmer bidTokenPrewarmer = IronSourceBidTokenPrewarmer.getInstance();
+    String prewarmedBidToken =
+        bidTokenPrewarmer.isEnabled()
+            ? bidTokenPrewarmer.consume(
+                IronSourceBidTokenPrewarmer.createKey(
+                    rtbSignalData.getContext(), IronSourceBidTokenPrewarmer.ANY_REQUEST_KEY))
+            : null;
+    if (prewarmedBidToken != null) {
+      if (cacheKey != null) {
+        bidTokenCache.put(cacheKey, prewarmedBidToken);
+      }
+      signalCallbacks.onSuccess(prewarmedBidToken);
+      return;
+    }
+
+    final Context context = rtbSignalData.getContext();
+    IronSourceSignalCollector.collect(
+        new IronSourceSignalCollector.TokenGenerator() {
+          @Nullable
+          @Override
+          public String generateToken() {
+            String bidToken = IronSource.getISDemandOnlyBiddingData(context);
+            if (cacheKey != null && bidToken != null) {
+              bidTokenCache.put(cacheKey, bidToken);
+            }
+            return bidToken;
+          }
+        },
+        signalCallbacks);
+  }
+
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private static void prewarmBidToken(@NonNull final Context context) {
+    IronSourceBidTokenPrewarmer.getInstance()
+        .prewarm(
+            IronSourceBidTokenPrewarmer.createKey(
+                context, IronSourceBidTokenPrewarmer.ANY_REQUEST_KEY),
+            new IronSourceBidTokenPrewarmer.TokenGenerator() {
+              @Nullable
+              @Override
+              public String generateToken() {
+                return IronSource.getISDemandOnlyBiddingData(context);
+              }
+            });
   }
 
   @Override
@@ -256,9 +336,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               ERROR_SDK_NOT_INITIALIZED,
               "Failed to load IronSource rewarded ad since IronSource SDK is not initialized.",
               ADAPTER_ERROR_DOMAIN);
-
-      Log.w(TAG, adError.getMessage());
-      mediationAdLoadCallback.onFailure(adError);
+      loadWhenInitialized(
+          new Runnable() {
+            @Override
+            public void run() {
+              loadRewardedAd(mediationRewardedAdConfiguration, mediationAdLoadCallback);
+            }
+          },
+          adError,
+          mediationAdLoadCallback);
       return;
     }
 
@@ -278,9 +364,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               "Failed to load IronSource RTB rewarded ad since IronSource SDK is not "
                   + "initialized.",
               ADAPTER_ERROR_DOMAIN);
-
-      Log.w(TAG, adError.getMessage());
-      callback.onFailure(adError);
+      loadWhenInitialized(
+          new Runnable() {
+            @Override
+            public void run() {
+              loadRtbRewardedAd(adConfiguration, callback);
+            }
+          },
+          adError,
+          callback);
       return;
     }
 
@@ -317,8 +409,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               "Failed to load IronSource interstitial ad since IronSource SDK is not "
                   + "initialized.",
               IRONSOURCE_SDK_ERROR_DOMAIN);
-      Log.w(TAG, loadError.getMessage());
-      mediationAdLoadCallback.onFailure(loadError);
+      loadWhenInitialized(
+          new Runnable() {
+            @Override
+            public void run() {
+              loadInterstitialAd(mediationInterstitialAdConfiguration, mediationAdLoadCallback);
+            }
+          },
+          loadError,
+          mediationAdLoadCallback);
       return;
     }
 
@@ -340,8 +439,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               "Failed to load IronSource RTB interstitial ad since IronSource SDK is not "
                   + "initialized.",
               IRONSOURCE_SDK_ERROR_DOMAIN);
-      Log.w(TAG, loadError.getMessage());
-      mediationAdLoadCallback.onFailure(loadError);
+      loadWhenInitialized(
+          new Runnable() {
+            @Override
+            public void run() {
+              loadRtbInterstitialAd(mediationInterstitialAdConfiguration, mediationAdLoadCallback);
+            }
+          },
+          loadError,
+          mediationAdLoadCallback);
       return;
     }
 
@@ -363,8 +469,15 @@ public class IronSourceMediationAdapter extends RtbAdapter {
               ERROR_SDK_NOT_INITIALIZED,
               "Failed to load IronSource banner ad since IronSource SDK is not initialized.",
               IRONSOURCE_SDK_ERROR_DOMAIN);
-      Log.w(TAG, loadError.getMessage());
-      mediationAdLoadCallback.onFailure(loadError);
+      loadWhenInitialized(
+          new Runnable() {
+            @Override
+            public void run() {
+              loadBannerAd(mediationBannerAdConfiguration, mediationAdLoadCallback);
+            }
+          },
+          loadError,
+          mediationAdLoadCallback);
       return;
     }
 
@@ -373,6 +486,64 @@ public class IronSourceMediationAdapter extends RtbAdapter {
     ironSourceBannerAd.loadAd();
   }
 
+  /**
+   * Runs the given load once IronSource SDK finishes the initialization in progress. If the
+   * initialization completed successfully in the meantime, the load runs right away. If no
+   * initialization is in progress, or it does not complete successfully in time, the load fails
+   * with the given error.
+   */
+  private static void loadWhenInitialized(
+      @NonNull final Runnable load,
+      @NonNull final AdError notInitializedError,
+      @NonNull final MediationAdLoadCallback<?, ?> mediationAdLoadCallback) {
+    boolean queued =
+        pendingLoadQueue.offer(
+            new IronSourcePendingLoadQueue.PendingLoad() {
+              @Override
+              public void load() {
+                load.run();
+              }
+
+              @Override
+              public void fail() {
+                Log.w(TAG, notInitializedError.getMessage());
+                mediationAdLoadCallback.onFailure(notInitializedError);
+              }
+            });
+    if (queued) {
+      return;
+    }
+    // The initialization may have succeeded, and drained the queue, since the caller checked.
+    if (isInitialized.get()) {
+      load.run();
+      return;
+    }
+    Log.w(TAG, notInitializedError.getMessage());
+    mediationAdLoadCallback.onFailure(notInitializedError);
+  }
+
+  /**
+   * Sets a listener that receives the time every ad load spent waiting for IronSource SDK to
+   * initialize.
+   */
+  public static void setPendingLoadListener(
+      @Nullable IronSourcePendingLoadQueue.Listener listener) {
+    pendingLoadQueue.setListener(listener);
+  }
+
+  /**
+   * Returns whether debug messages are logged for IronSource SDK ad callbacks, so that their
+   * messages are only built when they are. They are logged once debug logging is enabled for the
+   * adapter's tag, e.g. with {@code adb shell setprop log.tag.IronSourceMediationAdapter DEBUG}.
+   */
+  static boolean isDebugLoggingEnabled() {
+    if (TAG.length() > MAX_LOGGABLE_TAG_LENGTH && Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+      // Log.isLoggable() throws for longer tags before Android 8.0.
+      return false;
+    }
+    return Log.isLoggable(TAG, Log.DEBUG);
+  }
+
   @VisibleForTesting
   public void setIsInitialized(boolean isInitializedValue) {
     isInitialized.set(isInitializedValue);
@@ -0,0 +1,196 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.ironsource;
+
+import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds ad loads that arrive while IronSource SDK is initializing, and dispatches them in arrival
+ * order once the initialization completes. A load that waits longer than the deadline, or whose
+ * initialization fails, is failed instead.
+ */
+public final class IronSourcePendingLoadQueue {
+
+  /** Receives the time every queued load spent waiting for IronSource SDK to initialize. */
+  public interface Listener {
+
+    /**
+     * Called when a queued load leaves the queue.
+     *
+     * @param queuedMillis the time the load waited for IronSource SDK to initialize.
+     * @param dispatched {@code true} if the load was dispatched after IronSource SDK initialized,
+     *     {@code false} if it failed because the initialization failed or took too long.
+     */
+    void onPendingLoadCompleted(long queuedMillis, boolean dispatched);
+  }
+
+  /** An ad load waiting for IronSource SDK to initialize. */
+  interface PendingLoad {
+
+    /** Loads the ad now that IronSource SDK is initialized. */
+    void load();
+
+    /** Fails the load because IronSource SDK did not initialize in time. */
+    void fail();
+  }
+
+  /** How long a load waits for IronSource SDK to initialize before it is failed. */
+  static final long DEFAULT_TIMEOUT_MILLIS = 10000;
+
+  private final Handler handler;
+  private final long timeoutMillis;
+
+  /** Loads waiting for the initialization in progress, in arrival order. Guarded by this. */
+  private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+  /** Whether an initialization is in progress. Guarded by this. */
+  private boolean initializing;
+
+  @Nullable
+  private volatile Listener listener;
+
+  IronSourcePendingLoadQueue() {
+    this(new Handler(Looper.getMainLooper()), DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  @VisibleForTesting
+  IronSourcePendingLoadQueue(@NonNull Handler handler, long timeoutMillis) {
+    this.handler = handler;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  void setListener(@Nullable Listener listener) {
+    this.listener = listener;
+  }
+
+  /** Marks the start of an IronSource SDK initialization. Loads offered from now on are queued. */
+  synchronized void onInitializationStarted() {
+    initializing = true;
+  }
+
+  /**
+   * Queues the given load until the initialization in progress completes.
+   *
+   * @return {@code false} if no initialization is in progress, in which case the load was not
+   *     queued.
+   */
+  boolean offer(@NonNull PendingLoad pendingLoad) {
+    Entry entry = new Entry(pendingLoad);
+    synchronized (this) {
+      if (!initializing) {
+        return false;
+      }
+      entries.add(entry);
+    }
+    handler.postDelayed(entry, timeoutMillis);
+    return true;
+  }
+
+  /** Dispatches every queued load, in arrival order. */
+  void onInitializationSucceeded() {
+    complete(true);
+  }
+
+  /** Fails every queued load. */
+  void onInitializationFailed() {
+    complete(false);
+  }
+
+  /** Returns the number of loads waiting for the initialization in progress. */
+  synchronized int getPendingLoadCount() {
+    return entries.size();
+  }
+
+  private void complete(final boolean dispatch) {
+    final List<Entry> drained;
+    synchronized (this) {
+      initializing = false;
+      drained = new ArrayList<>(entries);
+      entries.clear();
+    }
+    if (drained.isEmpty()) {
+      return;
+    }
+
+    // IronSource SDK may report the initialization outcome on any thread, but ads are loaded on
+    // the main thread.
+    handler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            for (Entry entry : drained) {
+              finish(entry, dispatch);
+            }
+          }
+        });
+  }
+
+  private void finish(@NonNull Entry entry, boolean dispatch) {
+    if (!entry.finished.compareAndSet(false, true)) {
+      return;
+    }
+    handler.removeCallbacks(entry);
+
+    long queuedMillis = SystemClock.elapsedRealtime() - entry.queuedTimeMillis;
+    Log.d(
+        TAG,
+        String.format(
+            "IronSource ad load %s after waiting %d ms for IronSource SDK to initialize.",
+            dispatch ? "dispatched" : "failed",
+            queuedMillis));
+    Listener currentListener = listener;
+    if (currentListener != null) {
+      currentListener.onPendingLoadCompleted(queuedMillis, dispatch);
+    }
+
+    if (dispatch) {
+      entry.pendingLoad.load();
+    } else {
+      entry.pendingLoad.fail();
+    }
+  }
+
+  /** A queued load. Runs when its deadline passes. */
+  private final class Entry implements Runnable {
+
+    final PendingLoad pendingLoad;
+    final long queuedTimeMillis = SystemClock.elapsedRealtime();
+    final AtomicBoolean finished = new AtomicBoolean();
+
+    Entry(@NonNull PendingLoad pendingLoad) {
+      this.pendingLoad = pendingLoad;
+    }
+
+    @Override
+    public void run() {
+      synchronized (IronSourcePendingLoadQueue.this) {
+        entries.remove(this);
+      }
+      finish(this, false);
+    }
+  }
+}
@@ -32,14 +32,15 @@ import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.ironsource.mediationsdk.IronSource;
-import java.lang.ref.WeakReference;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class IronSourceRewardedAd implements MediationRewardedAd {
 
   @VisibleForTesting
-  static final ConcurrentHashMap<String, WeakReference<IronSourceRewardedAd>> availableInstances =
-      new ConcurrentHashMap<>();
+  static final WeakInstanceRegistry<String, IronSourceRewardedAd> availableInstances =
+      new WeakInstanceRegistry<>();
+
+  private static final IronSourceAdInstancePool<IronSourceRewardedAd> instancePool =
+      new IronSourceAdInstancePool<>(availableInstances);
 
   private static final IronSourceRewardedAdListener ironSourceRewardedListener =
       new IronSourceRewardedAdListener();
@@ -66,13 +67,17 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
 
   /** Getters and Setters. */
   static IronSourceRewardedAd getFromAvailableInstances(@NonNull String instanceId) {
-    return availableInstances.containsKey(instanceId)
-        ? availableInstances.get(instanceId).get()
-        : null;
+    return instancePool.get(instanceId);
   }
 
   static void removeFromAvailableInstances(@NonNull String instanceId) {
-    availableInstances.remove(instanceId);
+    instancePool.release(instanceId);
+  }
+
+  /** Returns the pool that tracks the rewarded ads of every IronSource instance. */
+  @NonNull
+  public static IronSourceAdInstancePool<IronSourceRewardedAd> getInstancePool() {
+    return instancePool;
   }
 
   static IronSourceRewardedAdListener getIronSourceRewardedListener() {
@@ -92,44 +97,54 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
     return mediationAdLoadCallback;
   }
 
-  private boolean loadValidConfig() {
-    if (!isParamsValid()) {
-      return false;
-    }
-
-    availableInstances.put(instanceID, new WeakReference<>(this));
-    Log.d(TAG, String.format("Loading IronSource rewarded ad with instance ID: %s", instanceID));
-    return true;
-  }
-
   public void loadWaterfallAd() {
-    if (!loadValidConfig()) {
-      return;
-    }
-    Activity activity = (Activity) context;
-    IronSource.loadISDemandOnlyRewardedVideo(activity, instanceID);
-  }
-
-  private boolean isParamsValid() {
     // Check that the context is an Activity and that the instance ID is valid.
     AdError loadError = IronSourceAdapterUtils.validateIronSourceAdLoadParams(context, instanceID);
     if (loadError != null) {
       onAdFailedToLoad(loadError);
-      return false;
+      return;
     }
 
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableInstances)) {
-      String errorMessage =
-          String.format(
-              "An IronSource Rewarded ad is already loading for instance ID: %s", instanceID);
-      AdError concurrentError =
-          new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
-      onAdFailedToLoad(concurrentError);
-      return false;
+    int acquireResult =
+        instancePool.acquire(
+            instanceID,
+            this,
+            new IronSourceAdInstancePool.WaitingLoad() {
+              @Override
+              public void load() {
+                loadFromInstance();
+              }
+
+              @Override
+              public void fail(@NonNull AdError error) {
+                onAdFailedToLoad(error);
+              }
+            });
+    switch (acquireResult) {
+      case IronSourceAdInstancePool.ACQUIRED:
+        loadFromInstance();
+        break;
+      case IronSourceAdInstancePool.QUEUED:
+        Log.d(
+            TAG,
+            String.format("IronSource rewarded ad is waiting for instance ID: %s", instanceID));
+        break;
+      default:
+        // Every slot of this instance is already taken.
+        String errorMessage =
+            String.format(
+                "An IronSource Rewarded ad is already loading for instance ID: %s", instanceID);
+        AdError concurrentError =
+            new AdError(ERROR_AD_ALREADY_LOADED, errorMessage, ADAPTER_ERROR_DOMAIN);
+        onAdFailedToLoad(concurrentError);
+        break;
     }
+  }
 
-    return true;
+  private void loadFromInstance() {
+    Log.d(TAG, String.format("Loading IronSource rewarded ad with instance ID: %s", instanceID));
+    Activity activity = (Activity) context;
+    IronSource.loadISDemandOnlyRewardedVideo(activity, instanceID);
   }
 
   @Override
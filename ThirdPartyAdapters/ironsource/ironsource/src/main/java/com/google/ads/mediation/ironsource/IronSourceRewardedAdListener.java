@@ -16,6 +16,7 @@ package com.google.ads.mediation.ironsource;
 
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRONSOURCE_SDK_ERROR_DOMAIN;
+import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.isDebugLoggingEnabled;
 
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -26,9 +27,14 @@ import com.ironsource.mediationsdk.logger.IronSourceError;
 
 public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoListener {
 
+  /** IronSource rewards are always the same, so a single reward item is shared. */
+  private static final IronSourceRewardItem REWARD_ITEM = new IronSourceRewardItem();
+
   @Override
   public void onRewardedVideoAdLoadSuccess(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad loaded for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource rewarded ad loaded for instance ID: %s", instanceId));
+    }
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -63,7 +69,9 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdOpened(@NonNull final String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad opened for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource rewarded ad opened for instance ID: %s", instanceId));
+    }
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -79,7 +87,9 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdClosed(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad closed for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource rewarded ad closed for instance ID: %s", instanceId));
+    }
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -95,12 +105,13 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdRewarded(@NonNull String instanceId) {
-    final IronSourceRewardItem ironSourceRewardItem = new IronSourceRewardItem();
-    Log.d(
-        TAG,
-        String.format(
-            "IronSource rewarded ad received reward: %d %s, for instance ID: %s",
-            ironSourceRewardItem.getAmount(), ironSourceRewardItem.getType(), instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(
+          TAG,
+          String.format(
+              "IronSource rewarded ad received reward: %d %s, for instance ID: %s",
+              REWARD_ITEM.getAmount(), REWARD_ITEM.getType(), instanceId));
+    }
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -108,7 +119,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
       MediationRewardedAdCallback adCallBack = ironSourceRewardedAd.getRewardedAdCallback();
       if (adCallBack != null) {
         adCallBack.onVideoComplete();
-        adCallBack.onUserEarnedReward(ironSourceRewardItem);
+        adCallBack.onUserEarnedReward(REWARD_ITEM);
       }
     }
   }
@@ -138,7 +149,9 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdClicked(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad clicked for instance ID: %s", instanceId));
+    if (isDebugLoggingEnabled()) {
+      Log.d(TAG, String.format("IronSource rewarded ad clicked for instance ID: %s", instanceId));
+    }
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -0,0 +1,190 @@
+package com.google.ads.mediation.ironsource
+
+import android.os.Handler
+import android.os.Looper.getMainLooper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(AndroidJUnit4::class)
+class IronSourceAdInstancePoolTest {
+
+  private val activeAds = WeakInstanceRegistry<String, String>()
+  private val pool = IronSourceAdInstancePool(activeAds, Handler(getMainLooper()))
+  private val events = mutableListOf<String>()
+
+  @After
+  fun tearDown() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(1)
+  }
+
+  @Test
+  fun acquire_freeInstance_makesAdActive() {
+    assertThat(acquire("first")).isEqualTo(IronSourceAdInstancePool.ACQUIRED)
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("first")
+  }
+
+  @Test
+  fun acquire_defaultCapacityAndInstanceTaken_rejectsAd() {
+    acquire("first")
+
+    assertThat(acquire("second")).isEqualTo(IronSourceAdInstancePool.REJECTED)
+    assertThat(pool.rejectedLoadCount).isEqualTo(1)
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("first")
+  }
+
+  @Test
+  fun acquire_instanceTakenWithFreeSlots_queuesAdsUntilCapacity() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(3)
+    acquire("first")
+
+    assertThat(acquire("second")).isEqualTo(IronSourceAdInstancePool.QUEUED)
+    assertThat(acquire("third")).isEqualTo(IronSourceAdInstancePool.QUEUED)
+    assertThat(acquire("fourth")).isEqualTo(IronSourceAdInstancePool.REJECTED)
+    assertThat(pool.getWaitingAdCount(INSTANCE_ID)).isEqualTo(2)
+  }
+
+  @Test
+  fun acquire_otherInstance_doesNotShareSlots() {
+    acquire("first")
+
+    assertThat(pool.acquire(OTHER_INSTANCE_ID, "second", FakeWaitingLoad("second")))
+      .isEqualTo(IronSourceAdInstancePool.ACQUIRED)
+  }
+
+  @Test
+  fun release_loadsWaitingAdsOneAtATimeInOrder() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(3)
+    acquire("first")
+    acquire("second")
+    acquire("third")
+
+    pool.release(INSTANCE_ID)
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("load second")
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("second")
+
+    pool.release(INSTANCE_ID)
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("load second", "load third").inOrder()
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("third")
+    assertThat(pool.getWaitingAdCount(INSTANCE_ID)).isEqualTo(0)
+  }
+
+  @Test
+  fun release_noWaitingAds_freesInstance() {
+    acquire("first")
+
+    pool.release(INSTANCE_ID)
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(pool.get(INSTANCE_ID)).isNull()
+    assertThat(acquire("second")).isEqualTo(IronSourceAdInstancePool.ACQUIRED)
+  }
+
+  @Test
+  fun release_recordsWaitTime() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(2)
+    acquire("first")
+    acquire("second")
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(WAIT_MILLIS))
+
+    pool.release(INSTANCE_ID)
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(pool.waitedLoadCount).isEqualTo(1)
+    assertThat(pool.totalWaitMillis).isAtLeast(WAIT_MILLIS)
+    assertThat(pool.maxWaitMillis).isAtLeast(WAIT_MILLIS)
+  }
+
+  @Test
+  fun release_waitingAdExpired_failsItAndLoadsNextAd() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(3)
+    acquire("first")
+    acquire("second")
+    shadowOf(getMainLooper())
+      .idleFor(Duration.ofMillis(IronSourceAdInstancePool.MAX_WAIT_MILLIS + 1))
+    acquire("third")
+
+    pool.release(INSTANCE_ID)
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("fail second", "load third").inOrder()
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("third")
+  }
+
+  @Test
+  fun activeAdNeverShown_failsWaitingAdAfterMaxWait() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(2)
+    acquire("first")
+    acquire("second")
+
+    shadowOf(getMainLooper())
+      .idleFor(Duration.ofMillis(IronSourceAdInstancePool.MAX_WAIT_MILLIS + 1))
+
+    assertThat(events).containsExactly("fail second")
+    assertThat(pool.getWaitingAdCount(INSTANCE_ID)).isEqualTo(0)
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("first")
+  }
+
+  @Test
+  fun activeAdCollected_loadsNextWaitingAd() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(2)
+    acquire("first")
+    acquire("second")
+
+    collectActiveAd()
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("load second")
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("second")
+  }
+
+  @Test
+  fun acquire_activeAdCollected_keepsArrivalOrder() {
+    IronSourceAdInstancePool.setMaxAdsPerInstance(3)
+    acquire("first")
+    acquire("second")
+    activeAds.getReference(INSTANCE_ID)?.clear()
+
+    assertThat(acquire("third")).isEqualTo(IronSourceAdInstancePool.QUEUED)
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("load second")
+    assertThat(pool.get(INSTANCE_ID)).isEqualTo("second")
+  }
+
+  /** Simulates the garbage collection of the active ad and lets the registry reap it. */
+  private fun collectActiveAd() {
+    activeAds.getReference(INSTANCE_ID)?.enqueue()
+    activeAds.size()
+  }
+
+  private fun acquire(ad: String) = pool.acquire(INSTANCE_ID, ad, FakeWaitingLoad(ad))
+
+  private inner class FakeWaitingLoad(private val name: String) :
+    IronSourceAdInstancePool.WaitingLoad {
+
+    override fun load() {
+      events.add("load $name")
+    }
+
+    override fun fail(error: AdError) {
+      assertThat(error.code).isEqualTo(IronSourceMediationAdapter.ERROR_AD_ALREADY_LOADED)
+      events.add("fail $name")
+    }
+  }
+
+  private companion object {
+    const val INSTANCE_ID = "0"
+    const val OTHER_INSTANCE_ID = "1"
+    const val WAIT_MILLIS = 500L
+  }
+}
@@ -0,0 +1,148 @@
+package com.google.ads.mediation.ironsource
+
+import android.content.Context
+import android.os.Looper.getMainLooper
+import androidx.core.os.bundleOf
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.ads.mediation.adaptertestkit.createMediationConfiguration
+import com.google.android.gms.ads.AdFormat
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import com.google.common.truth.Truth.assertThat
+import com.ironsource.mediationsdk.IronSource
+import java.time.Duration
+import java.util.concurrent.Executor
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.Mockito.mockStatic
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [IronSourceBidTokenCache]. */
+@RunWith(AndroidJUnit4::class)
+class IronSourceBidTokenCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val cache = IronSourceBidTokenCache.getInstance()
+  private val rtbSignalData = createRtbSignalData(instanceId = "0")
+
+  @After
+  fun tearDown() {
+    cache.setTtlMillis(0)
+    getDefaultPreferences().edit().clear().commit()
+  }
+
+  @Test
+  fun get_cachingDisabledByDefault_returnsNull() {
+    cache.put(KEY, TEST_BID_RESPONSE)
+
+    assertThat(cache.get(KEY)).isNull()
+  }
+
+  @Test
+  fun get_cachedToken_returnsTokenAndCountsHit() {
+    cache.setTtlMillis(TTL_MILLIS)
+    cache.put(KEY, TEST_BID_RESPONSE)
+    val hitCount = cache.hitCount
+
+    assertThat(cache.get(KEY)).isEqualTo(TEST_BID_RESPONSE)
+    assertThat(cache.hitCount).isEqualTo(hitCount + 1)
+  }
+
+  @Test
+  fun get_missingToken_countsMiss() {
+    cache.setTtlMillis(TTL_MILLIS)
+    val missCount = cache.missCount
+
+    assertThat(cache.get(KEY)).isNull()
+    assertThat(cache.missCount).isEqualTo(missCount + 1)
+  }
+
+  @Test
+  fun get_afterTtl_returnsNull() {
+    cache.setTtlMillis(TTL_MILLIS)
+    cache.put(KEY, TEST_BID_RESPONSE)
+
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(TTL_MILLIS + 1))
+
+    assertThat(cache.get(KEY)).isNull()
+  }
+
+  @Test
+  fun invalidate_dropsCachedTokens() {
+    cache.setTtlMillis(TTL_MILLIS)
+    cache.put(KEY, TEST_BID_RESPONSE)
+
+    cache.invalidate()
+
+    assertThat(cache.get(KEY)).isNull()
+  }
+
+  @Test
+  fun createKey_consentStringChanged_returnsDifferentKey() {
+    val key = IronSourceBidTokenCache.createKey(rtbSignalData)
+
+    getDefaultPreferences().edit().putString("IABTCF_TCString", "consent").commit()
+
+    assertThat(IronSourceBidTokenCache.createKey(rtbSignalData)).isNotEqualTo(key)
+  }
+
+  @Test
+  fun createKey_otherPreferenceChanged_returnsSameKey() {
+    val key = IronSourceBidTokenCache.createKey(rtbSignalData)
+
+    getDefaultPreferences().edit().putInt("launchCount", 1).commit()
+
+    assertThat(IronSourceBidTokenCache.createKey(rtbSignalData)).isEqualTo(key)
+  }
+
+  @Test
+  fun createKey_otherInstance_returnsDifferentKey() {
+    val otherRtbSignalData = createRtbSignalData(instanceId = "1")
+
+    assertThat(IronSourceBidTokenCache.createKey(otherRtbSignalData))
+      .isNotEqualTo(IronSourceBidTokenCache.createKey(rtbSignalData))
+  }
+
+  @Test
+  fun collectSignals_cachingEnabled_generatesTokenOnce() {
+    cache.setTtlMillis(TTL_MILLIS)
+    IronSourceSignalCollector.setExecutor(Executor { it.run() })
+    val adapter = IronSourceMediationAdapter()
+    val signalCallbacks = mock<SignalCallbacks>()
+    mockStatic(IronSource::class.java).use {
+      whenever(IronSource.getISDemandOnlyBiddingData(context)) doReturn TEST_BID_RESPONSE
+
+      adapter.collectSignals(rtbSignalData, signalCallbacks)
+      adapter.collectSignals(rtbSignalData, signalCallbacks)
+
+      it.verify({ IronSource.getISDemandOnlyBiddingData(context) }, times(1))
+      verify(signalCallbacks, times(2)).onSuccess(TEST_BID_RESPONSE)
+    }
+  }
+
+  private fun createRtbSignalData(instanceId: String): RtbSignalData {
+    val configuration =
+      createMediationConfiguration(AdFormat.INTERSTITIAL, bundleOf(INSTANCE_ID_KEY to instanceId))
+    return mock {
+      on { context } doReturn context
+      on { configurations } doReturn listOf(configuration)
+    }
+  }
+
+  private fun getDefaultPreferences() =
+    context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+
+  private companion object {
+    const val KEY = "key"
+    const val INSTANCE_ID_KEY = "instanceId"
+    const val TTL_MILLIS = 10_000L
+  }
+}
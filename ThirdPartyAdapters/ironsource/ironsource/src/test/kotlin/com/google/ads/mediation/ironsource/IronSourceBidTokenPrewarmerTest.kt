@@ -0,0 +1,142 @@
+package com.google.ads.mediation.ironsource
+
+import android.content.Context
+import android.os.Looper.getMainLooper
+import androidx.core.content.edit
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.ads.mediation.ironsource.IronSourceBidTokenPrewarmer.ANY_REQUEST_KEY
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.RequestConfiguration
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import java.util.concurrent.Executor
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [IronSourceBidTokenPrewarmer]. */
+@RunWith(AndroidJUnit4::class)
+class IronSourceBidTokenPrewarmerTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val prewarmer = IronSourceBidTokenPrewarmer.getInstance()
+
+  @Before
+  fun setUp() {
+    prewarmer.setExecutor(Executor { it.run() })
+  }
+
+  @After
+  fun tearDown() {
+    prewarmer.setEnabled(false)
+    prewarmer.setMaxAgeMillis(IronSourceBidTokenPrewarmer.DEFAULT_MAX_AGE_MILLIS)
+    MobileAds.setRequestConfiguration(RequestConfiguration.Builder().build())
+    preferences().edit { clear() }
+  }
+
+  @Test
+  fun prewarm_prewarmingDisabledByDefault_doesNotGenerateToken() {
+    var generated = false
+
+    prewarmer.prewarm(ANY_REQUEST_KEY) {
+      generated = true
+      TEST_BID_RESPONSE
+    }
+
+    assertThat(generated).isFalse()
+    assertThat(prewarmer.consume(ANY_REQUEST_KEY)).isNull()
+  }
+
+  @Test
+  fun consume_prewarmedToken_returnsTokenOnceAndCountsConsumed() {
+    prewarmer.setEnabled(true)
+    prewarmer.prewarm(ANY_REQUEST_KEY) { TEST_BID_RESPONSE }
+    val consumedCount = prewarmer.consumedCount
+
+    assertThat(prewarmer.consume(ANY_REQUEST_KEY)).isEqualTo(TEST_BID_RESPONSE)
+    assertThat(prewarmer.consume(ANY_REQUEST_KEY)).isNull()
+    assertThat(prewarmer.consumedCount).isEqualTo(consumedCount + 1)
+  }
+
+  @Test
+  fun consume_otherKey_dropsPrewarmedToken() {
+    prewarmer.setEnabled(true)
+    prewarmer.put(KEY, TEST_BID_RESPONSE)
+
+    assertThat(prewarmer.consume(ANY_REQUEST_KEY)).isNull()
+    assertThat(prewarmer.consume(KEY)).isNull()
+  }
+
+  @Test
+  fun consume_childDirectedTagChanged_dropsPrewarmedToken() {
+    prewarmer.setEnabled(true)
+    prewarmer.put(currentKey(), TEST_BID_RESPONSE)
+
+    MobileAds.setRequestConfiguration(
+      RequestConfiguration.Builder()
+        .setTagForChildDirectedTreatment(
+          RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE
+        )
+        .build()
+    )
+
+    assertThat(prewarmer.consume(currentKey())).isNull()
+  }
+
+  @Test
+  fun consume_iabConsentStringChanged_dropsPrewarmedToken() {
+    prewarmer.setEnabled(true)
+    prewarmer.put(currentKey(), TEST_BID_RESPONSE)
+
+    preferences().edit { putString("IABTCF_TCString", TC_STRING) }
+
+    assertThat(prewarmer.consume(currentKey())).isNull()
+  }
+
+  @Test
+  fun consume_samePrivacyState_returnsPrewarmedToken() {
+    prewarmer.setEnabled(true)
+    preferences().edit { putString("IABTCF_TCString", TC_STRING) }
+    prewarmer.put(currentKey(), TEST_BID_RESPONSE)
+
+    assertThat(prewarmer.consume(currentKey())).isEqualTo(TEST_BID_RESPONSE)
+  }
+
+  @Test
+  fun consume_afterMaxAge_returnsNullAndCountsExpired() {
+    prewarmer.setEnabled(true)
+    prewarmer.setMaxAgeMillis(MAX_AGE_MILLIS)
+    prewarmer.put(ANY_REQUEST_KEY, TEST_BID_RESPONSE)
+    val expiredCount = prewarmer.expiredCount
+
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(MAX_AGE_MILLIS + 1))
+
+    assertThat(prewarmer.consume(ANY_REQUEST_KEY)).isNull()
+    assertThat(prewarmer.expiredCount).isEqualTo(expiredCount + 1)
+  }
+
+  @Test
+  fun invalidate_dropsPrewarmedToken() {
+    prewarmer.setEnabled(true)
+    prewarmer.put(ANY_REQUEST_KEY, TEST_BID_RESPONSE)
+
+    IronSourceBidTokenCache.getInstance().invalidate()
+
+    assertThat(prewarmer.consume(ANY_REQUEST_KEY)).isNull()
+  }
+
+  private fun currentKey() = IronSourceBidTokenPrewarmer.createKey(context, ANY_REQUEST_KEY)
+
+  private fun preferences() =
+    context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+
+  private companion object {
+    const val KEY = "key"
+    const val TC_STRING = "CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA"
+    const val MAX_AGE_MILLIS = 10_000L
+  }
+}
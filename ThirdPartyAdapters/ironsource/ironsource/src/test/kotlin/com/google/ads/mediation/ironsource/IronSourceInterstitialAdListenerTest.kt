@@ -0,0 +1,59 @@
+package com.google.ads.mediation.ironsource
+
+import android.app.Activity
+import android.util.Log
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.ironsource.IronSourceConstants.TAG
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.mock
+import org.robolectric.Robolectric
+import org.robolectric.shadows.ShadowLog
+
+/** Tests for the debug logging of [IronSourceInterstitialAdListener]. */
+@RunWith(AndroidJUnit4::class)
+class IronSourceInterstitialAdListenerTest {
+
+  private val activity: Activity = Robolectric.buildActivity(Activity::class.java).get()
+  private val listener = IronSourceInterstitialAd.getIronSourceInterstitialListener()
+
+  @Before
+  fun setUp() {
+    IronSourceInterstitialAd.availableInterstitialInstances.put(
+      INSTANCE_ID,
+      IronSourceInterstitialAd(createMediationInterstitialAdConfiguration(activity), mock()),
+    )
+  }
+
+  @After
+  fun tearDown() {
+    IronSourceInterstitialAd.availableInterstitialInstances.clear()
+  }
+
+  @Test
+  fun onInterstitialAdClicked_debugLoggingOff_doesNotLogMessage() {
+    ShadowLog.setLoggable(TAG, Log.INFO)
+
+    listener.onInterstitialAdClicked(INSTANCE_ID)
+
+    assertThat(ShadowLog.getLogsForTag(TAG).filter { it.type == Log.DEBUG }).isEmpty()
+  }
+
+  @Test
+  fun onInterstitialAdClicked_debugLoggingOn_logsMessage() {
+    ShadowLog.setLoggable(TAG, Log.DEBUG)
+
+    listener.onInterstitialAdClicked(INSTANCE_ID)
+
+    assertThat(ShadowLog.getLogsForTag(TAG).map { it.msg })
+      .contains("IronSource interstitial ad clicked for instance ID: $INSTANCE_ID")
+  }
+
+  private companion object {
+    const val INSTANCE_ID = "0"
+  }
+}
@@ -3,9 +3,11 @@ package com.google.ads.mediation.ironsource
 import android.app.Activity
 import android.content.Context
 import android.os.Bundle
+import android.os.Looper.getMainLooper
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.assertGetSdkVersion
 import com.google.ads.mediation.adaptertestkit.assertGetVersionInfo
@@ -51,6 +53,7 @@ import com.ironsource.mediationsdk.utils.IronSourceUtils.getSDKVersion
 import com.unity3d.ironsourceads.InitListener
 import com.unity3d.ironsourceads.InitRequest
 import com.unity3d.ironsourceads.IronSourceAds
+import java.util.concurrent.Executor
 import org.junit.After
 import org.junit.Before
 import org.junit.Test
@@ -62,9 +65,11 @@ import org.mockito.kotlin.argThat
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 /** Tests for [IronSourceMediationAdapter]. */
 @RunWith(AndroidJUnit4::class)
@@ -87,6 +92,8 @@ class IronSourceMediationAdapterTest {
   @Before
   fun setUp() {
     adapter = IronSourceMediationAdapter()
+    // Static mocks only apply to the test thread, so generate bid tokens on it.
+    IronSourceSignalCollector.setExecutor(Executor { it.run() })
   }
 
   @Test
@@ -242,6 +249,55 @@ class IronSourceMediationAdapterTest {
     verify(mockInitializationCompleteCallback).onInitializationSucceeded()
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsInitializationOutcome() {
+    val mockTelemetryListener = mock<IronSourceInitializationTelemetry.Listener>()
+    IronSourceInitializationTelemetry.setListener(mockTelemetryListener)
+    val mediationConfiguration =
+      createMediationConfiguration(AdFormat.BANNER, bundleOf(KEY_APP_KEY to TEST_APP_ID_1))
+
+    try {
+      mockStatic(IronSourceAds::class.java).use {
+        whenever(IronSourceAds.init(any(), any(), any())).thenAnswer { invocation ->
+          invocation.getArgument<InitListener>(2).onInitSuccess()
+          null
+        }
+
+        adapter.initialize(
+          context,
+          mockInitializationCompleteCallback,
+          listOf(mediationConfiguration),
+        )
+      }
+    } finally {
+      IronSourceInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq("IronSourceMediationAdapter"), any(), eq(true), eq(1))
+  }
+
+  @Test
+  fun initialize_withTelemetryListenerAndAlreadyInitialized_reportsNoWaitingListeners() {
+    val mockTelemetryListener = mock<IronSourceInitializationTelemetry.Listener>()
+    IronSourceInitializationTelemetry.setListener(mockTelemetryListener)
+    adapter.setIsInitialized(true)
+
+    try {
+      adapter.initialize(
+        context,
+        mockInitializationCompleteCallback,
+        /* mediationConfigurations= */ listOf(),
+      )
+    } finally {
+      IronSourceInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq("IronSourceMediationAdapter"), any(), eq(true), eq(0))
+    verify(mockInitializationCompleteCallback).onInitializationSucceeded()
+  }
+
   @Test
   fun collectSignals_invokesOnSuccess() {
     mockStatic(IronSource::class.java).use {
@@ -350,7 +406,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationBannerAdConfiguration(activity)
     adapter.loadBannerAd(mediationAdConfiguration, mockBannerAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceBannerAd.availableBannerInstances["0"]?.clear()
+    IronSourceBannerAd.availableBannerInstances.getReference("0")?.clear()
     mockStatic(IronSource::class.java).use {
       val mockISBannerLayout = mock<ISDemandOnlyBannerLayout>()
       whenever(createBannerForDemandOnly(any(), any())) doReturn mockISBannerLayout
@@ -377,6 +433,50 @@ class IronSourceMediationAdapterTest {
     )
   }
 
+  @Test
+  fun loadInterstitialAd_initializationInProgress_loadsOnceInitializationSucceeds() {
+    IronSourceInterstitialAd.availableInterstitialInstances.clear()
+    mockStatic(IronSourceAds::class.java).use {
+      mockStatic(IronSource::class.java).use { ironSourceStatic ->
+        val initListener = startInitializationWithFakeCallback()
+        val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
+
+        adapter.loadInterstitialAd(mediationAdConfiguration, mockInterstitialAdLoadCallback)
+        ironSourceStatic.verify(
+          { IronSource.loadISDemandOnlyInterstitial(any(), any()) },
+          never(),
+        )
+        initListener.onInitSuccess()
+        shadowOf(getMainLooper()).idle()
+
+        ironSourceStatic.verify { IronSource.loadISDemandOnlyInterstitial(activity, "0") }
+        verify(mockInterstitialAdLoadCallback, never()).onFailure(any<AdError>())
+      }
+    }
+    adapter.setIsInitialized(false)
+  }
+
+  @Test
+  fun loadInterstitialAd_initializationInProgressThenFails_expectOnFailureCallbackWithAdError() {
+    mockStatic(IronSourceAds::class.java).use {
+      val initListener = startInitializationWithFakeCallback()
+      val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
+
+      adapter.loadInterstitialAd(mediationAdConfiguration, mockInterstitialAdLoadCallback)
+      verify(mockInterstitialAdLoadCallback, never()).onFailure(any<AdError>())
+      initListener.onInitFailed(mock())
+      shadowOf(getMainLooper()).idle()
+
+      val expectedAdError =
+        AdError(
+          ERROR_SDK_NOT_INITIALIZED,
+          getUninitializedErrorMessage(adFormat = "interstitial"),
+          IRONSOURCE_SDK_ERROR_DOMAIN,
+        )
+      verify(mockInterstitialAdLoadCallback).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    }
+  }
+
   @Test
   fun loadInterstitialAd_invalidContext_expectOnFailureCallbackWithAdError() {
     adapter.setIsInitialized(true)
@@ -471,7 +571,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationInterstitialAdConfiguration(activity)
     adapter.loadInterstitialAd(mediationAdConfiguration, mockInterstitialAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceInterstitialAd.availableInterstitialInstances["0"]?.clear()
+    IronSourceInterstitialAd.availableInterstitialInstances.getReference("0")?.clear()
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -590,7 +690,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedAd(mediationAdConfiguration, mockRewardedAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceRewardedAd.availableInstances["0"]?.clear()
+    IronSourceRewardedAd.availableInstances.getReference("0")?.clear()
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -678,7 +778,7 @@ class IronSourceMediationAdapterTest {
     val mediationAdConfiguration = createMediationRewardedAdConfiguration(activity)
     adapter.loadRewardedInterstitialAd(mediationAdConfiguration, mockRewardedAdLoadCallback)
     // Clear the ad reference's reference to the ad object.
-    IronSourceRewardedAd.availableInstances["0"]?.clear()
+    IronSourceRewardedAd.availableInstances.getReference("0")?.clear()
 
     mockStatic(IronSource::class.java).use {
       // Reload an ad for the same instance ID (i.e. "0") as above.
@@ -701,6 +801,29 @@ class IronSourceMediationAdapterTest {
     serverParameters: Bundle = bundleOf(),
   ) = MediationConfiguration(adFormat, serverParameters)
 
+  /** Starts an IronSource SDK initialization that completes only when the test says so. */
+  private fun startInitializationWithFakeCallback(): InitListener {
+    var initListener: InitListener? = null
+    whenever(IronSourceAds.init(any(), any(), any())).thenAnswer { invocation ->
+      initListener = invocation.getArgument<InitListener>(2)
+      null
+    }
+    adapter.setIsInitialized(false)
+
+    adapter.initialize(
+      context,
+      mockInitializationCompleteCallback,
+      listOf(
+        createMediationConfiguration(
+          AdFormat.INTERSTITIAL,
+          serverParameters = bundleOf(KEY_APP_KEY to TEST_APP_ID_1),
+        )
+      ),
+    )
+
+    return initListener!!
+  }
+
   private fun getUninitializedErrorMessage(adFormat: String) =
     "Failed to load IronSource $adFormat ad since IronSource SDK is not initialized."
 
@@ -0,0 +1,101 @@
+package com.google.ads.mediation.ironsource
+
+import android.os.Handler
+import android.os.Looper.getMainLooper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(AndroidJUnit4::class)
+class IronSourcePendingLoadQueueTest {
+
+  private val queue = IronSourcePendingLoadQueue(Handler(getMainLooper()), TIMEOUT_MILLIS)
+  private val events = mutableListOf<String>()
+  private val queuedTimes = mutableListOf<Pair<Long, Boolean>>()
+
+  @Test
+  fun offer_noInitializationInProgress_returnsFalse() {
+    assertThat(queue.offer(FakePendingLoad("first"))).isFalse()
+    assertThat(queue.pendingLoadCount).isEqualTo(0)
+  }
+
+  @Test
+  fun onInitializationSucceeded_dispatchesQueuedLoadsInOrder() {
+    queue.onInitializationStarted()
+    queue.offer(FakePendingLoad("first"))
+    queue.offer(FakePendingLoad("second"))
+    queue.offer(FakePendingLoad("third"))
+
+    queue.onInitializationSucceeded()
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("load first", "load second", "load third").inOrder()
+    assertThat(queue.pendingLoadCount).isEqualTo(0)
+  }
+
+  @Test
+  fun onInitializationFailed_failsQueuedLoads() {
+    queue.onInitializationStarted()
+    queue.offer(FakePendingLoad("first"))
+    queue.offer(FakePendingLoad("second"))
+
+    queue.onInitializationFailed()
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("fail first", "fail second").inOrder()
+  }
+
+  @Test
+  fun offer_deadlinePassesBeforeInitialization_failsLoadOnce() {
+    queue.onInitializationStarted()
+    queue.offer(FakePendingLoad("first"))
+
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(TIMEOUT_MILLIS))
+    queue.onInitializationSucceeded()
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(events).containsExactly("fail first")
+  }
+
+  @Test
+  fun onInitializationSucceeded_reportsQueuedTimeOfEveryLoad() {
+    queue.setListener { queuedMillis, dispatched -> queuedTimes.add(queuedMillis to dispatched) }
+    queue.onInitializationStarted()
+    queue.offer(FakePendingLoad("first"))
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(QUEUED_MILLIS))
+    queue.offer(FakePendingLoad("second"))
+
+    queue.onInitializationSucceeded()
+    shadowOf(getMainLooper()).idle()
+
+    assertThat(queuedTimes).containsExactly(QUEUED_MILLIS to true, 0L to true).inOrder()
+  }
+
+  @Test
+  fun onInitializationSucceeded_laterOffers_areNotQueued() {
+    queue.onInitializationStarted()
+    queue.onInitializationSucceeded()
+
+    assertThat(queue.offer(FakePendingLoad("first"))).isFalse()
+  }
+
+  private inner class FakePendingLoad(private val name: String) :
+    IronSourcePendingLoadQueue.PendingLoad {
+
+    override fun load() {
+      events.add("load $name")
+    }
+
+    override fun fail() {
+      events.add("fail $name")
+    }
+  }
+
+  private companion object {
+    const val TIMEOUT_MILLIS = 5000L
+    const val QUEUED_MILLIS = 1200L
+  }
+}
@@ -0,0 +1,147 @@
+package com.google.ads.mediation.ironsource
+
+import android.os.Looper.getMainLooper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ADAPTER_ERROR_DOMAIN
+import com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_SIGNAL_COLLECTION_FAILED
+import com.google.ads.mediation.ironsource.IronSourceMediationAdapter.ERROR_SIGNAL_COLLECTION_TIMEOUT
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argThat
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [IronSourceSignalCollector]. */
+@RunWith(AndroidJUnit4::class)
+class IronSourceSignalCollectorTest {
+
+  private val signalCallbacks = mock<SignalCallbacks>()
+
+  /** Runnables submitted to the executor, run only when the test decides. */
+  private val pendingRunnables = mutableListOf<Runnable>()
+
+  @After
+  fun tearDown() {
+    IronSourceSignalCollector.setDeadlineMillis(IronSourceSignalCollector.DEFAULT_DEADLINE_MILLIS)
+  }
+
+  @Test
+  fun collect_tokenGenerated_invokesOnSuccessAndRecordsLatency() {
+    IronSourceSignalCollector.setExecutor(Executor { it.run() })
+
+    IronSourceSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+
+    verify(signalCallbacks).onSuccess(TEST_BID_RESPONSE)
+    assertThat(IronSourceSignalCollector.getLastLatencyMillis()).isAtLeast(0)
+    assertThat(IronSourceSignalCollector.getAverageLatencyMillis()).isAtLeast(0)
+  }
+
+  @Test
+  fun collect_tokenGeneratedOnExecutor_doesNotGenerateOnCallingThread() {
+    IronSourceSignalCollector.setExecutor(Executor { pendingRunnables.add(it) })
+
+    IronSourceSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+
+    verify(signalCallbacks, never()).onSuccess(any())
+    pendingRunnables.forEach { it.run() }
+    verify(signalCallbacks).onSuccess(TEST_BID_RESPONSE)
+  }
+
+  @Test
+  fun collect_deadlinePassed_invokesOnFailure() {
+    IronSourceSignalCollector.setExecutor(Executor { pendingRunnables.add(it) })
+    IronSourceSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+    val timeoutCount = IronSourceSignalCollector.getTimeoutCount()
+
+    IronSourceSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+
+    val expectedAdError =
+      AdError(
+        ERROR_SIGNAL_COLLECTION_TIMEOUT,
+        "IronSource SDK did not generate a bid token within $DEADLINE_MILLIS ms.",
+        ADAPTER_ERROR_DOMAIN,
+      )
+    verify(signalCallbacks).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    assertThat(IronSourceSignalCollector.getTimeoutCount()).isEqualTo(timeoutCount + 1)
+  }
+
+  @Test
+  fun collect_tokenGeneratedAfterDeadline_doesNotInvokeOnSuccess() {
+    IronSourceSignalCollector.setExecutor(Executor { pendingRunnables.add(it) })
+    IronSourceSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+
+    IronSourceSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+    pendingRunnables.forEach { it.run() }
+
+    verify(signalCallbacks, never()).onSuccess(any())
+  }
+
+  @Test
+  fun collect_executorRejectsRequest_invokesOnFailureWithoutGeneratingToken() {
+    IronSourceSignalCollector.setExecutor(Executor { throw RejectedExecutionException() })
+    IronSourceSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+    val rejectedCount = IronSourceSignalCollector.getRejectedCount()
+    var generated = false
+
+    IronSourceSignalCollector.collect(
+      {
+        generated = true
+        TEST_BID_RESPONSE
+      },
+      signalCallbacks,
+    )
+    // The deadline must not report the failure a second time.
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+
+    val expectedAdError =
+      AdError(
+        ERROR_SIGNAL_COLLECTION_TIMEOUT,
+        "Too many IronSource SDK bid token requests are pending.",
+        ADAPTER_ERROR_DOMAIN,
+      )
+    verify(signalCallbacks).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    verify(signalCallbacks, never()).onSuccess(any())
+    assertThat(generated).isFalse()
+    assertThat(IronSourceSignalCollector.getRejectedCount()).isEqualTo(rejectedCount + 1)
+  }
+
+  @Test
+  fun collect_tokenGeneratorThrows_invokesOnFailureWithCauseBeforeDeadline() {
+    IronSourceSignalCollector.setExecutor(Executor { it.run() })
+    IronSourceSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+    val exception = IllegalStateException("SDK is not ready")
+    val timeoutCount = IronSourceSignalCollector.getTimeoutCount()
+
+    IronSourceSignalCollector.collect({ throw exception }, signalCallbacks)
+
+    val expectedAdError =
+      AdError(
+        ERROR_SIGNAL_COLLECTION_FAILED,
+        "IronSource SDK failed to generate a bid token: $exception",
+        ADAPTER_ERROR_DOMAIN,
+      )
+    verify(signalCallbacks).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    // The deadline must not report the failure a second time.
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+    verify(signalCallbacks).onFailure(any())
+    assertThat(IronSourceSignalCollector.getTimeoutCount()).isEqualTo(timeoutCount)
+  }
+
+  private companion object {
+    const val DEADLINE_MILLIS = 500L
+  }
+}
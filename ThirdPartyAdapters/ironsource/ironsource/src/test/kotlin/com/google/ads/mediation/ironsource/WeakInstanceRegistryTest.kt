@@ -0,0 +1,106 @@
+package com.google.ads.mediation.ironsource
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class WeakInstanceRegistryTest {
+
+  private val registry = WeakInstanceRegistry<String, Any>()
+
+  @Test
+  fun get_registeredValue_returnsValue() {
+    val value = Any()
+
+    registry.put(KEY, value)
+
+    assertThat(registry.get(KEY)).isSameInstanceAs(value)
+    assertThat(registry.size()).isEqualTo(1)
+  }
+
+  @Test
+  fun valueCollected_entryIsReaped() {
+    registerUnreachableValue(KEY)
+
+    awaitCollection()
+
+    assertThat(registry.keySet()).isEmpty()
+    assertThat(registry.get(KEY)).isNull()
+  }
+
+  @Test
+  fun valueCollected_keyCanBeRegisteredAgain() {
+    registerUnreachableValue(KEY)
+    awaitCollection()
+    val value = Any()
+
+    assertThat(registry.putIfAbsent(KEY, value)).isTrue()
+    assertThat(registry.get(KEY)).isSameInstanceAs(value)
+  }
+
+  @Test
+  fun size_countsOnlyLiveValues() {
+    val liveValue = Any()
+    registry.put(OTHER_KEY, liveValue)
+    registerUnreachableValue(KEY)
+
+    awaitCollection()
+
+    assertThat(registry.size()).isEqualTo(1)
+    assertThat(registry.get(OTHER_KEY)).isSameInstanceAs(liveValue)
+  }
+
+  @Test
+  fun putIfAbsent_liveValueRegistered_returnsFalse() {
+    val value = Any()
+    registry.put(KEY, value)
+
+    assertThat(registry.putIfAbsent(KEY, Any())).isFalse()
+    assertThat(registry.get(KEY)).isSameInstanceAs(value)
+  }
+
+  @Test
+  fun putIfAbsent_referenceClearedButNotReaped_replacesValue() {
+    registry.put(KEY, Any())
+    registry.getReference(KEY)?.clear()
+    val value = Any()
+
+    assertThat(registry.putIfAbsent(KEY, value)).isTrue()
+    assertThat(registry.get(KEY)).isSameInstanceAs(value)
+  }
+
+  @Test
+  fun remove_otherValueRegistered_keepsValue() {
+    val value = Any()
+    registry.put(KEY, value)
+
+    assertThat(registry.remove(KEY, Any())).isFalse()
+    assertThat(registry.remove(KEY, value)).isTrue()
+    assertThat(registry.get(KEY)).isNull()
+  }
+
+  /** Registers a value that nothing else references, so that it can be garbage collected. */
+  private fun registerUnreachableValue(key: String) {
+    registry.put(key, Any())
+  }
+
+  /** Runs the garbage collector until the registry has reaped the value registered for KEY. */
+  private fun awaitCollection() {
+    repeat(GC_ATTEMPTS) {
+      System.gc()
+      if (!registry.keySet().contains(KEY)) {
+        return
+      }
+      Thread.sleep(GC_WAIT_MILLIS)
+    }
+  }
+
+  private companion object {
+    const val KEY = "0"
+    const val OTHER_KEY = "1"
+    const val GC_ATTEMPTS = 50
+    const val GC_WAIT_MILLIS = 20L
+  }
+}
@@ -24,14 +24,12 @@ import com.vungle.ads.VungleAds;
 import com.vungle.ads.VungleAds.WrapperFramework;
 import com.vungle.ads.VungleError;
 import com.vungle.ads.VunglePrivacySettings;
-import java.util.ArrayList;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class VungleInitializer implements InitializationListener {
 
   private static final VungleInitializer instance = new VungleInitializer();
-  private final AtomicBoolean isInitializing = new AtomicBoolean(false);
-  private final ArrayList<VungleInitializationListener> initListeners;
+  private final InitializationStateMachine<VungleInitializationListener> stateMachine =
+      new InitializationStateMachine<>();
 
   @NonNull
   public static VungleInitializer getInstance() {
@@ -39,7 +37,6 @@ public class VungleInitializer implements InitializationListener {
   }
 
   private VungleInitializer() {
-    initListeners = new ArrayList<>();
     VungleAds.setIntegrationName(
         WrapperFramework.admob,
         com.vungle.mediation.BuildConfig.ADAPTER_VERSION.replace('.', '_'));
@@ -55,34 +52,59 @@ public class VungleInitializer implements InitializationListener {
       return;
     }
 
-    if (isInitializing.getAndSet(true)) {
-      initListeners.add(listener);
-      return;
+    // Liftoff Monetize SDK is the source of truth for whether it is initialized, so a completed
+    // initialization that the SDK no longer reports is started again.
+    stateMachine.invalidate();
+    switch (stateMachine.register(listener)) {
+      case InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case InitializationStateMachine.REGISTRATION_QUEUED:
+        return;
+      case InitializationStateMachine.REGISTRATION_START_INITIALIZATION:
+      default:
+        break;
     }
 
     updateCoppaStatus(MobileAds.getRequestConfiguration().getTagForChildDirectedTreatment());
 
     VungleSdkWrapper.delegate.init(context, appId, VungleInitializer.this);
-    initListeners.add(listener);
   }
 
   @Override
   public void onSuccess() {
-    for (VungleInitializationListener listener : initListeners) {
-      listener.onInitializeSuccess();
-    }
-    initListeners.clear();
-    isInitializing.set(false);
+    stateMachine.onInitializationSucceeded(
+        new InitializationStateMachine.ListenerNotifier<VungleInitializationListener>() {
+          @Override
+          public void notify(@NonNull VungleInitializationListener listener) {
+            listener.onInitializeSuccess();
+          }
+        });
   }
 
   @Override
   public void onError(@NonNull final VungleError vungleError) {
     final AdError error = VungleMediationAdapter.getAdError(vungleError);
-    for (VungleInitializationListener listener : initListeners) {
-      listener.onInitializeError(error);
-    }
-    initListeners.clear();
-    isInitializing.set(false);
+    stateMachine.onInitializationFailed(
+        new InitializationStateMachine.ListenerNotifier<VungleInitializationListener>() {
+          @Override
+          public void notify(@NonNull VungleInitializationListener listener) {
+            listener.onInitializeError(error);
+          }
+        });
+  }
+
+  /**
+   * Returns how long, in milliseconds, the last Liftoff Monetize SDK initialization took, or -1 if
+   * it has not completed yet.
+   */
+  long getLastInitializationDurationMillis() {
+    return stateMachine.getLastInitializationDurationMillis();
+  }
+
+  /** See {@link InitializationStateMachine#getWaitingListenerCount()}. */
+  int getWaitingListenerCount() {
+    return stateMachine.getWaitingListenerCount();
   }
 
   public void updateCoppaStatus(int configuration) {
@@ -25,6 +25,7 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
 import com.google.ads.mediation.vungle.rtb.VungleRtbAppOpenAd;
@@ -199,7 +200,14 @@ public class VungleMediationAdapter extends RtbAdapter implements MediationRewar
   @Override
   public void collectSignals(@NonNull RtbSignalData rtbSignalData,
       @NonNull SignalCallbacks signalCallbacks) {
-    String token = VungleSdkWrapper.delegate.getBiddingToken(rtbSignalData.getContext());
+    VungleBidTokenPrewarmer bidTokenPrewarmer = VungleBidTokenPrewarmer.getInstance();
+    String token = bidTokenPrewarmer.isEnabled()
+        ? bidTokenPrewarmer.consume(VungleBidTokenPrewarmer.createKey(
+            rtbSignalData.getContext(), VungleBidTokenPrewarmer.ANY_REQUEST_KEY))
+        : null;
+    if (token == null) {
+      token = VungleSdkWrapper.delegate.getBiddingToken(rtbSignalData.getContext());
+    }
     if (TextUtils.isEmpty(token)) {
       AdError error = new AdError(ERROR_CANNOT_GET_BID_TOKEN,
           "Liftoff Monetize returned an empty bid token.", ERROR_DOMAIN);
@@ -212,15 +220,27 @@ public class VungleMediationAdapter extends RtbAdapter implements MediationRewar
   }
 
   @Override
-  public void initialize(@NonNull Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+  public void initialize(@NonNull final Context context,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
-
     if (VungleSdkWrapper.delegate.isInitialized()) {
-      initializationCompleteCallback.onInitializationSucceeded();
+      VungleInitializationTelemetry.track(
+              TAG, callback, VungleInitializationTelemetry.NO_WAITING_LISTENERS)
+          .onInitializationSucceeded();
       return;
     }
 
+    final InitializationCompleteCallback initializationCompleteCallback =
+        VungleInitializationTelemetry.track(
+            TAG,
+            callback,
+            new VungleInitializationTelemetry.WaitingListenerCounter() {
+              @Override
+              public int getWaitingListenerCount() {
+                return VungleInitializer.getInstance().getWaitingListenerCount();
+              }
+            });
+
     HashSet<String> appIDs = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       Bundle serverParameters = configuration.getServerParameters();
@@ -254,6 +274,7 @@ public class VungleMediationAdapter extends RtbAdapter implements MediationRewar
       @Override
       public void onInitializeSuccess() {
         initializationCompleteCallback.onInitializationSucceeded();
+        prewarmBidToken(context);
       }
 
       @Override
@@ -265,6 +286,19 @@ public class VungleMediationAdapter extends RtbAdapter implements MediationRewar
     });
   }
 
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private static void prewarmBidToken(@NonNull final Context context) {
+    VungleBidTokenPrewarmer.getInstance().prewarm(
+        VungleBidTokenPrewarmer.createKey(context, VungleBidTokenPrewarmer.ANY_REQUEST_KEY),
+        new VungleBidTokenPrewarmer.TokenGenerator() {
+          @Nullable
+          @Override
+          public String generateToken() {
+            return VungleSdkWrapper.delegate.getBiddingToken(context);
+          }
+        });
+  }
+
   @Override
   public void loadRewardedAd(
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
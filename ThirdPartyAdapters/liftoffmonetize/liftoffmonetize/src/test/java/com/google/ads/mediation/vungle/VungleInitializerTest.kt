@@ -108,6 +108,57 @@ class VungleInitializerTest {
       .onInitializeError(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun initialize_afterErrorCalled_callsInitAgain() {
+    initializer.initialize(TEST_APP_ID_1, context, mockVungleInitializationListener)
+    initializer.onError(
+      mock {
+        on { code } doReturn UNKNOWN_ERROR
+        on { errorMessage } doReturn "Liftoff Monetize SDK initialization failed."
+      }
+    )
+
+    initializer.initialize(TEST_APP_ID_1, context, mockVungleInitializationListener)
+
+    verify(mockSdkWrapper, times(2)).init(eq(context), eq(TEST_APP_ID_1), eq(initializer))
+
+    // Call onSuccess to clear the init listeners.
+    initializer.onSuccess()
+  }
+
+  @Test
+  fun initialize_sdkNoLongerInitializedAfterSuccess_callsInitAgain() {
+    initializer.initialize(TEST_APP_ID_1, context, mockVungleInitializationListener)
+    initializer.onSuccess()
+
+    initializer.initialize(TEST_APP_ID_1, context, mockVungleInitializationListener)
+
+    verify(mockSdkWrapper, times(2)).init(eq(context), eq(TEST_APP_ID_1), eq(initializer))
+
+    // Call onSuccess to clear the init listeners.
+    initializer.onSuccess()
+  }
+
+  @Test
+  fun getWaitingListenerCount_fromListenerCallback_returnsNotifiedListenerCount() {
+    val waitingListenerCounts = mutableListOf<Int>()
+    val listener =
+      object : VungleInitializer.VungleInitializationListener {
+        override fun onInitializeSuccess() {
+          waitingListenerCounts.add(initializer.waitingListenerCount)
+        }
+
+        override fun onInitializeError(error: AdError) {}
+      }
+    initializer.initialize(TEST_APP_ID_1, context, listener)
+    initializer.initialize(TEST_APP_ID_1, context, listener)
+
+    initializer.onSuccess()
+
+    assertThat(waitingListenerCounts).containsExactly(2, 2)
+    assertThat(initializer.waitingListenerCount).isEqualTo(0)
+  }
+
   @Test
   fun updateCoppaStatus_whenChildDirectedIsTrue_setsCoppaStatusTrue() {
     Mockito.mockStatic(VunglePrivacySettings::class.java).use {
@@ -235,6 +235,58 @@ class VungleMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsWaitingListenerCountFromInitializer() {
+    val mockTelemetryListener = mock<VungleInitializationTelemetry.Listener>()
+    VungleInitializationTelemetry.setListener(mockTelemetryListener)
+    val serverParameters = bundleOf(VungleConstants.KEY_APP_ID to TEST_APP_ID_1)
+    val configs = listOf(createMediationConfiguration(serverParameters = serverParameters))
+    val listener = argumentCaptor<VungleInitializer.VungleInitializationListener>()
+
+    try {
+      mockStatic(VungleInitializer::class.java).use {
+        whenever(getInstance()) doReturn mockVungleInitializer
+        whenever(mockVungleInitializer.waitingListenerCount) doReturn WAITING_LISTENER_COUNT
+        adapter.initialize(context, mockInitializationCompleteCallback, configs)
+
+        verify(mockVungleInitializer).initialize(eq(TEST_APP_ID_1), any(), listener.capture())
+        listener.firstValue.onInitializeSuccess()
+      }
+    } finally {
+      VungleInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(
+        eq(VungleMediationAdapter.TAG),
+        any(),
+        eq(true),
+        eq(WAITING_LISTENER_COUNT),
+      )
+  }
+
+  @Test
+  fun initialize_withTelemetryListenerAndAlreadyInitialized_reportsNoWaitingListeners() {
+    val mockTelemetryListener = mock<VungleInitializationTelemetry.Listener>()
+    VungleInitializationTelemetry.setListener(mockTelemetryListener)
+    whenever(mockSdkWrapper.isInitialized()) doReturn true
+    val serverParameters = bundleOf(VungleConstants.KEY_APP_ID to TEST_APP_ID_1)
+
+    try {
+      adapter.initialize(
+        context,
+        mockInitializationCompleteCallback,
+        listOf(createMediationConfiguration(serverParameters = serverParameters)),
+      )
+    } finally {
+      VungleInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq(VungleMediationAdapter.TAG), any(), eq(true), eq(0))
+    verify(mockInitializationCompleteCallback).onInitializationSucceeded()
+  }
+
   @Test
   fun initialize_withMultipleAppIds_initializesLiftoffSdkUsingOneOfTheAppIds() {
     val serverParameters1 = bundleOf(VungleConstants.KEY_APP_ID to TEST_APP_ID_1)
@@ -1666,5 +1718,6 @@ class VungleMediationAdapterTest {
     const val TEST_APP_ID_1 = "testAppId1"
     const val TEST_APP_ID_2 = "testAppId2"
     const val TEST_USER_ID = "testUserId"
+    const val WAITING_LISTENER_COUNT = 3
   }
 }
@@ -0,0 +1,148 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.line
+
+import android.content.Context
+import android.os.SystemClock
+import com.google.android.gms.ads.MobileAds
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Generates a FiveAd SDK signal as soon as the SDK is initialized, so that the first auction of the
+ * session does not wait for a signal to be collected.
+ *
+ * FiveAd SDK collects the signal of a slot, so the signal is prewarmed for the first slot ID the
+ * adapter is initialized with. The prewarmed signal is handed to the first signal request for that
+ * slot made within its maximum age under the same privacy state of the user, and is used only once.
+ * Prewarming is disabled by default, since a network may expect a signal collected for the auction
+ * itself.
+ */
+object LineBidTokenPrewarmer {
+
+  /** How long a prewarmed bid token may be used after it was generated, by default. */
+  const val DEFAULT_MAX_AGE_MILLIS = 60 * 1000L
+
+  /** IAB consent strings that the privacy state of the user is read from. */
+  private val IAB_PRIVACY_KEYS =
+    arrayOf("IABTCF_TCString", "IABUSPrivacy_String", "IABGPP_HDR_GppString")
+
+  private val prewarmedToken = AtomicReference<PrewarmedToken?>()
+
+  private val consumedCount = AtomicLong()
+  private val expiredCount = AtomicLong()
+
+  @Volatile private var enabled = false
+  @Volatile private var maxAgeMillis = DEFAULT_MAX_AGE_MILLIS
+
+  /**
+   * Returns the key of the signal of [slotId], which includes the privacy state of the user so
+   * that a signal is never used once that state has changed: the child-directed and under-age tags
+   * of the app, and the IAB consent strings.
+   */
+  internal fun createKey(context: Context?, slotId: String): String {
+    val requestConfiguration = MobileAds.getRequestConfiguration()
+    val key = StringBuilder()
+    key
+      .append("coppa=")
+      .append(requestConfiguration.tagForChildDirectedTreatment)
+      .append("|tfua=")
+      .append(requestConfiguration.tagForUnderAgeOfConsent)
+
+    if (context != null) {
+      // IAB consent strings are stored in the default shared preferences of the app. Only these
+      // are read, since copying every preference of the app on each request is costly.
+      val preferences =
+        context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+      for (privacyKey in IAB_PRIVACY_KEYS) {
+        key
+          .append('|')
+          .append(privacyKey)
+          .append('=')
+          .append(preferences.getString(privacyKey, null))
+      }
+    }
+    return key.append('|').append(slotId).toString()
+  }
+
+  /** Whether a bid token is generated once the SDK is initialized. */
+  internal val isEnabled: Boolean
+    get() = enabled
+
+  /** Sets whether a bid token is generated once the SDK is initialized. */
+  @JvmStatic
+  fun setEnabled(enabled: Boolean) {
+    this.enabled = enabled
+    if (!enabled) {
+      prewarmedToken.set(null)
+    }
+  }
+
+  /** Sets how long a prewarmed bid token may be used after it was generated. */
+  @JvmStatic
+  fun setMaxAgeMillis(maxAgeMillis: Long) {
+    this.maxAgeMillis = maxAgeMillis
+  }
+
+  /** Drops the prewarmed bid token, for example after the user's consent changed. */
+  @JvmStatic
+  fun invalidate() {
+    prewarmedToken.set(null)
+  }
+
+  /** Returns the number of signal requests served with the prewarmed bid token. */
+  @JvmStatic fun getConsumedCount(): Long = consumedCount.get()
+
+  /** Returns the number of prewarmed bid tokens that expired before a signal request used them. */
+  @JvmStatic fun getExpiredCount(): Long = expiredCount.get()
+
+  /**
+   * Keeps a newly generated bid token for the first signal request with [key], if prewarming is
+   * enabled.
+   */
+  internal fun put(key: String, token: String) {
+    if (enabled) {
+      prewarmedToken.set(PrewarmedToken(key, token))
+    }
+  }
+
+  /**
+   * Returns the prewarmed bid token for [key] and forgets it, or `null` if there is no such token
+   * or it is older than the maximum age. A token prewarmed for another key is dropped.
+   */
+  internal fun consume(key: String): String? {
+    val token = prewarmedToken.get() ?: return null
+    if (SystemClock.elapsedRealtime() - token.createdTimeMillis > maxAgeMillis) {
+      if (prewarmedToken.compareAndSet(token, null)) {
+        expiredCount.incrementAndGet()
+      }
+      return null
+    }
+    if (token.key != key) {
+      // The token was generated for another request or under another privacy state of the user.
+      prewarmedToken.compareAndSet(token, null)
+      return null
+    }
+    if (!prewarmedToken.compareAndSet(token, null)) {
+      return null
+    }
+    consumedCount.incrementAndGet()
+    return token.token
+  }
+
+  private class PrewarmedToken(val key: String, val token: String) {
+    val createdTimeMillis = SystemClock.elapsedRealtime()
+  }
+}
@@ -0,0 +1,100 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.line
+
+import android.os.SystemClock
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Reports how long the LINE SDK takes to initialize and how the initialization ends. Nothing
+ * is measured, and no objects are allocated, until a listener is set.
+ */
+object LineInitializationTelemetry {
+
+  /** Receives a report for every call to the adapter's `initialize()`. */
+  fun interface Listener {
+
+    /**
+     * Called once the outcome of an `initialize()` call has been delivered.
+     *
+     * @param adapterName the name of the adapter that was initialized.
+     * @param durationMillis the wall-clock time from the `initialize()` call to its outcome.
+     * @param succeeded whether the initialization succeeded.
+     * @param waitingListenerCount the number of listeners that were waiting for the SDK
+     *   initialization when it completed, or 0 if the SDK was already initialized.
+     */
+    fun onInitializationCompleted(
+      adapterName: String,
+      durationMillis: Long,
+      succeeded: Boolean,
+      waitingListenerCount: Int,
+    )
+  }
+
+  @Volatile private var listener: Listener? = null
+
+  /** Sets the listener that receives initialization reports, or `null` to stop reporting. */
+  @JvmStatic
+  fun setListener(listener: Listener?) {
+    this.listener = listener
+  }
+
+  /**
+   * Returns a callback that reports the outcome of an `initialize()` call before forwarding it to
+   * [callback], or [callback] itself if no listener is set.
+   */
+  internal fun track(
+    adapterName: String,
+    callback: InitializationCompleteCallback,
+  ): InitializationCompleteCallback {
+    val currentListener = listener ?: return callback
+    return TrackedCallback(currentListener, adapterName, callback)
+  }
+
+  private class TrackedCallback(
+    private val listener: Listener,
+    private val adapterName: String,
+    private val callback: InitializationCompleteCallback,
+  ) : InitializationCompleteCallback {
+
+    private val startTimeMillis = SystemClock.elapsedRealtime()
+    private val reported = AtomicBoolean()
+
+    override fun onInitializationSucceeded() {
+      report(succeeded = true)
+      callback.onInitializationSucceeded()
+    }
+
+    override fun onInitializationFailed(error: String) {
+      report(succeeded = false)
+      callback.onInitializationFailed(error)
+    }
+
+    private fun report(succeeded: Boolean) {
+      if (!reported.compareAndSet(false, true)) {
+        return
+      }
+      // The SDK initialization is not shared between callers, so this callback is the only one
+      // waiting for it.
+      listener.onInitializationCompleted(
+        adapterName,
+        SystemClock.elapsedRealtime() - startTimeMillis,
+        succeeded,
+        /* waitingListenerCount= */ 1,
+      )
+    }
+  }
+}
@@ -99,9 +99,12 @@ class LineMediationAdapter : RtbAdapter() {
 
   override fun initialize(
     context: Context,
-    initializationCompleteCallback: InitializationCompleteCallback,
+    callback: InitializationCompleteCallback,
     mediationConfigurations: List<MediationConfiguration>,
   ) {
+    val initializationCompleteCallback =
+      LineInitializationTelemetry.track(LineMediationAdapter::class.java.simpleName, callback)
+
     val appIds =
       mediationConfigurations.mapNotNull {
         val appId = it.serverParameters.getString(KEY_APP_ID)
@@ -140,6 +143,39 @@ class LineMediationAdapter : RtbAdapter() {
     }
 
     initializationCompleteCallback.onInitializationSucceeded()
+    prewarmSignal(context, mediationConfigurations)
+  }
+
+  /**
+   * Collects a signal for the first slot ID found in [mediationConfigurations] for the first
+   * auction, if bid token prewarming is enabled.
+   */
+  private fun prewarmSignal(
+    context: Context,
+    mediationConfigurations: List<MediationConfiguration>,
+  ) {
+    if (!LineBidTokenPrewarmer.isEnabled) {
+      return
+    }
+    val slotId =
+      mediationConfigurations.firstNotNullOfOrNull {
+        it.serverParameters.getString(KEY_SLOT_ID)?.ifEmpty { null }
+      } ?: return
+    val key = LineBidTokenPrewarmer.createKey(context, slotId)
+    adLoader.collectSignal(
+      slotId,
+      object : CollectSignalCallback {
+        override fun onCollect(signalString: String) {
+          if (signalString.isNotEmpty()) {
+            LineBidTokenPrewarmer.put(key, signalString)
+          }
+        }
+
+        override fun onError(fiveAdErrorCode: FiveAdErrorCode) {
+          Log.d(TAG, "Could not prewarm the signal of slot $slotId: ${fiveAdErrorCode.name}")
+        }
+      },
+    )
   }
 
   override fun collectSignals(signalData: RtbSignalData, signalCallbacks: SignalCallbacks) {
@@ -158,6 +194,14 @@ class LineMediationAdapter : RtbAdapter() {
       signalCallbacks.onFailure(adError)
       return
     }
+    val prewarmedSignal =
+      LineBidTokenPrewarmer.consume(
+        LineBidTokenPrewarmer.createKey(signalData.context, slotIds.first())
+      )
+    if (prewarmedSignal != null) {
+      signalCallbacks.onSuccess(prewarmedSignal)
+      return
+    }
     adLoader.collectSignal(
       slotIds.first(),
       object : CollectSignalCallback {
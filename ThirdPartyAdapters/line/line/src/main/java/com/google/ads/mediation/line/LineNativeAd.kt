@@ -40,7 +40,6 @@ import com.google.android.gms.ads.nativead.NativeAdOptions
 import kotlin.coroutines.CoroutineContext
 import kotlin.coroutines.resume
 import kotlinx.coroutines.CoroutineScope
-import kotlinx.coroutines.asCoroutineDispatcher
 import kotlinx.coroutines.async
 import kotlinx.coroutines.cancel
 import kotlinx.coroutines.coroutineScope
@@ -240,8 +239,7 @@ private constructor(
       mediationNativeAdConfiguration: MediationNativeAdConfiguration,
       mediationNativeAdLoadCallback:
         MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>,
-      coroutineContext: CoroutineContext =
-        LineSdkFactory.BACKGROUND_EXECUTOR.asCoroutineDispatcher(),
+      coroutineContext: CoroutineContext = LineSdkFactory.BACKGROUND_DISPATCHER,
     ): Result<LineNativeAd> {
       val context = mediationNativeAdConfiguration.context
       val serverParameters = mediationNativeAdConfiguration.serverParameters
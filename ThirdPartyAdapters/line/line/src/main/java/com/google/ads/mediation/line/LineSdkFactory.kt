@@ -21,12 +21,16 @@ import com.five_corp.ad.FiveAdCustomLayout
 import com.five_corp.ad.FiveAdInterstitial
 import com.five_corp.ad.FiveAdNative
 import com.five_corp.ad.FiveAdVideoReward
-import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.RejectedExecutionHandler
 import java.util.concurrent.ThreadFactory
 import java.util.concurrent.ThreadPoolExecutor
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
 import kotlin.time.Duration.Companion.seconds
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.asExecutor
 
 /**
  * Wrapper singleton to enable mocking of [FiveAd] different ad formats for unit testing.
@@ -36,8 +40,14 @@ import kotlin.time.Duration.Companion.seconds
  */
 object LineSdkFactory {
 
-  private const val MIN_NUMBER_GENERIC_WORKERS = 2
-  private const val MAX_NUMBER_GENERIC_WORKERS = Integer.MAX_VALUE
+  /** Number of threads that run background work while the queue has room. */
+  internal const val CORE_POOL_SIZE = 2
+
+  /** Number of threads the pool grows to once [QUEUE_CAPACITY] tasks are waiting. */
+  internal const val MAXIMUM_POOL_SIZE = 4
+
+  /** Number of tasks that wait for a worker thread before the pool grows past its core size. */
+  internal const val QUEUE_CAPACITY = 16
   private val THREAD_KEEP_ALIVE_TIME = 10.seconds
 
   /** Delegate used on unit tests to help mock calls to create [FiveAd] formats. */
@@ -72,15 +82,43 @@ object LineSdkFactory {
       }
     }
 
-  internal val BACKGROUND_EXECUTOR =
+  /**
+   * Runs tasks that a saturated background executor rejects on [Dispatchers.IO]. Rejected tasks are
+   * never dropped, since the coroutines they resume would otherwise never complete, and never run
+   * on the submitting thread, which may be the main thread.
+   */
+  private val runOnIoDispatcher = RejectedExecutionHandler { runnable, _ ->
+    Dispatchers.IO.asExecutor().execute(runnable)
+  }
+
+  /** Creates an executor configured like [BACKGROUND_EXECUTOR]. */
+  internal fun newBackgroundExecutor() =
     ThreadPoolExecutor(
-      MIN_NUMBER_GENERIC_WORKERS,
-      MAX_NUMBER_GENERIC_WORKERS,
-      THREAD_KEEP_ALIVE_TIME.inWholeSeconds,
-      TimeUnit.SECONDS,
-      LinkedBlockingQueue(),
-      newThreadFactory("BG")
-    )
+        CORE_POOL_SIZE,
+        MAXIMUM_POOL_SIZE,
+        THREAD_KEEP_ALIVE_TIME.inWholeSeconds,
+        TimeUnit.SECONDS,
+        ArrayBlockingQueue(QUEUE_CAPACITY),
+        newThreadFactory("BG"),
+        runOnIoDispatcher,
+      )
+      .apply {
+        // Release idle threads so that the pool costs nothing between ad loads.
+        allowCoreThreadTimeOut(true)
+      }
+
+  internal val BACKGROUND_EXECUTOR = newBackgroundExecutor()
+
+  /** Coroutine dispatcher backed by [BACKGROUND_EXECUTOR], shared by all ad loads. */
+  internal val BACKGROUND_DISPATCHER = BACKGROUND_EXECUTOR.asCoroutineDispatcher()
+
+  /** Number of background tasks currently running. */
+  val backgroundActiveCount: Int
+    get() = BACKGROUND_EXECUTOR.activeCount
+
+  /** Number of background tasks waiting for a worker thread. */
+  val backgroundQueuedCount: Int
+    get() = BACKGROUND_EXECUTOR.queue.size
 }
 
 /** Declares the methods that will invoke the [FiveAd] SDK */
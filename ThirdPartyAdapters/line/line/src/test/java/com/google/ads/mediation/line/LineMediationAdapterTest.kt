@@ -253,6 +253,28 @@ class LineMediationAdapterTest {
     verify(mockInitializationCompleteCallback).onInitializationFailed(eq(TEST_INITIALIZE_ERROR_MSG))
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsInitializationOutcome() {
+    val mockTelemetryListener = mock<LineInitializationTelemetry.Listener>()
+    LineInitializationTelemetry.setListener(mockTelemetryListener)
+    val serverParameters = bundleOf(LineMediationAdapter.KEY_APP_ID to TEST_APP_ID_1)
+    val mediationConfiguration = createMediationConfiguration(AdFormat.BANNER, serverParameters)
+
+    try {
+      lineMediationAdapter.initialize(
+        context,
+        mockInitializationCompleteCallback,
+        listOf(mediationConfiguration),
+      )
+    } finally {
+      LineInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq("LineMediationAdapter"), any(), eq(true), eq(1))
+    verify(mockInitializationCompleteCallback).onInitializationSucceeded()
+  }
+
   @Test
   fun initialize_withTagForChildTreatmentTrue_configuresFiveAdSDKWithTrue() {
     val requestConfiguration =
@@ -0,0 +1,80 @@
+package com.google.ads.mediation.line
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class LineSdkFactoryTest {
+
+  // A fresh executor for every test, so that idle threads left by other tests don't pick up work.
+  private val executor = LineSdkFactory.newBackgroundExecutor()
+  private val releaseTasks = CountDownLatch(1)
+
+  @After
+  fun tearDown() {
+    releaseTasks.countDown()
+    executor.shutdown()
+  }
+
+  @Test
+  fun backgroundExecutor_coreWorkersBusy_queuesTasksWithoutGrowing() {
+    val queuedTaskCount = 3
+    val tasksStarted = CountDownLatch(LineSdkFactory.CORE_POOL_SIZE)
+
+    submitBlockingTasks(LineSdkFactory.CORE_POOL_SIZE + queuedTaskCount, tasksStarted)
+
+    assertThat(tasksStarted.await(10, TimeUnit.SECONDS)).isTrue()
+    assertThat(executor.activeCount).isEqualTo(LineSdkFactory.CORE_POOL_SIZE)
+    assertThat(executor.queue).hasSize(queuedTaskCount)
+  }
+
+  @Test
+  fun backgroundExecutor_queueFull_growsToMaximumPoolSize() {
+    val tasksStarted = CountDownLatch(LineSdkFactory.MAXIMUM_POOL_SIZE)
+
+    submitBlockingTasks(
+      LineSdkFactory.MAXIMUM_POOL_SIZE + LineSdkFactory.QUEUE_CAPACITY,
+      tasksStarted,
+    )
+
+    assertThat(tasksStarted.await(10, TimeUnit.SECONDS)).isTrue()
+    assertThat(executor.activeCount).isEqualTo(LineSdkFactory.MAXIMUM_POOL_SIZE)
+    assertThat(executor.queue).hasSize(LineSdkFactory.QUEUE_CAPACITY)
+  }
+
+  @Test
+  fun backgroundExecutor_saturated_runsRejectedTaskOnAnotherThread() {
+    val tasksStarted = CountDownLatch(LineSdkFactory.MAXIMUM_POOL_SIZE)
+    submitBlockingTasks(
+      LineSdkFactory.MAXIMUM_POOL_SIZE + LineSdkFactory.QUEUE_CAPACITY,
+      tasksStarted,
+    )
+    assertThat(tasksStarted.await(10, TimeUnit.SECONDS)).isTrue()
+    val rejectedTaskRan = CountDownLatch(1)
+    var rejectedTaskThread: Thread? = null
+
+    executor.execute {
+      rejectedTaskThread = Thread.currentThread()
+      rejectedTaskRan.countDown()
+    }
+
+    assertThat(rejectedTaskRan.await(10, TimeUnit.SECONDS)).isTrue()
+    assertThat(rejectedTaskThread).isNotSameInstanceAs(Thread.currentThread())
+    assertThat(executor.queue).hasSize(LineSdkFactory.QUEUE_CAPACITY)
+  }
+
+  /** Submits [taskCount] tasks that count down [tasksStarted] and then block until the test ends. */
+  private fun submitBlockingTasks(taskCount: Int, tasksStarted: CountDownLatch) {
+    repeat(taskCount) {
+      executor.execute {
+        tasksStarted.countDown()
+        releaseTasks.await(10, TimeUnit.SECONDS)
+      }
+    }
+  }
+}
@@ -22,9 +22,10 @@ import android.app.Activity;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.ads.mediation.maio.MaioAdsManagerListener;
+import com.google.ads.mediation.maio.WeakInstanceRegistry;
 import com.google.android.gms.ads.AdError;
-import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import jp.maio.sdk.android.FailNotificationReason;
@@ -52,7 +53,7 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
 
   private InitializationStatus initState;
 
-  private final HashMap<String, WeakReference<MaioAdsManagerListener>> listeners;
+  private final WeakInstanceRegistry<String, MaioAdsManagerListener> listeners;
 
   public static final String KEY_MEDIA_ID = "mediaId";
   public static final String KEY_ZONE_ID = "zoneId";
@@ -67,7 +68,7 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
 
   private MaioAdsManager(String mediaID) {
     this.mediaID = mediaID;
-    this.listeners = new HashMap<>();
+    this.listeners = new WeakInstanceRegistry<>();
     this.initState = InitializationStatus.UNINITIALIZED;
   }
 
@@ -86,10 +87,15 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
     }
   }
 
-  private boolean hasListener(String zoneID) {
-    return !TextUtils.isEmpty(zoneID)
-        && this.listeners.containsKey(zoneID)
-        && this.listeners.get(zoneID).get() != null;
+  @Nullable
+  private MaioAdsManagerListener getListener(String zoneID) {
+    return !TextUtils.isEmpty(zoneID) ? this.listeners.get(zoneID) : null;
+  }
+
+  private void removeListener(String zoneID) {
+    if (!TextUtils.isEmpty(zoneID)) {
+      this.listeners.remove(zoneID);
+    }
   }
 
   private boolean canShowAd(String zoneID) {
@@ -99,7 +105,7 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
   }
 
   public void loadAd(String zoneID, MaioAdsManagerListener listener) {
-    if (hasListener(zoneID)) {
+    if (getListener(zoneID) != null) {
       Log.e(TAG, "An ad has already been requested for zone ID: " + zoneID);
       listener.onFailed(FailNotificationReason.AD_STOCK_OUT, zoneID);
       return;
@@ -114,13 +120,13 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
       listener.onAdFailedToLoad(error);
       return;
     }
-    listeners.put(zoneID, new WeakReference<>(listener));
+    listeners.put(zoneID, listener);
     listener.onChangedCanShow(zoneID, true);
   }
 
   public void showAd(String zoneID, MaioAdsManagerListener listener) {
     if (!canShowAd(zoneID)) {
-      this.listeners.remove(zoneID);
+      removeListener(zoneID);
       AdError error = new AdError(ERROR_AD_NOT_AVAILABLE,
           "Failed to show ad: Ad not ready for zone ID: " + zoneID, ERROR_DOMAIN);
       Log.w(TAG, error.getMessage());
@@ -144,53 +150,60 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
 
   @Override
   public void onChangedCanShow(String zoneId, boolean isAvailable) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onChangedCanShow(zoneId, isAvailable);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onChangedCanShow(zoneId, isAvailable);
     }
   }
 
   @Override
   public void onFailed(FailNotificationReason reason, String zoneId) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onFailed(reason, zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onFailed(reason, zoneId);
     }
-    this.listeners.remove(zoneId);
+    removeListener(zoneId);
   }
 
   @Override
   public void onOpenAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onOpenAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onOpenAd(zoneId);
     }
   }
 
   @Override
   public void onStartedAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onStartedAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onStartedAd(zoneId);
     }
   }
 
   @Override
   public void onClickedAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onClickedAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onClickedAd(zoneId);
     }
   }
 
   @Override
   public void onFinishedAd(int playtime, boolean skipped, int duration, String zoneId) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onFinishedAd(playtime, skipped, duration, zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onFinishedAd(playtime, skipped, duration, zoneId);
     }
   }
 
   @Override
   public void onClosedAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.listeners.get(zoneId).get().onClosedAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onClosedAd(zoneId);
     }
-    this.listeners.remove(zoneId);
+    removeListener(zoneId);
   }
   // endregion
 
@@ -18,6 +18,7 @@ import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_D
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FACEBOOK_INITIALIZATION;
 
 import android.content.Context;
+import androidx.annotation.NonNull;
 import com.facebook.ads.AudienceNetworkAds;
 import com.facebook.ads.AudienceNetworkAds.InitResult;
 import com.google.android.gms.ads.AdError;
@@ -26,12 +27,11 @@ import java.util.ArrayList;
 class FacebookInitializer implements AudienceNetworkAds.InitListener {
 
   private static FacebookInitializer instance;
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
 
-  private final ArrayList<Listener> listeners;
+  private final InitializationStateMachine<Listener> stateMachine =
+      new InitializationStateMachine<>();
 
-  static FacebookInitializer getInstance() {
+  static synchronized FacebookInitializer getInstance() {
     if (instance == null) {
       instance = new FacebookInitializer();
     }
@@ -39,7 +39,6 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
   }
 
   private FacebookInitializer() {
-    listeners = new ArrayList<>();
   }
 
   void initialize(Context context, String placementId, Listener listener) {
@@ -50,41 +49,56 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
   }
 
   void initialize(Context context, ArrayList<String> placements, Listener listener) {
-    if (isInitializing) {
-      listeners.add(listener);
-      return;
+    switch (stateMachine.register(listener)) {
+      case InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case InitializationStateMachine.REGISTRATION_QUEUED:
+        return;
+      case InitializationStateMachine.REGISTRATION_START_INITIALIZATION:
+      default:
+        AudienceNetworkAds.buildInitSettings(context)
+            .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
+            .withPlacementIds(placements)
+            .withInitListener(FacebookInitializer.this)
+            .initialize();
     }
+  }
 
-    if (isInitialized) {
-      listener.onInitializeSuccess();
-      return;
+  @Override
+  public void onInitialized(final InitResult initResult) {
+    if (initResult.isSuccess()) {
+      stateMachine.onInitializationSucceeded(
+          new InitializationStateMachine.ListenerNotifier<Listener>() {
+            @Override
+            public void notify(@NonNull Listener listener) {
+              listener.onInitializeSuccess();
+            }
+          });
+    } else {
+      final AdError error = new AdError(ERROR_FACEBOOK_INITIALIZATION, initResult.getMessage(),
+          ERROR_DOMAIN);
+      stateMachine.onInitializationFailed(
+          new InitializationStateMachine.ListenerNotifier<Listener>() {
+            @Override
+            public void notify(@NonNull Listener listener) {
+              listener.onInitializeError(error);
+            }
+          });
     }
-
-    isInitializing = true;
-
-    getInstance().listeners.add(listener);
-    AudienceNetworkAds.buildInitSettings(context)
-        .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
-        .withPlacementIds(placements)
-        .withInitListener(FacebookInitializer.this)
-        .initialize();
   }
 
-  @Override
-  public void onInitialized(InitResult initResult) {
-    isInitializing = false;
-    isInitialized = initResult.isSuccess();
+  /**
+   * Returns how long, in milliseconds, the last Meta Audience Network SDK initialization took, or
+   * -1 if it has not completed yet.
+   */
+  long getLastInitializationDurationMillis() {
+    return stateMachine.getLastInitializationDurationMillis();
+  }
 
-    for (Listener listener : listeners) {
-      if (initResult.isSuccess()) {
-        listener.onInitializeSuccess();
-      } else {
-        AdError error = new AdError(ERROR_FACEBOOK_INITIALIZATION, initResult.getMessage(),
-            ERROR_DOMAIN);
-        listener.onInitializeError(error);
-      }
-    }
-    listeners.clear();
+  /** See {@link InitializationStateMachine#getWaitingListenerCount()}. */
+  int getWaitingListenerCount() {
+    return stateMachine.getWaitingListenerCount();
   }
 
   interface Listener {
@@ -84,7 +84,9 @@ public class FacebookMediationAdapter extends RtbAdapter {
       ERROR_MAPPING_NATIVE_ASSETS,
       ERROR_CREATE_NATIVE_AD_FROM_BID_PAYLOAD,
       ERROR_FAILED_TO_PRESENT_AD,
-      ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION
+      ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION,
+      ERROR_SIGNAL_COLLECTION_TIMEOUT,
+      ERROR_SIGNAL_COLLECTION_FAILED
   })
 
   public @interface AdapterError {
@@ -146,6 +148,17 @@ public class FacebookMediationAdapter extends RtbAdapter {
    */
   public static final int ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION = 111;
 
+  /**
+   * Meta Audience Network SDK did not generate a bidder token before the signal collection
+   * deadline, or too many bidder token requests were pending to start a new one.
+   */
+  public static final int ERROR_SIGNAL_COLLECTION_TIMEOUT = 112;
+
+  /**
+   * Meta Audience Network SDK threw an exception while generating a bidder token.
+   */
+  public static final int ERROR_SIGNAL_COLLECTION_FAILED = 113;
+
   // Meta Audience Network adapter error domain.
   public static final String ERROR_DOMAIN = "com.google.ads.mediation.facebook";
 
@@ -208,8 +221,18 @@ public class FacebookMediationAdapter extends RtbAdapter {
 
   @Override
   public void initialize(@NonNull final Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    final InitializationCompleteCallback initializationCompleteCallback =
+        FacebookInitializationTelemetry.track(
+            TAG,
+            callback,
+            new FacebookInitializationTelemetry.WaitingListenerCounter() {
+              @Override
+              public int getWaitingListenerCount() {
+                return FacebookInitializer.getInstance().getWaitingListenerCount();
+              }
+            });
 
     ArrayList<String> placements = new ArrayList<>();
     for (MediationConfiguration adConfiguration : mediationConfigurations) {
@@ -232,6 +255,7 @@ public class FacebookMediationAdapter extends RtbAdapter {
           @Override
           public void onInitializeSuccess() {
             initializationCompleteCallback.onInitializationSucceeded();
+            prewarmBidToken(context);
           }
 
           @Override
@@ -243,8 +267,60 @@ public class FacebookMediationAdapter extends RtbAdapter {
 
   @Override
   public void collectSignals(RtbSignalData rtbSignalData, SignalCallbacks signalCallbacks) {
-    String token = BidderTokenProvider.getBidderToken(rtbSignalData.getContext());
-    signalCallbacks.onSuccess(token);
+    final FacebookBidTokenCache bidTokenCache = FacebookBidTokenCache.getInstance();
+    final String cacheKey =
+        bidTokenCache.isEnabled()
+            ? FacebookBidTokenCache.createKey(rtbSignalData, AdSettings.isMixedAudience())
+            : null;
+    String cachedToken = cacheKey != null ? bidTokenCache.get(cacheKey) : null;
+    if (cachedToken != null) {
+      signalCallbacks.onSuccess(cachedToken);
+      return;
+    }
+
+    FacebookBidTokenPrewarmer bidTokenPrewarmer = FacebookBidTokenPrewarmer.getInstance();
+    String prewarmedToken =
+        bidTokenPrewarmer.isEnabled()
+            ? bidTokenPrewarmer.consume(
+                FacebookBidTokenPrewarmer.createKey(
+                    rtbSignalData.getContext(), FacebookBidTokenPrewarmer.ANY_REQUEST_KEY))
+            : null;
+    if (prewarmedToken != null) {
+      if (cacheKey != null) {
+        bidTokenCache.put(cacheKey, prewarmedToken);
+      }
+      signalCallbacks.onSuccess(prewarmedToken);
+      return;
+    }
+
+    final Context context = rtbSignalData.getContext();
+    FacebookSignalCollector.collect(
+        new FacebookSignalCollector.TokenGenerator() {
+          @Nullable
+          @Override
+          public String generateToken() {
+            String token = BidderTokenProvider.getBidderToken(context);
+            if (cacheKey != null && token != null) {
+              bidTokenCache.put(cacheKey, token);
+            }
+            return token;
+          }
+        },
+        signalCallbacks);
+  }
+
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private static void prewarmBidToken(@NonNull final Context context) {
+    FacebookBidTokenPrewarmer.getInstance()
+        .prewarm(
+            FacebookBidTokenPrewarmer.createKey(context, FacebookBidTokenPrewarmer.ANY_REQUEST_KEY),
+            new FacebookBidTokenPrewarmer.TokenGenerator() {
+              @Nullable
+              @Override
+              public String generateToken() {
+                return BidderTokenProvider.getBidderToken(context);
+              }
+            });
   }
 
   @Override
@@ -309,15 +385,22 @@ public class FacebookMediationAdapter extends RtbAdapter {
   }
 
   /**
-   * Sets the Meta Audience Network mixed audience settings.
+   * Sets the Meta Audience Network mixed audience settings, unless Meta Audience Network SDK
+   * already has the requested value.
    */
   public static void setMixedAudience(@NonNull MediationAdConfiguration mediationAdConfiguration) {
+    boolean isMixedAudience;
     if (mediationAdConfiguration.taggedForChildDirectedTreatment()
         == RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE) {
-      AdSettings.setMixedAudience(true);
+      isMixedAudience = true;
     } else if (mediationAdConfiguration.taggedForChildDirectedTreatment()
         == RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE) {
-      AdSettings.setMixedAudience(false);
+      isMixedAudience = false;
+    } else {
+      return;
+    }
+    if (AdSettings.isMixedAudience() != isMixedAudience) {
+      AdSettings.setMixedAudience(isMixedAudience);
     }
   }
 }
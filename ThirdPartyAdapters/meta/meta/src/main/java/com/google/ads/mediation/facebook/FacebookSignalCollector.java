@@ -0,0 +1,228 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.facebook;
+
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_SIGNAL_COLLECTION_FAILED;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_SIGNAL_COLLECTION_TIMEOUT;
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.AdapterError;
+import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates Meta Audience Network SDK bid tokens on a background thread, so that signal collection
+ * does not block the thread Google Mobile Ads SDK collects the signals of every network on.
+ *
+ * <p>Token generation runs on a small bounded thread pool. If a token is not generated within the
+ * deadline, signal collection fails with {@link
+ * FacebookMediationAdapter#ERROR_SIGNAL_COLLECTION_TIMEOUT}. Signal collection fails with the
+ * same error right away if the pool is saturated. If Meta Audience Network SDK throws while
+ * generating the token, signal collection fails right away with {@link
+ * FacebookMediationAdapter#ERROR_SIGNAL_COLLECTION_FAILED}.
+ */
+public final class FacebookSignalCollector {
+
+  /** Generates a bid token. Called on a background thread. */
+  interface TokenGenerator {
+
+    @Nullable
+    String generateToken();
+  }
+
+  private static final String THREAD_NAME_PREFIX = "FacebookSignalCollector-";
+
+  /** How long signal collection waits for a bid token, by default. */
+  public static final long DEFAULT_DEADLINE_MILLIS = 1000;
+
+  private static final int THREAD_COUNT = 2;
+  private static final int MAX_QUEUED_REQUESTS = 8;
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  private static Executor executor = createExecutor();
+
+  private static volatile long deadlineMillis = DEFAULT_DEADLINE_MILLIS;
+
+  private static final AtomicLong lastLatencyMillis = new AtomicLong(-1);
+  private static final AtomicLong totalLatencyMillis = new AtomicLong();
+  private static final AtomicLong collectedCount = new AtomicLong();
+  private static final AtomicLong timeoutCount = new AtomicLong();
+  private static final AtomicLong rejectedCount = new AtomicLong();
+
+  private FacebookSignalCollector() {}
+
+  /** Sets how long signal collection waits for a bid token before failing. */
+  public static void setDeadlineMillis(long deadlineMillis) {
+    FacebookSignalCollector.deadlineMillis = deadlineMillis;
+  }
+
+  /** Returns how long the last generated bid token took, or -1 if none was generated. */
+  public static long getLastLatencyMillis() {
+    return lastLatencyMillis.get();
+  }
+
+  /** Returns the average time generating a bid token took, or -1 if none was generated. */
+  public static long getAverageLatencyMillis() {
+    long count = collectedCount.get();
+    return count > 0 ? totalLatencyMillis.get() / count : -1;
+  }
+
+  /** Returns the number of signal collections that failed because the deadline passed. */
+  public static long getTimeoutCount() {
+    return timeoutCount.get();
+  }
+
+  /** Returns the number of signal collections that failed because the pool was saturated. */
+  public static long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /** Returns the thread pool bid tokens are generated on. */
+  @NonNull
+  static Executor getExecutor() {
+    return executor;
+  }
+
+  @VisibleForTesting
+  static void setExecutor(@NonNull Executor executor) {
+    FacebookSignalCollector.executor = executor;
+  }
+
+  /**
+   * Generates a bid token in the background and reports it to {@code signalCallbacks}, unless the
+   * deadline passes first.
+   */
+  static void collect(
+      @NonNull final TokenGenerator tokenGenerator,
+      @NonNull final SignalCallbacks signalCallbacks) {
+    final long startTimeMillis = SystemClock.elapsedRealtime();
+    final AtomicBoolean completed = new AtomicBoolean();
+    final long currentDeadlineMillis = deadlineMillis;
+
+    final Runnable timeoutRunnable =
+        new Runnable() {
+          @Override
+          public void run() {
+            if (!completed.compareAndSet(false, true)) {
+              return;
+            }
+            timeoutCount.incrementAndGet();
+            fail(
+                signalCallbacks,
+                ERROR_SIGNAL_COLLECTION_TIMEOUT,
+                String.format(
+                    "Meta Audience Network SDK did not generate a bid token within %d ms.",
+                    currentDeadlineMillis));
+          }
+        };
+
+    Runnable generateRunnable =
+        new Runnable() {
+          @Override
+          public void run() {
+            String token;
+            try {
+              token = tokenGenerator.generateToken();
+            } catch (RuntimeException exception) {
+              // Report the cause now rather than leaving the caller to wait for the deadline.
+              if (completed.compareAndSet(false, true)) {
+                mainHandler.removeCallbacks(timeoutRunnable);
+                fail(
+                    signalCallbacks,
+                    ERROR_SIGNAL_COLLECTION_FAILED,
+                    "Meta Audience Network SDK failed to generate a bid token: " + exception);
+              }
+              return;
+            }
+            long latencyMillis = SystemClock.elapsedRealtime() - startTimeMillis;
+            lastLatencyMillis.set(latencyMillis);
+            totalLatencyMillis.addAndGet(latencyMillis);
+            collectedCount.incrementAndGet();
+
+            if (!completed.compareAndSet(false, true)) {
+              Log.d(TAG, "Bid token generated after the deadline, in " + latencyMillis + " ms.");
+              return;
+            }
+            mainHandler.removeCallbacks(timeoutRunnable);
+            signalCallbacks.onSuccess(token);
+          }
+        };
+
+    mainHandler.postDelayed(timeoutRunnable, currentDeadlineMillis);
+    try {
+      executor.execute(generateRunnable);
+    } catch (RejectedExecutionException exception) {
+      // Too many signal collections are waiting for a token already. Generating the token on the
+      // calling thread would block it, which is what the pool is there to avoid.
+      mainHandler.removeCallbacks(timeoutRunnable);
+      if (completed.compareAndSet(false, true)) {
+        rejectedCount.incrementAndGet();
+        fail(
+            signalCallbacks,
+            ERROR_SIGNAL_COLLECTION_TIMEOUT,
+            "Too many Meta Audience Network SDK bid token requests are pending.");
+      }
+    }
+  }
+
+  private static void fail(
+      @NonNull SignalCallbacks signalCallbacks,
+      @AdapterError int errorCode,
+      @NonNull String message) {
+    AdError error = new AdError(errorCode, message, ERROR_DOMAIN);
+    Log.w(TAG, error.getMessage());
+    signalCallbacks.onFailure(error);
+  }
+
+  @NonNull
+  private static Executor createExecutor() {
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            THREAD_COUNT,
+            THREAD_COUNT,
+            THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<Runnable>(MAX_QUEUED_REQUESTS),
+            new ThreadFactory() {
+              private final AtomicInteger threadCount = new AtomicInteger();
+
+              @Override
+              public Thread newThread(@NonNull Runnable runnable) {
+                return new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+              }
+            });
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    return threadPoolExecutor;
+  }
+}
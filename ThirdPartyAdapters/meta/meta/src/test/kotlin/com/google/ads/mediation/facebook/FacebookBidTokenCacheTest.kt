@@ -0,0 +1,100 @@
+package com.google.ads.mediation.facebook
+
+import android.content.Context
+import android.os.Looper.getMainLooper
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [FacebookBidTokenCache]. */
+@RunWith(AndroidJUnit4::class)
+class FacebookBidTokenCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val cache = FacebookBidTokenCache.getInstance()
+  private val rtbSignalData = mock<RtbSignalData> { on { context } doReturn context }
+
+  @After
+  fun tearDown() {
+    cache.setTtlMillis(0)
+    getDefaultPreferences().edit().clear().commit()
+  }
+
+  @Test
+  fun get_cachingDisabledByDefault_returnsNull() {
+    cache.put(KEY, TEST_BID_RESPONSE)
+
+    assertThat(cache.get(KEY)).isNull()
+  }
+
+  @Test
+  fun get_cachedToken_returnsTokenAndCountsHit() {
+    cache.setTtlMillis(TTL_MILLIS)
+    cache.put(KEY, TEST_BID_RESPONSE)
+    val hitCount = cache.hitCount
+
+    assertThat(cache.get(KEY)).isEqualTo(TEST_BID_RESPONSE)
+    assertThat(cache.hitCount).isEqualTo(hitCount + 1)
+  }
+
+  @Test
+  fun get_afterTtl_returnsNull() {
+    cache.setTtlMillis(TTL_MILLIS)
+    cache.put(KEY, TEST_BID_RESPONSE)
+
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(TTL_MILLIS + 1))
+
+    assertThat(cache.get(KEY)).isNull()
+  }
+
+  @Test
+  fun invalidate_dropsCachedTokens() {
+    cache.setTtlMillis(TTL_MILLIS)
+    cache.put(KEY, TEST_BID_RESPONSE)
+
+    cache.invalidate()
+
+    assertThat(cache.get(KEY)).isNull()
+  }
+
+  @Test
+  fun createKey_consentStringChanged_returnsDifferentKey() {
+    val key = FacebookBidTokenCache.createKey(rtbSignalData)
+
+    getDefaultPreferences().edit().putString("IABTCF_TCString", "consent").commit()
+
+    assertThat(FacebookBidTokenCache.createKey(rtbSignalData)).isNotEqualTo(key)
+  }
+
+  @Test
+  fun createKey_otherPreferenceChanged_returnsSameKey() {
+    val key = FacebookBidTokenCache.createKey(rtbSignalData)
+
+    getDefaultPreferences().edit().putInt("launchCount", 1).commit()
+
+    assertThat(FacebookBidTokenCache.createKey(rtbSignalData)).isEqualTo(key)
+  }
+
+  @Test
+  fun createKey_otherNetworkInput_returnsDifferentKey() {
+    assertThat(FacebookBidTokenCache.createKey(rtbSignalData, true))
+      .isNotEqualTo(FacebookBidTokenCache.createKey(rtbSignalData, false))
+  }
+
+  private fun getDefaultPreferences() =
+    context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+
+  private companion object {
+    const val KEY = "key"
+    const val TTL_MILLIS = 10_000L
+  }
+}
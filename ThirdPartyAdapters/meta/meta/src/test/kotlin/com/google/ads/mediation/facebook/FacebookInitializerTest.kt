@@ -10,6 +10,7 @@ import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLAC
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FACEBOOK_INITIALIZATION
 import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
 import org.junit.After
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -130,6 +131,39 @@ class FacebookInitializerTest {
     verify(initializationListener2).onInitializeError(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun onInitialized_forInitializationFailure_nextInitializeInitializesMetaSdkAgain() {
+    Mockito.mockStatic(AudienceNetworkAds::class.java).use {
+      whenever(AudienceNetworkAds.buildInitSettings(any())) doReturn metaInitSettingsBuilder
+      facebookInitializer.initialize(context, TEST_PLACEMENT_ID, mock())
+      facebookInitializer.onInitialized(mock { on { isSuccess } doReturn false })
+
+      facebookInitializer.initialize(context, TEST_PLACEMENT_ID, mock())
+    }
+
+    verify(metaInitSettingsBuilder, times(2)).initialize()
+  }
+
+  @Test
+  fun getWaitingListenerCount_fromListenerCallback_returnsNotifiedListenerCount() {
+    val waitingListenerCounts = mutableListOf<Int>()
+    val initializationListener =
+      object : FacebookInitializer.Listener {
+        override fun onInitializeSuccess() {
+          waitingListenerCounts.add(facebookInitializer.waitingListenerCount)
+        }
+
+        override fun onInitializeError(error: AdError) {}
+      }
+    facebookInitializer.initialize(context, TEST_PLACEMENT_ID, initializationListener)
+    facebookInitializer.initialize(context, ANOTHER_PLACEMENT_ID, initializationListener)
+
+    facebookInitializer.onInitialized(mock { on { isSuccess } doReturn true })
+
+    assertThat(waitingListenerCounts).containsExactly(2, 2)
+    assertThat(facebookInitializer.waitingListenerCount).isEqualTo(0)
+  }
+
   @After
   fun tearDown() {
     // Call facebookInitializer.onInitialized with failed InitResult in tearDown() to clear all the
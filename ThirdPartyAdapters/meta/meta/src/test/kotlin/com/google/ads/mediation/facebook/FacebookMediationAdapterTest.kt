@@ -57,16 +57,21 @@ import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
 import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyBoolean
+import org.mockito.ArgumentMatchers.anyLong
 import org.mockito.Mockito.mockStatic
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.doThrow
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -143,6 +148,8 @@ class FacebookMediationAdapterTest {
   @Before
   fun setUp() {
     facebookMediationAdapter = FacebookMediationAdapter(metaFactory)
+    // Static mocks only apply to the test thread, so generate bidder tokens on it.
+    FacebookSignalCollector.setExecutor(Executor { it.run() })
   }
 
   // region Version Tests
@@ -196,6 +203,24 @@ class FacebookMediationAdapterTest {
     }
   }
 
+  @Test
+  fun collectSignals_bidTokenCachingEnabled_generatesBiddingTokenOnce() {
+    FacebookBidTokenCache.getInstance().setTtlMillis(BID_TOKEN_TTL_MILLIS)
+    try {
+      mockStatic(BidderTokenProvider::class.java).use {
+        whenever(getBidderToken(any())) doReturn (AdapterTestKitConstants.TEST_BID_RESPONSE)
+
+        facebookMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+        facebookMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+
+        it.verify({ getBidderToken(any()) }, times(1))
+        verify(signalCallbacks, times(2)).onSuccess(AdapterTestKitConstants.TEST_BID_RESPONSE)
+      }
+    } finally {
+      FacebookBidTokenCache.getInstance().setTtlMillis(0)
+    }
+  }
+
   // endregion
 
   @Test
@@ -218,6 +243,33 @@ class FacebookMediationAdapterTest {
     assertThat(AdSettings.isMixedAudience()).isFalse()
   }
 
+  @Test
+  fun setMixedAudience_whenSdkAlreadyHasValue_doesNotSetMixedAudience() {
+    whenever(mediationAdConfiguration.taggedForChildDirectedTreatment()) doReturn
+      RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE
+
+    mockStatic(AdSettings::class.java).use {
+      it.`when`<Boolean> { AdSettings.isMixedAudience() }.thenReturn(true)
+
+      setMixedAudience(mediationAdConfiguration)
+
+      it.verify({ AdSettings.setMixedAudience(anyBoolean()) }, never())
+    }
+  }
+
+  @Test
+  fun setMixedAudience_whenAppChangedSdkValue_setsMixedAudienceAgain() {
+    whenever(mediationAdConfiguration.taggedForChildDirectedTreatment()) doReturn
+      RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE
+    setMixedAudience(mediationAdConfiguration)
+
+    // The app resets the setting directly on Meta Audience Network SDK.
+    AdSettings.setMixedAudience(false)
+    setMixedAudience(mediationAdConfiguration)
+
+    assertThat(AdSettings.isMixedAudience()).isTrue()
+  }
+
   // region Initialize Tests
   @Test
   fun initialize_initializesAudienceNetworkAds() {
@@ -259,6 +311,41 @@ class FacebookMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsWaitingListenerCountFromInitializer() {
+    val mockTelemetryListener = mock<FacebookInitializationTelemetry.Listener>()
+    FacebookInitializationTelemetry.setListener(mockTelemetryListener)
+
+    try {
+      mockStatic(FacebookInitializer::class.java).use {
+        val mockInitializer: FacebookInitializer = mock()
+        whenever(FacebookInitializer.getInstance()) doReturn mockInitializer
+        whenever(mockInitializer.waitingListenerCount) doReturn WAITING_LISTENER_COUNT
+        whenever(mockInitializer.initialize(any(), any<ArrayList<String>>(), any())) doAnswer
+          { invocation ->
+            val arguments = invocation.arguments
+            (arguments[2] as FacebookInitializer.Listener).onInitializeSuccess()
+          }
+
+        facebookMediationAdapter.mediationAdapterInitializeVerifySuccess(
+          context,
+          mockInitializationCompleteCallback,
+          bundleOf(RTB_PLACEMENT_PARAMETER to TEST_PLACEMENT_ID)
+        )
+      }
+    } finally {
+      FacebookInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(
+        eq(FacebookMediationAdapter.TAG),
+        anyLong(),
+        eq(true),
+        eq(WAITING_LISTENER_COUNT)
+      )
+  }
+
   @Test
   fun initialize_whenInitializerFails_invokesOnInitializationFailed() {
     val facebookInitializer: FacebookInitializer = mock()
@@ -726,5 +813,7 @@ class FacebookMediationAdapterTest {
 
   companion object {
     private const val WATERMARK = "meta"
+    private const val BID_TOKEN_TTL_MILLIS = 10_000L
+    private const val WAITING_LISTENER_COUNT = 3
   }
 }
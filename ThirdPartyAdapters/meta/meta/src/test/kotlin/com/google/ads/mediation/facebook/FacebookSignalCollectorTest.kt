@@ -0,0 +1,147 @@
+package com.google.ads.mediation.facebook
+
+import android.os.Looper.getMainLooper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
+import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_SIGNAL_COLLECTION_FAILED
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_SIGNAL_COLLECTION_TIMEOUT
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argThat
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
+
+/** Tests for [FacebookSignalCollector]. */
+@RunWith(AndroidJUnit4::class)
+class FacebookSignalCollectorTest {
+
+  private val signalCallbacks = mock<SignalCallbacks>()
+
+  /** Runnables submitted to the executor, run only when the test decides. */
+  private val pendingRunnables = mutableListOf<Runnable>()
+
+  @After
+  fun tearDown() {
+    FacebookSignalCollector.setDeadlineMillis(FacebookSignalCollector.DEFAULT_DEADLINE_MILLIS)
+  }
+
+  @Test
+  fun collect_tokenGenerated_invokesOnSuccessAndRecordsLatency() {
+    FacebookSignalCollector.setExecutor(Executor { it.run() })
+
+    FacebookSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+
+    verify(signalCallbacks).onSuccess(TEST_BID_RESPONSE)
+    assertThat(FacebookSignalCollector.getLastLatencyMillis()).isAtLeast(0)
+    assertThat(FacebookSignalCollector.getAverageLatencyMillis()).isAtLeast(0)
+  }
+
+  @Test
+  fun collect_tokenGeneratedOnExecutor_doesNotGenerateOnCallingThread() {
+    FacebookSignalCollector.setExecutor(Executor { pendingRunnables.add(it) })
+
+    FacebookSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+
+    verify(signalCallbacks, never()).onSuccess(any())
+    pendingRunnables.forEach { it.run() }
+    verify(signalCallbacks).onSuccess(TEST_BID_RESPONSE)
+  }
+
+  @Test
+  fun collect_deadlinePassed_invokesOnFailure() {
+    FacebookSignalCollector.setExecutor(Executor { pendingRunnables.add(it) })
+    FacebookSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+    val timeoutCount = FacebookSignalCollector.getTimeoutCount()
+
+    FacebookSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+
+    val expectedAdError =
+      AdError(
+        ERROR_SIGNAL_COLLECTION_TIMEOUT,
+        "Meta Audience Network SDK did not generate a bid token within $DEADLINE_MILLIS ms.",
+        ERROR_DOMAIN,
+      )
+    verify(signalCallbacks).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    assertThat(FacebookSignalCollector.getTimeoutCount()).isEqualTo(timeoutCount + 1)
+  }
+
+  @Test
+  fun collect_tokenGeneratedAfterDeadline_doesNotInvokeOnSuccess() {
+    FacebookSignalCollector.setExecutor(Executor { pendingRunnables.add(it) })
+    FacebookSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+
+    FacebookSignalCollector.collect({ TEST_BID_RESPONSE }, signalCallbacks)
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+    pendingRunnables.forEach { it.run() }
+
+    verify(signalCallbacks, never()).onSuccess(any())
+  }
+
+  @Test
+  fun collect_executorRejectsRequest_invokesOnFailureWithoutGeneratingToken() {
+    FacebookSignalCollector.setExecutor(Executor { throw RejectedExecutionException() })
+    FacebookSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+    val rejectedCount = FacebookSignalCollector.getRejectedCount()
+    var generated = false
+
+    FacebookSignalCollector.collect(
+      {
+        generated = true
+        TEST_BID_RESPONSE
+      },
+      signalCallbacks,
+    )
+    // The deadline must not report the failure a second time.
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+
+    val expectedAdError =
+      AdError(
+        ERROR_SIGNAL_COLLECTION_TIMEOUT,
+        "Too many Meta Audience Network SDK bid token requests are pending.",
+        ERROR_DOMAIN,
+      )
+    verify(signalCallbacks).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    verify(signalCallbacks, never()).onSuccess(any())
+    assertThat(generated).isFalse()
+    assertThat(FacebookSignalCollector.getRejectedCount()).isEqualTo(rejectedCount + 1)
+  }
+
+  @Test
+  fun collect_tokenGeneratorThrows_invokesOnFailureWithCauseBeforeDeadline() {
+    FacebookSignalCollector.setExecutor(Executor { it.run() })
+    FacebookSignalCollector.setDeadlineMillis(DEADLINE_MILLIS)
+    val exception = IllegalStateException("SDK is not ready")
+    val timeoutCount = FacebookSignalCollector.getTimeoutCount()
+
+    FacebookSignalCollector.collect({ throw exception }, signalCallbacks)
+
+    val expectedAdError =
+      AdError(
+        ERROR_SIGNAL_COLLECTION_FAILED,
+        "Meta Audience Network SDK failed to generate a bid token: $exception",
+        ERROR_DOMAIN,
+      )
+    verify(signalCallbacks).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+    // The deadline must not report the failure a second time.
+    shadowOf(getMainLooper()).idleFor(Duration.ofMillis(DEADLINE_MILLIS))
+    verify(signalCallbacks).onFailure(any())
+    assertThat(FacebookSignalCollector.getTimeoutCount()).isEqualTo(timeoutCount)
+  }
+
+  private companion object {
+    const val DEADLINE_MILLIS = 500L
+  }
+}
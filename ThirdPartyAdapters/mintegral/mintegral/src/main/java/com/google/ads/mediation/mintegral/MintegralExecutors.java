@@ -0,0 +1,142 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.mintegral;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used by the Mintegral adapter for work that must not run on the caller's thread. All
+ * background work goes through a single bounded pool of named threads, so that thread usage of
+ * the adapter can be observed in one place.
+ */
+public final class MintegralExecutors {
+
+  @VisibleForTesting
+  static final int MAX_BACKGROUND_THREADS = 2;
+
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 10;
+
+  private static final ThreadPoolExecutor backgroundExecutor =
+      new ThreadPoolExecutor(
+          MAX_BACKGROUND_THREADS,
+          MAX_BACKGROUND_THREADS,
+          THREAD_KEEP_ALIVE_SECONDS,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<Runnable>(),
+          new ThreadFactory() {
+            private final AtomicInteger threadId = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+              return new Thread(runnable,
+                  "GMA-Mediation(Mintegral) " + threadId.getAndIncrement());
+            }
+          });
+
+  static {
+    backgroundExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  /** Receives timing information about tasks run on the background executor. */
+  public interface TaskMetricsListener {
+
+    /**
+     * Called after a background task has finished.
+     *
+     * @param queuedMillis the time the task waited for a worker thread.
+     * @param runMillis the time the task took to run.
+     */
+    void onTaskCompleted(long queuedMillis, long runMillis);
+  }
+
+  @Nullable
+  private static volatile TaskMetricsListener taskMetricsListener;
+
+  private static final Executor instrumentedBackgroundExecutor =
+      new Executor() {
+        @Override
+        public void execute(@NonNull final Runnable task) {
+          final long submitTime = SystemClock.elapsedRealtime();
+          backgroundExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+              long startTime = SystemClock.elapsedRealtime();
+              try {
+                task.run();
+              } finally {
+                TaskMetricsListener listener = taskMetricsListener;
+                if (listener != null) {
+                  listener.onTaskCompleted(
+                      startTime - submitTime, SystemClock.elapsedRealtime() - startTime);
+                }
+              }
+            }
+          });
+        }
+      };
+
+  private MintegralExecutors() {}
+
+  /** Returns the executor for background work of the Mintegral adapter. */
+  @NonNull
+  public static Executor getBackgroundExecutor() {
+    return instrumentedBackgroundExecutor;
+  }
+
+  /**
+   * Runs the given task on the main thread, immediately if called from the main thread and
+   * otherwise as soon as the main thread is free.
+   */
+  public static void runOnMainThread(@NonNull Runnable task) {
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      task.run();
+    } else {
+      mainHandler.post(task);
+    }
+  }
+
+  /** Sets a listener that is notified of the timing of every background task. */
+  public static void setTaskMetricsListener(@Nullable TaskMetricsListener listener) {
+    taskMetricsListener = listener;
+  }
+
+  /** Returns the number of background tasks waiting for a worker thread. */
+  public static int getQueuedTaskCount() {
+    return backgroundExecutor.getQueue().size();
+  }
+
+  /** Returns the number of background tasks currently running. */
+  public static int getActiveTaskCount() {
+    return backgroundExecutor.getActiveCount();
+  }
+
+  /** Returns the largest number of background threads that have been alive at the same time. */
+  public static int getLargestPoolSize() {
+    return backgroundExecutor.getLargestPoolSize();
+  }
+}
@@ -83,10 +83,28 @@ public class MintegralMediationAdapter extends RtbAdapter {
   @Override
   public void collectSignals(@NonNull RtbSignalData rtbSignalData,
       @NonNull SignalCallbacks signalCallbacks) {
-    String buyerUid = BidManager.getBuyerUid(rtbSignalData.getContext());
+    MintegralBidTokenPrewarmer bidTokenPrewarmer = MintegralBidTokenPrewarmer.getInstance();
+    String buyerUid =
+        bidTokenPrewarmer.isEnabled()
+            ? bidTokenPrewarmer.consume(
+                MintegralBidTokenPrewarmer.createKey(
+                    rtbSignalData.getContext(), MintegralBidTokenPrewarmer.ANY_REQUEST_KEY))
+            : null;
+    if (buyerUid == null) {
+      buyerUid = BidManager.getBuyerUid(rtbSignalData.getContext());
+    }
     signalCallbacks.onSuccess(buyerUid);
   }
 
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private static void prewarmBidToken(@NonNull Context context) {
+    MintegralBidTokenPrewarmer.getInstance()
+        .prewarm(
+            MintegralBidTokenPrewarmer.createKey(
+                context, MintegralBidTokenPrewarmer.ANY_REQUEST_KEY),
+            () -> BidManager.getBuyerUid(context));
+  }
+
   @NonNull
   @Override
   public VersionInfo getSDKVersionInfo() {
@@ -132,8 +150,11 @@ public class MintegralMediationAdapter extends RtbAdapter {
 
   @Override
   public void initialize(@NonNull Context context,
-      @NonNull InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> list) {
+    final InitializationCompleteCallback initializationCompleteCallback =
+        MintegralInitializationTelemetry.track(TAG, callback, null);
+
     HashSet<String> appIds = new HashSet<>();
     HashSet<String> appKeys = new HashSet<>();
     for (MediationConfiguration mediationConfiguration : list) {
@@ -183,8 +204,9 @@ public class MintegralMediationAdapter extends RtbAdapter {
     } catch (Throwable e) {
       e.printStackTrace();
     }
-    // Initialize the Mintegral SDK in a separate thread to avoid blocking the main thread.
-    new Thread(
+    // Initialize the Mintegral SDK in a background thread to avoid blocking the main thread.
+    MintegralExecutors.getBackgroundExecutor()
+        .execute(
             () ->
                 mBridgeSDK.init(
                     configurationMap,
@@ -193,6 +215,7 @@ public class MintegralMediationAdapter extends RtbAdapter {
                       @Override
                       public void onInitSuccess() {
                         initializationCompleteCallback.onInitializationSucceeded();
+                        prewarmBidToken(context);
                       }
 
                       @Override
@@ -204,8 +227,7 @@ public class MintegralMediationAdapter extends RtbAdapter {
                             initError.getMessage());
                         Log.w(TAG, initError.toString());
                       }
-                    }))
-        .start();
+                    }));
   }
 
   @Override
@@ -33,12 +33,18 @@ import com.mbridge.msdk.out.BannerAdWithCodeListener;
 import com.mbridge.msdk.out.BannerSize;
 import com.mbridge.msdk.out.MBBannerView;
 import com.mbridge.msdk.out.MBridgeIds;
-
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public abstract class MintegralBannerAd extends BannerAdWithCodeListener implements
     MediationBannerAd {
 
+  /** Banner sizes Mintegral supports, matched against the requested ad size. */
+  private static final List<AdSize> SUPPORTED_BANNER_SIZES =
+      Collections.unmodifiableList(
+          Arrays.asList(new AdSize(320, 50), new AdSize(300, 250), new AdSize(728, 90)));
+
   protected MediationBannerAdConfiguration adConfiguration;
   protected final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
       adLoadCallback;
@@ -60,12 +66,7 @@ public abstract class MintegralBannerAd extends BannerAdWithCodeListener impleme
   @Nullable
   public static BannerSize getMintegralBannerSizeFromAdMobAdSize(@NonNull AdSize adSize,
       @NonNull Context context) {
-    ArrayList<AdSize> supportedAdSizes = new ArrayList<>();
-    supportedAdSizes.add(new AdSize(320, 50));
-    supportedAdSizes.add(new AdSize(300, 250));
-    supportedAdSizes.add(new AdSize(728, 90));
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, supportedAdSizes);
+    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, SUPPORTED_BANNER_SIZES);
     if (closestSize == null) {
       return null;
     }
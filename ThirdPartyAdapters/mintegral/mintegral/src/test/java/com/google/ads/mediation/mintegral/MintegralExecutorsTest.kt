@@ -0,0 +1,91 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.mintegral
+
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(AndroidJUnit4::class)
+class MintegralExecutorsTest {
+
+  @After
+  fun tearDown() {
+    MintegralExecutors.setTaskMetricsListener(null)
+  }
+
+  @Test
+  fun backgroundExecutor_manyTasks_threadCountStaysWithinBound() {
+    val latch = CountDownLatch(TASK_COUNT)
+
+    repeat(TASK_COUNT) { MintegralExecutors.getBackgroundExecutor().execute { latch.countDown() } }
+
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue()
+    assertThat(MintegralExecutors.getLargestPoolSize())
+      .isAtMost(MintegralExecutors.MAX_BACKGROUND_THREADS)
+  }
+
+  @Test
+  fun backgroundExecutor_taskCompleted_notifiesMetricsListener() {
+    val completedTasks = AtomicInteger()
+    val latch = CountDownLatch(1)
+    MintegralExecutors.setTaskMetricsListener { queuedMillis, runMillis ->
+      assertThat(queuedMillis).isAtLeast(0)
+      assertThat(runMillis).isAtLeast(0)
+      completedTasks.incrementAndGet()
+      latch.countDown()
+    }
+
+    MintegralExecutors.getBackgroundExecutor().execute {}
+
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue()
+    assertThat(completedTasks.get()).isEqualTo(1)
+  }
+
+  @Test
+  fun runOnMainThread_fromBackgroundThread_runsTaskOnMainThread() {
+    var taskLooper: Looper? = null
+    val posted = CountDownLatch(1)
+    MintegralExecutors.getBackgroundExecutor().execute {
+      MintegralExecutors.runOnMainThread { taskLooper = Looper.myLooper() }
+      posted.countDown()
+    }
+    assertThat(posted.await(10, TimeUnit.SECONDS)).isTrue()
+
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(taskLooper).isEqualTo(Looper.getMainLooper())
+  }
+
+  @Test
+  fun runOnMainThread_fromMainThread_runsTaskImmediately() {
+    var ran = false
+
+    MintegralExecutors.runOnMainThread { ran = true }
+
+    assertThat(ran).isTrue()
+  }
+
+  private companion object {
+    const val TASK_COUNT = 1000
+  }
+}
@@ -33,6 +33,7 @@ import com.google.ads.mediation.mintegral.MintegralConstants.PLACEMENT_ID
 import com.google.ads.mediation.mintegral.MintegralUtils.getAdapterVersion
 import com.google.ads.mediation.mintegral.MintegralUtils.getSdkVersion
 import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAd
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback
@@ -44,6 +45,7 @@ import org.junit.runner.RunWith
 import org.mockito.Mockito.mockStatic
 import org.mockito.kotlin.any
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -116,6 +118,30 @@ class MintegralMediationAdapterTest {
 
   // endregion
 
+  // region Initialize Tests
+  @Test
+  fun initialize_withTelemetryListenerAndNoAppId_reportsInitializationFailure() {
+    val mockTelemetryListener = mock<MintegralInitializationTelemetry.Listener>()
+    val mockInitializationCompleteCallback = mock<InitializationCompleteCallback>()
+    MintegralInitializationTelemetry.setListener(mockTelemetryListener)
+
+    try {
+      mintegralMediationAdapter.initialize(
+        context,
+        mockInitializationCompleteCallback,
+        /* list= */ listOf(),
+      )
+    } finally {
+      MintegralInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq(MintegralMediationAdapter.TAG), any(), eq(false), eq(1))
+    verify(mockInitializationCompleteCallback).onInitializationFailed(any())
+  }
+
+  // endregion
+
   // region Interstitial Ad Tests
   @Test
   fun loadInterstitialAd_withoutAdUnitId_invokesOnFailure() {
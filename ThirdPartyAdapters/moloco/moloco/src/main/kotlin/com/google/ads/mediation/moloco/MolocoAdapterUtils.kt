@@ -23,11 +23,16 @@ object MolocoAdapterUtils {
 
   @JvmStatic
   fun setMolocoIsAgeRestricted(isAgeRestricted: Boolean) {
+    val privacySettings = MolocoPrivacy.privacySettings
+    // Compare against Moloco SDK itself, since the app may also change its privacy settings.
+    if (privacySettings.isAgeRestrictedUser == isAgeRestricted) {
+      return
+    }
     MolocoPrivacy.setPrivacy(
       MolocoPrivacy.PrivacySettings(
         isAgeRestrictedUser = isAgeRestricted,
-        isDoNotSell = MolocoPrivacy.privacySettings.isDoNotSell,
-        isUserConsent = MolocoPrivacy.privacySettings.isUserConsent,
+        isDoNotSell = privacySettings.isDoNotSell,
+        isUserConsent = privacySettings.isUserConsent,
       )
     )
   }
@@ -0,0 +1,171 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.moloco
+
+import android.content.Context
+import android.os.Bundle
+import android.os.SystemClock
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Reuses the bid tokens Moloco SDK generates for signal collection, so that auctions repeating
+ * within a short time do not generate the same token again.
+ *
+ * Tokens are cached by the ad formats and server parameters of the signal request and by the
+ * privacy state of the user, and are reused until the time-to-live passes. Caching is disabled by
+ * default, since a network may expect a fresh token for every auction. Call [invalidate] whenever
+ * the app updates user consent through an API this cache cannot observe.
+ */
+object MolocoBidTokenCache {
+
+  /** IAB consent strings that the privacy state of the user is read from. */
+  private val IAB_PRIVACY_KEYS =
+    arrayOf("IABTCF_TCString", "IABUSPrivacy_String", "IABGPP_HDR_GppString")
+
+  private val tokens = ConcurrentHashMap<String, CachedToken>()
+
+  private val hitCount = AtomicLong()
+  private val missCount = AtomicLong()
+
+  @Volatile private var ttlMillis = 0L
+
+  /** Whether bid tokens are cached at all. */
+  internal val isEnabled: Boolean
+    get() = ttlMillis > 0
+
+  /**
+   * Sets how long a bid token may be reused after it was generated. A value of 0, the default,
+   * disables caching.
+   */
+  @JvmStatic
+  fun setTtlMillis(ttlMillis: Long) {
+    this.ttlMillis = maxOf(0L, ttlMillis)
+    if (ttlMillis <= 0) {
+      tokens.clear()
+    }
+  }
+
+  /**
+   * Drops every cached bid token and the prewarmed one, for example after the user's consent
+   * changed.
+   */
+  @JvmStatic
+  fun invalidate() {
+    tokens.clear()
+    MolocoBidTokenPrewarmer.invalidate()
+  }
+
+  /** Returns the number of signal requests served with a cached bid token. */
+  @JvmStatic fun getHitCount(): Long = hitCount.get()
+
+  /** Returns the number of signal requests that had to generate a bid token while caching. */
+  @JvmStatic fun getMissCount(): Long = missCount.get()
+
+  /**
+   * Returns the cached bid token for [key], or `null` if caching is disabled or the token is
+   * missing or expired.
+   */
+  internal fun get(key: String): String? {
+    if (!isEnabled) {
+      return null
+    }
+
+    var cachedToken = tokens[key]
+    val nowMillis = SystemClock.elapsedRealtime()
+    if (cachedToken != null && nowMillis - cachedToken.createdTimeMillis > ttlMillis) {
+      tokens.remove(key, cachedToken)
+      cachedToken = null
+    }
+    if (cachedToken == null) {
+      missCount.incrementAndGet()
+      return null
+    }
+    hitCount.incrementAndGet()
+    return cachedToken.token
+  }
+
+  /** Caches a newly generated bid token for [key], if caching is enabled. */
+  internal fun put(key: String, token: String) {
+    if (isEnabled) {
+      tokens[key] = CachedToken(token)
+    }
+  }
+
+  /**
+   * Returns the cache key of a signal request: its ad formats, its server parameters and the
+   * privacy state of the user, followed by [extraInputs].
+   */
+  internal fun createKey(rtbSignalData: RtbSignalData, vararg extraInputs: Any?): String {
+    val key = StringBuilder()
+    rtbSignalData.configurations?.forEach { configuration ->
+      key.append(configuration.format).append('{')
+      appendBundle(key, configuration.serverParameters)
+      key.append('}')
+    }
+
+    key.append('|').append(createPrivacyKey(rtbSignalData.context))
+
+    for (extraInput in extraInputs) {
+      key.append('|').append(extraInput)
+    }
+    return key.toString()
+  }
+
+  /**
+   * Returns the privacy state of the user that bid tokens depend on: the child-directed and
+   * under-age tags of the app, and the IAB consent strings if [context] is given.
+   */
+  internal fun createPrivacyKey(context: Context?): String {
+    val requestConfiguration = MobileAds.getRequestConfiguration()
+    val key = StringBuilder()
+    key
+      .append("coppa=")
+      .append(requestConfiguration.tagForChildDirectedTreatment)
+      .append("|tfua=")
+      .append(requestConfiguration.tagForUnderAgeOfConsent)
+
+    if (context != null) {
+      // IAB consent strings are stored in the default shared preferences of the app. Only these
+      // are read, since copying every preference of the app on each request is costly.
+      val preferences =
+        context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+      for (privacyKey in IAB_PRIVACY_KEYS) {
+        key
+          .append('|')
+          .append(privacyKey)
+          .append('=')
+          .append(preferences.getString(privacyKey, null))
+      }
+    }
+    return key.toString()
+  }
+
+  private fun appendBundle(key: StringBuilder, bundle: Bundle?) {
+    if (bundle == null) {
+      return
+    }
+    for (bundleKey in bundle.keySet().sorted()) {
+      @Suppress("DEPRECATION") key.append(bundleKey).append('=').append(bundle.get(bundleKey))
+      key.append(',')
+    }
+  }
+
+  private class CachedToken(val token: String) {
+    val createdTimeMillis = SystemClock.elapsedRealtime()
+  }
+}
@@ -0,0 +1,125 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.moloco
+
+import android.content.Context
+import android.os.SystemClock
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Generates a Moloco SDK bid token as soon as the SDK is initialized, so that the first auction of
+ * the session does not wait for a token to be generated.
+ *
+ * The prewarmed token is handed to the first signal request made within its maximum age under the
+ * same privacy state of the user, and is used only once. Prewarming is disabled by default, since a
+ * network may expect a token generated for the auction itself.
+ */
+object MolocoBidTokenPrewarmer {
+
+  /** How long a prewarmed bid token may be used after it was generated, by default. */
+  const val DEFAULT_MAX_AGE_MILLIS = 60 * 1000L
+
+
+  private val prewarmedToken = AtomicReference<PrewarmedToken?>()
+
+  private val consumedCount = AtomicLong()
+  private val expiredCount = AtomicLong()
+
+  @Volatile private var enabled = false
+  @Volatile private var maxAgeMillis = DEFAULT_MAX_AGE_MILLIS
+
+  /**
+   * Returns the key of a bid token, which is the privacy state of the user, including the Moloco
+   * privacy settings given as [extraInputs], so that a token is never used once that state has
+   * changed.
+   */
+  internal fun createKey(context: Context?, vararg extraInputs: Any?): String {
+    val key = StringBuilder(MolocoBidTokenCache.createPrivacyKey(context))
+    for (extraInput in extraInputs) {
+      key.append('|').append(extraInput)
+    }
+    return key.toString()
+  }
+
+  /** Whether a bid token is generated once the SDK is initialized. */
+  internal val isEnabled: Boolean
+    get() = enabled
+
+  /** Sets whether a bid token is generated once the SDK is initialized. */
+  @JvmStatic
+  fun setEnabled(enabled: Boolean) {
+    this.enabled = enabled
+    if (!enabled) {
+      prewarmedToken.set(null)
+    }
+  }
+
+  /** Sets how long a prewarmed bid token may be used after it was generated. */
+  @JvmStatic
+  fun setMaxAgeMillis(maxAgeMillis: Long) {
+    this.maxAgeMillis = maxAgeMillis
+  }
+
+  /** Drops the prewarmed bid token, for example after the user's consent changed. */
+  @JvmStatic
+  fun invalidate() {
+    prewarmedToken.set(null)
+  }
+
+  /** Returns the number of signal requests served with the prewarmed bid token. */
+  @JvmStatic fun getConsumedCount(): Long = consumedCount.get()
+
+  /** Returns the number of prewarmed bid tokens that expired before a signal request used them. */
+  @JvmStatic fun getExpiredCount(): Long = expiredCount.get()
+
+  /**
+   * Keeps a newly generated bid token for the first signal request with [key], if prewarming is
+   * enabled.
+   */
+  internal fun put(key: String, token: String) {
+    if (enabled) {
+      prewarmedToken.set(PrewarmedToken(key, token))
+    }
+  }
+
+  /**
+   * Returns the prewarmed bid token for [key] and forgets it, or `null` if there is no such token
+   * or it is older than the maximum age. A token prewarmed for another key is dropped.
+   */
+  internal fun consume(key: String): String? {
+    val token = prewarmedToken.get() ?: return null
+    if (SystemClock.elapsedRealtime() - token.createdTimeMillis > maxAgeMillis) {
+      if (prewarmedToken.compareAndSet(token, null)) {
+        expiredCount.incrementAndGet()
+      }
+      return null
+    }
+    if (token.key != key) {
+      // The token was generated for another request or under another privacy state of the user.
+      prewarmedToken.compareAndSet(token, null)
+      return null
+    }
+    if (!prewarmedToken.compareAndSet(token, null)) {
+      return null
+    }
+    consumedCount.incrementAndGet()
+    return token.token
+  }
+
+  private class PrewarmedToken(val key: String, val token: String) {
+    val createdTimeMillis = SystemClock.elapsedRealtime()
+  }
+}
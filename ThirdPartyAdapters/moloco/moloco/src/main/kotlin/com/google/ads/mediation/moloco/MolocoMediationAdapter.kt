@@ -44,6 +44,7 @@ import com.moloco.sdk.publisher.MediationInfo
 import com.moloco.sdk.publisher.Moloco
 import com.moloco.sdk.publisher.MolocoAdError
 import com.moloco.sdk.publisher.init.MolocoInitParams
+import com.moloco.sdk.publisher.privacy.MolocoPrivacy
 
 /**
  * Moloco Adapter for GMA SDK used to initialize and load ads from the Moloco SDK. This class should
@@ -94,9 +95,12 @@ class MolocoMediationAdapter : RtbAdapter() {
 
   override fun initialize(
     context: Context,
-    initializationCompleteCallback: InitializationCompleteCallback,
+    callback: InitializationCompleteCallback,
     mediationConfigurations: List<MediationConfiguration>,
   ) {
+    val initializationCompleteCallback =
+      MolocoInitializationTelemetry.track(MolocoMediationAdapter::class.java.simpleName, callback)
+
     val appKeys =
       mediationConfigurations.mapNotNull {
         val appKey = it.serverParameters.getString(KEY_APP_KEY)
@@ -125,6 +129,7 @@ class MolocoMediationAdapter : RtbAdapter() {
       if (status.initialization == Initialization.SUCCESS) {
         configurePrivacy()
         initializationCompleteCallback.onInitializationSucceeded()
+        prewarmBidToken(context)
       } else {
         initializationCompleteCallback.onInitializationFailed(
           "Moloco SDK failed to initialize: ${status.description}."
@@ -134,16 +139,74 @@ class MolocoMediationAdapter : RtbAdapter() {
   }
 
   override fun collectSignals(signalData: RtbSignalData, callback: SignalCallbacks) {
+    val privacySettings = MolocoPrivacy.privacySettings
+    val cacheKey =
+      if (MolocoBidTokenCache.isEnabled) {
+        MolocoBidTokenCache.createKey(
+          signalData,
+          privacySettings.isAgeRestrictedUser,
+          privacySettings.isDoNotSell,
+          privacySettings.isUserConsent,
+        )
+      } else {
+        null
+      }
+    val cachedBidToken = cacheKey?.let { MolocoBidTokenCache.get(it) }
+    if (cachedBidToken != null) {
+      callback.onSuccess(cachedBidToken)
+      return
+    }
+
+    val prewarmedBidToken =
+      if (MolocoBidTokenPrewarmer.isEnabled) {
+        MolocoBidTokenPrewarmer.consume(
+          MolocoBidTokenPrewarmer.createKey(
+            signalData.context,
+            privacySettings.isAgeRestrictedUser,
+            privacySettings.isDoNotSell,
+            privacySettings.isUserConsent,
+          )
+        )
+      } else {
+        null
+      }
+    if (prewarmedBidToken != null) {
+      cacheKey?.let { MolocoBidTokenCache.put(it, prewarmedBidToken) }
+      callback.onSuccess(prewarmedBidToken)
+      return
+    }
+
     Moloco.getBidToken { bidToken: String, errorType: MolocoAdError.ErrorType? ->
       if (errorType != null) {
         val adError = AdError(errorType.errorCode, errorType.description, SDK_ERROR_DOMAIN)
         callback.onFailure(adError)
         return@getBidToken
       }
+      cacheKey?.let { MolocoBidTokenCache.put(it, bidToken) }
       callback.onSuccess(bidToken)
     }
   }
 
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private fun prewarmBidToken(context: Context) {
+    if (!MolocoBidTokenPrewarmer.isEnabled) {
+      return
+    }
+    val privacySettings = MolocoPrivacy.privacySettings
+    val key =
+      MolocoBidTokenPrewarmer.createKey(
+        context,
+        privacySettings.isAgeRestrictedUser,
+        privacySettings.isDoNotSell,
+        privacySettings.isUserConsent,
+      )
+    Moloco.getBidToken { bidToken: String, errorType: MolocoAdError.ErrorType? ->
+      if (errorType == null && bidToken.isNotEmpty()) {
+        MolocoBidTokenPrewarmer.put(key, bidToken)
+      }
+    }
+  }
+
   override fun loadRtbBannerAd(
     mediationBannerAdConfiguration: MediationBannerAdConfiguration,
     callback: MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>,
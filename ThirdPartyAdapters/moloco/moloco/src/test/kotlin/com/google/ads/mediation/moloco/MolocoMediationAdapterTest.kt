@@ -42,6 +42,7 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
 import com.moloco.sdk.BuildConfig
 import com.moloco.sdk.publisher.Banner
@@ -208,6 +209,36 @@ class MolocoMediationAdapterTest {
     }
   }
 
+  @Test
+  fun initialize_withTelemetryListener_reportsInitializationOutcome() {
+    val mockTelemetryListener = mock<MolocoInitializationTelemetry.Listener>()
+    MolocoInitializationTelemetry.setListener(mockTelemetryListener)
+
+    try {
+      mockStatic(Moloco::class.java).use { mockMoloco ->
+        val serverParameters = bundleOf(MolocoMediationAdapter.KEY_APP_KEY to TEST_APP_KEY_1)
+        val mediationConfiguration = createMediationConfiguration(AdFormat.BANNER, serverParameters)
+        val molocoCallbackCaptor = argumentCaptor<MolocoInitializationListener>()
+
+        adapter.initialize(
+          context,
+          mockInitializationCompleteCallback,
+          listOf(mediationConfiguration),
+        )
+
+        mockMoloco.verify { initialize(any(), molocoCallbackCaptor.capture()) }
+        molocoCallbackCaptor.firstValue.onMolocoInitializationStatus(
+          MolocoInitStatus(Initialization.FAILURE, "TestError")
+        )
+      }
+    } finally {
+      MolocoInitializationTelemetry.setListener(null)
+    }
+
+    verify(mockTelemetryListener)
+      .onInitializationCompleted(eq("MolocoMediationAdapter"), any(), eq(false), eq(1))
+  }
+
   @Test
   fun initialize_initializationSuccess_invokesOnInitializationSucceededAndConfiguresTFUABit() {
     mockStatic(MolocoAdapterUtils::class.java).use { mockedMolocoUtils ->
@@ -283,6 +314,64 @@ class MolocoMediationAdapterTest {
     }
   }
 
+  @Test
+  fun collectSignals_bidTokenCacheEnabled_reusesBidToken() {
+    MolocoBidTokenCache.setTtlMillis(TEST_BID_TOKEN_TTL_MILLIS)
+    try {
+      mockStatic(Moloco::class.java).use { mockedMoloco ->
+        val tokenCallback = argumentCaptor<MolocoBidTokenListener>()
+        val signalData = mock<RtbSignalData> { on { context } doReturn context }
+
+        adapter.collectSignals(signalData, mockSignalCallbacks)
+        mockedMoloco.verify { getBidToken(tokenCallback.capture()) }
+        tokenCallback.firstValue.onBidTokenResult(TEST_BID_RESPONSE, null)
+        adapter.collectSignals(signalData, mockSignalCallbacks)
+
+        mockedMoloco.verify({ getBidToken(any()) }, times(1))
+        verify(mockSignalCallbacks, times(2)).onSuccess(TEST_BID_RESPONSE)
+      }
+    } finally {
+      MolocoBidTokenCache.setTtlMillis(0)
+    }
+  }
+
+  @Test
+  fun collectSignals_bidTokenPrewarmedAtInitialization_usesPrewarmedBidToken() {
+    MolocoBidTokenPrewarmer.setEnabled(true)
+    try {
+      mockStatic(MolocoAdapterUtils::class.java).use {
+        mockStatic(Moloco::class.java).use { mockedMoloco ->
+          val serverParameters = bundleOf(MolocoMediationAdapter.KEY_APP_KEY to TEST_APP_KEY_1)
+          val mediationConfiguration =
+            createMediationConfiguration(AdFormat.BANNER, serverParameters)
+          val initializationListener = argumentCaptor<MolocoInitializationListener>()
+          val tokenCallback = argumentCaptor<MolocoBidTokenListener>()
+          val signalData = mock<RtbSignalData> { on { context } doReturn context }
+          val consumedCount = MolocoBidTokenPrewarmer.getConsumedCount()
+
+          adapter.initialize(
+            context,
+            mockInitializationCompleteCallback,
+            listOf(mediationConfiguration),
+          )
+          mockedMoloco.verify { initialize(any(), initializationListener.capture()) }
+          initializationListener.firstValue.onMolocoInitializationStatus(
+            MolocoInitStatus(Initialization.SUCCESS, "Test")
+          )
+          mockedMoloco.verify { getBidToken(tokenCallback.capture()) }
+          tokenCallback.firstValue.onBidTokenResult(TEST_BID_RESPONSE, null)
+          adapter.collectSignals(signalData, mockSignalCallbacks)
+
+          mockedMoloco.verify({ getBidToken(any()) }, times(1))
+          verify(mockSignalCallbacks).onSuccess(TEST_BID_RESPONSE)
+          assertEquals(consumedCount + 1, MolocoBidTokenPrewarmer.getConsumedCount())
+        }
+      }
+    } finally {
+      MolocoBidTokenPrewarmer.setEnabled(false)
+    }
+  }
+
   // endregion
 
   // region Interstitial tests
@@ -661,5 +750,6 @@ class MolocoMediationAdapterTest {
     const val TEST_APP_KEY_1 = "testAppKey1"
     const val TEST_APP_KEY_2 = "testAppKey2"
     const val TEST_AD_UNIT = "testAdUnit"
+    const val TEST_BID_TOKEN_TTL_MILLIS = 10_000L
   }
 }
@@ -24,7 +24,6 @@ import androidx.annotation.VisibleForTesting;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
 import com.bytedance.sdk.openadsdk.api.init.PAGSdk.PAGInitCallback;
 import com.google.android.gms.ads.AdError;
-import java.util.ArrayList;
 
 /**
  * Manages initializing Pangle SDK.
@@ -37,15 +36,14 @@ public class PangleInitializer implements PAGInitCallback {
 
   private static PangleInitializer instance;
 
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
-  private final ArrayList<Listener> initListeners;
+  private final InitializationStateMachine<Listener> stateMachine =
+      new InitializationStateMachine<>();
 
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
 
   @NonNull
-  public static PangleInitializer getInstance() {
+  public static synchronized PangleInitializer getInstance() {
     if (instance == null) {
       instance = new PangleInitializer();
     }
@@ -53,14 +51,12 @@ public class PangleInitializer implements PAGInitCallback {
   }
 
   private PangleInitializer() {
-    initListeners = new ArrayList<>();
     pangleSdkWrapper = new PangleSdkWrapper();
     pangleFactory = new PangleFactory();
   }
 
   @VisibleForTesting
   public PangleInitializer(PangleSdkWrapper pangleSdkWrapper, PangleFactory pangleFactory) {
-    initListeners = new ArrayList<>();
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
   }
@@ -76,19 +72,17 @@ public class PangleInitializer implements PAGInitCallback {
       return;
     }
 
-    if (isInitializing) {
-      initListeners.add(listener);
-      return;
-    }
-
-    if (isInitialized) {
-      listener.onInitializeSuccess();
-      return;
+    switch (stateMachine.register(listener)) {
+      case InitializationStateMachine.REGISTRATION_ALREADY_INITIALIZED:
+        listener.onInitializeSuccess();
+        return;
+      case InitializationStateMachine.REGISTRATION_QUEUED:
+        return;
+      case InitializationStateMachine.REGISTRATION_START_INITIALIZATION:
+      default:
+        break;
     }
 
-    isInitializing = true;
-    initListeners.add(listener);
-
     // Pangle SDK is only initialized using a single App ID.
     PAGConfig adConfig =
         pangleFactory
@@ -106,25 +100,38 @@ public class PangleInitializer implements PAGInitCallback {
 
   @Override
   public void success() {
-    isInitializing = false;
-    isInitialized = true;
-
-    for (Listener listener : initListeners) {
-      listener.onInitializeSuccess();
-    }
-    initListeners.clear();
+    stateMachine.onInitializationSucceeded(
+        new InitializationStateMachine.ListenerNotifier<Listener>() {
+          @Override
+          public void notify(@NonNull Listener listener) {
+            listener.onInitializeSuccess();
+          }
+        });
   }
 
   @Override
   public void fail(int errorCode, @NonNull String errorMessage) {
-    isInitializing = false;
-    isInitialized = false;
+    final AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
+    stateMachine.onInitializationFailed(
+        new InitializationStateMachine.ListenerNotifier<Listener>() {
+          @Override
+          public void notify(@NonNull Listener listener) {
+            listener.onInitializeError(error);
+          }
+        });
+  }
 
-    AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
-    for (Listener listener : initListeners) {
-      listener.onInitializeError(error);
-    }
-    initListeners.clear();
+  /**
+   * Returns how long, in milliseconds, the last Pangle SDK initialization took, or -1 if it has
+   * not completed yet.
+   */
+  long getLastInitializationDurationMillis() {
+    return stateMachine.getLastInitializationDurationMillis();
+  }
+
+  /** See {@link InitializationStateMachine#getWaitingListenerCount()}. */
+  int getWaitingListenerCount() {
+    return stateMachine.getWaitingListenerCount();
   }
 
   public interface Listener {
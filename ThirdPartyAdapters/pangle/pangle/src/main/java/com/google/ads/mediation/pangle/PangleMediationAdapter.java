@@ -105,6 +105,17 @@ public class PangleMediationAdapter extends RtbAdapter {
     Bundle networkExtras = rtbSignalData.getNetworkExtras();
     if (networkExtras != null && networkExtras.containsKey(PangleExtras.Keys.USER_DATA)) {
       pangleSdkWrapper.setUserData(networkExtras.getString(PangleExtras.Keys.USER_DATA, ""));
+    } else if (PangleBidTokenPrewarmer.getInstance().isEnabled()) {
+      // The prewarmed token was generated without user data.
+      String prewarmedToken =
+          PangleBidTokenPrewarmer.getInstance()
+              .consume(
+                  PangleBidTokenPrewarmer.createKey(
+                      rtbSignalData.getContext(), PangleBidTokenPrewarmer.ANY_REQUEST_KEY));
+      if (prewarmedToken != null) {
+        signalCallbacks.onSuccess(prewarmedToken);
+        return;
+      }
     }
     pangleSdkWrapper.getBiddingToken(new BiddingTokenCallback() {
       @Override
@@ -117,8 +128,19 @@ public class PangleMediationAdapter extends RtbAdapter {
   @Override
   public void initialize(
       @NonNull Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> list) {
+    final InitializationCompleteCallback initializationCompleteCallback =
+        PangleInitializationTelemetry.track(
+            TAG,
+            callback,
+            new PangleInitializationTelemetry.WaitingListenerCounter() {
+              @Override
+              public int getWaitingListenerCount() {
+                return pangleInitializer.getWaitingListenerCount();
+              }
+            });
+
     HashSet<String> appIds = new HashSet<>();
     for (MediationConfiguration mediationConfiguration : list) {
       Bundle serverParameters = mediationConfiguration.getServerParameters();
@@ -155,6 +177,7 @@ public class PangleMediationAdapter extends RtbAdapter {
           @Override
           public void onInitializeSuccess() {
             initializationCompleteCallback.onInitializationSucceeded();
+            prewarmBidToken(context);
           }
 
           @Override
@@ -165,6 +188,25 @@ public class PangleMediationAdapter extends RtbAdapter {
         });
   }
 
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private void prewarmBidToken(@NonNull Context context) {
+    final PangleBidTokenPrewarmer bidTokenPrewarmer = PangleBidTokenPrewarmer.getInstance();
+    if (!bidTokenPrewarmer.isEnabled()) {
+      return;
+    }
+    final String key =
+        PangleBidTokenPrewarmer.createKey(context, PangleBidTokenPrewarmer.ANY_REQUEST_KEY);
+    pangleSdkWrapper.getBiddingToken(
+        new BiddingTokenCallback() {
+          @Override
+          public void onBiddingTokenCollected(String biddingToken) {
+            if (!TextUtils.isEmpty(biddingToken)) {
+              bidTokenPrewarmer.put(key, biddingToken);
+            }
+          }
+        });
+  }
+
   @NonNull
   @Override
   public VersionInfo getVersionInfo() {
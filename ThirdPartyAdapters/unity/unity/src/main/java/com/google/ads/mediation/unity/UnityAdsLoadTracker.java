@@ -0,0 +1,169 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.unity;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the full-screen ad loads of each Unity Ads placement: how long loads take, and how old a
+ * loaded ad is when it is shown.
+ *
+ * <p>If the publisher sets an expiration time, a loaded ad older than it is not shown, since Unity
+ * Ads would only fail to play it once the user has already waited for it. Loaded ads do not expire
+ * by default.
+ */
+public final class UnityAdsLoadTracker {
+
+  /** Expiration time of loaded ads, by default. Loaded ads do not expire. */
+  public static final long DEFAULT_AD_EXPIRATION_MILLIS = 0;
+
+  private static final UnityAdsLoadTracker instance = new UnityAdsLoadTracker();
+
+  private final ConcurrentHashMap<String, PlacementStats> placementStats =
+      new ConcurrentHashMap<>();
+
+  private volatile long adExpirationMillis = DEFAULT_AD_EXPIRATION_MILLIS;
+
+  private UnityAdsLoadTracker() {}
+
+  @NonNull
+  public static UnityAdsLoadTracker getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets how long a loaded ad may be shown after it was loaded. Loaded ads do not expire if it is 0
+   * or less.
+   */
+  public void setAdExpirationMillis(long adExpirationMillis) {
+    this.adExpirationMillis = adExpirationMillis;
+  }
+
+  /** Starts tracking a new ad load for the given placement. */
+  @NonNull
+  Load startLoad(@NonNull String placementId) {
+    return new Load(getPlacementStats(placementId));
+  }
+
+  /** Returns how long the last successful load of the given placement took, or -1 if none. */
+  public long getLastLoadLatencyMillis(@NonNull String placementId) {
+    PlacementStats stats = placementStats.get(placementId);
+    return stats != null ? stats.lastLoadLatencyMillis : -1;
+  }
+
+  /**
+   * Returns the average time the successful loads of the given placement took, or -1 if none
+   * succeeded.
+   */
+  public long getAverageLoadLatencyMillis(@NonNull String placementId) {
+    PlacementStats stats = placementStats.get(placementId);
+    if (stats == null) {
+      return -1;
+    }
+    synchronized (stats) {
+      return stats.loadedCount > 0 ? stats.totalLoadLatencyMillis / stats.loadedCount : -1;
+    }
+  }
+
+  /** Returns the number of loaded ads of the given placement that expired before being shown. */
+  public int getExpiredAdCount(@NonNull String placementId) {
+    PlacementStats stats = placementStats.get(placementId);
+    if (stats == null) {
+      return 0;
+    }
+    synchronized (stats) {
+      return stats.expiredCount;
+    }
+  }
+
+  @NonNull
+  private PlacementStats getPlacementStats(@NonNull String placementId) {
+    PlacementStats stats = placementStats.get(placementId);
+    if (stats == null) {
+      PlacementStats newStats = new PlacementStats();
+      stats = placementStats.putIfAbsent(placementId, newStats);
+      if (stats == null) {
+        stats = newStats;
+      }
+    }
+    return stats;
+  }
+
+  /** A single ad load, from its request to Unity Ads SDK until the loaded ad is shown. */
+  final class Load {
+
+    private final PlacementStats stats;
+
+    /** Object ID Unity Ads SDK uses to match the show of an ad with its load. */
+    private final String objectId = UUID.randomUUID().toString();
+
+    private final long startTimeMillis = SystemClock.elapsedRealtime();
+
+    /** When the ad finished loading, or -1 while it is loading or if it failed to load. */
+    private long loadedTimeMillis = -1;
+
+    private Load(@NonNull PlacementStats stats) {
+      this.stats = stats;
+    }
+
+    @NonNull
+    String getObjectId() {
+      return objectId;
+    }
+
+    /** Records that the ad finished loading. */
+    void onLoaded() {
+      loadedTimeMillis = SystemClock.elapsedRealtime();
+      long latencyMillis = loadedTimeMillis - startTimeMillis;
+      synchronized (stats) {
+        stats.lastLoadLatencyMillis = latencyMillis;
+        stats.totalLoadLatencyMillis += latencyMillis;
+        stats.loadedCount++;
+      }
+    }
+
+    /** Returns how long ago the ad finished loading, or -1 if it has not loaded. */
+    long getAdAgeMillis() {
+      return loadedTimeMillis < 0 ? -1 : SystemClock.elapsedRealtime() - loadedTimeMillis;
+    }
+
+    /**
+     * Returns whether the loaded ad is too old to be shown, and counts it as expired if so.
+     * Returns {@code false} if the ad has not loaded or loaded ads do not expire.
+     */
+    boolean checkExpired() {
+      long ageMillis = getAdAgeMillis();
+      long expirationMillis = adExpirationMillis;
+      if (expirationMillis <= 0 || ageMillis < 0 || ageMillis <= expirationMillis) {
+        return false;
+      }
+      synchronized (stats) {
+        stats.expiredCount++;
+      }
+      return true;
+    }
+  }
+
+  private static final class PlacementStats {
+
+    volatile long lastLoadLatencyMillis = -1;
+    long totalLoadLatencyMillis;
+    int loadedCount;
+    int expiredCount;
+  }
+}
@@ -117,7 +117,7 @@ public class UnityBannerAd extends UnityMediationAdapter implements MediationBan
   @Override
   public void onDestroy() {
     if (bannerView != null) {
-      bannerView.destroy();
+      UnityBannerViewPool.getInstance().release(bannerView);
     }
     bannerView = null;
     mediationBannerListener = null;
@@ -177,7 +177,9 @@ public class UnityBannerAd extends UnityMediationAdapter implements MediationBan
             Log.d(TAG, logMessage);
 
             if (bannerView == null) {
-              bannerView = new BannerView(activity, bannerPlacementId, unityBannerSize);
+              bannerView =
+                  UnityBannerViewPool.getInstance()
+                      .acquire(activity, bannerPlacementId, unityBannerSize);
             }
 
             UnityAdsAdapterUtils.setCoppa(
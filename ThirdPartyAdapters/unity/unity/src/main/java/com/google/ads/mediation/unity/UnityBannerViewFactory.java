@@ -1,14 +1,72 @@
 package com.google.ads.mediation.unity;
 
 import android.app.Activity;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+import android.view.View.OnAttachStateChangeListener;
+import androidx.annotation.NonNull;
 import com.unity3d.services.banners.BannerView;
 import com.unity3d.services.banners.UnityBannerSize;
 
-/** A factory to create UnityAds {@link BannerView} for Banner Ads */
+/**
+ * A factory to create UnityAds {@link BannerView} for Banner Ads. Banner views are taken from the
+ * {@link UnityBannerViewPool} and go back to it once they are removed from the banner they were
+ * displayed in.
+ */
 class UnityBannerViewFactory {
+
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  /** Shared by every banner view, so that a reused view never gets a second listener. */
+  private static final ReleaseOnRemovalListener releaseOnRemovalListener =
+      new ReleaseOnRemovalListener();
+
   UnityBannerViewWrapper createBannerView(
       Activity activity, String placementId, UnityBannerSize bannerSize) {
-    BannerView bannerView = new BannerView(activity, placementId, bannerSize);
+    BannerView bannerView =
+        UnityBannerViewPool.getInstance().acquire(activity, placementId, bannerSize);
+    // A pooled view keeps its listener until it is handed out again, so remove it before adding it
+    // back to make sure the view never has two.
+    bannerView.removeOnAttachStateChangeListener(releaseOnRemovalListener);
+    bannerView.addOnAttachStateChangeListener(releaseOnRemovalListener);
     return new UnityBannerViewWrapper(bannerView);
   }
+
+  /**
+   * Releases a banner view to the pool once it has been removed from its parent, as Google Mobile
+   * Ads SDK does when it replaces the banner with the next one. A view that is only detached from
+   * the window while its parent keeps it, such as a banner scrolled out of a list, is kept.
+   *
+   * <p>{@link com.google.android.gms.ads.mediation.MediationBannerAd} has no destroy callback, so
+   * removal from the parent is the only end-of-life signal for a banner. Releasing the view while
+   * its ad still returns it from {@code getView()} is safe because Google Mobile Ads SDK asks for
+   * the view once, when it adds the ad to the ad view, and drops the ad once it removes the view.
+   * If the view is added to a window again before it is handed out, it is taken back out of the
+   * pool, and a view handed out to a new ad cannot be added by the old one, since it has a parent.
+   * The listener stays on the view while it is pooled for that reason.
+   */
+  private static final class ReleaseOnRemovalListener implements OnAttachStateChangeListener {
+
+    @Override
+    public void onViewAttachedToWindow(@NonNull View view) {
+      // The view may have been released and is displayed again by its owner before it was reused.
+      UnityBannerViewPool.getInstance().remove((BannerView) view);
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(@NonNull final View view) {
+      // The parent is only cleared after the view is detached, so check it once removal is done.
+      mainHandler.post(
+          new Runnable() {
+            @Override
+            public void run() {
+              if (view.getParent() != null || view.isAttachedToWindow()) {
+                return;
+              }
+              UnityBannerViewPool.getInstance().release((BannerView) view);
+            }
+          });
+    }
+  }
 }
@@ -0,0 +1,213 @@
+// Copyright 2024 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.unity;
+
+import android.app.Activity;
+import android.app.Application;
+import android.app.Application.ActivityLifecycleCallbacks;
+import android.os.Bundle;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.unity3d.services.banners.BannerView;
+import com.unity3d.services.banners.UnityBannerSize;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Recycles Unity Ads {@link BannerView}s between banner requests, so that a refreshing banner
+ * reloads the view of the previous ad instead of creating a new one every refresh cycle.
+ *
+ * <p>Released views are kept per activity, placement ID and banner size, up to {@link
+ * #MAX_POOLED_VIEWS_PER_KEY} each, and are only handed out again for the activity they were created
+ * with. The views of an activity are destroyed as soon as the activity is destroyed, so that the
+ * pool never keeps an activity alive. Views that cannot be reused are destroyed.
+ */
+@MainThread
+public final class UnityBannerViewPool {
+
+  /** Maximum number of released views kept for each placement ID and banner size. */
+  static final int MAX_POOLED_VIEWS_PER_KEY = 2;
+
+  private static final UnityBannerViewPool instance = new UnityBannerViewPool();
+
+  private final Map<Activity, Map<String, ArrayDeque<BannerView>>> pooledViews = new HashMap<>();
+
+  private final ActivityLifecycleCallbacks activityLifecycleCallbacks =
+      new ActivityLifecycleCallbacks() {
+        @Override
+        public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle bundle) {}
+
+        @Override
+        public void onActivityStarted(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityResumed(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityPaused(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivityStopped(@NonNull Activity activity) {}
+
+        @Override
+        public void onActivitySaveInstanceState(
+            @NonNull Activity activity, @NonNull Bundle bundle) {}
+
+        @Override
+        public void onActivityDestroyed(@NonNull Activity activity) {
+          clear(activity);
+        }
+      };
+
+  private Application application;
+
+  private int createdViewCount;
+  private int reusedViewCount;
+
+  private UnityBannerViewPool() {}
+
+  @NonNull
+  public static UnityBannerViewPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns a released banner view for the given placement ID and size created with the given
+   * activity, or a new one if there is none.
+   */
+  @NonNull
+  BannerView acquire(
+      @NonNull Activity activity, @NonNull String placementId, @NonNull UnityBannerSize size) {
+    Map<String, ArrayDeque<BannerView>> activityViews = pooledViews.get(activity);
+    if (activityViews != null) {
+      ArrayDeque<BannerView> views = activityViews.get(getKey(placementId, size));
+      BannerView view = views != null ? views.pollFirst() : null;
+      if (view != null) {
+        reusedViewCount++;
+        return view;
+      }
+    }
+
+    createdViewCount++;
+    return new BannerView(activity, placementId, size);
+  }
+
+  /**
+   * Takes back a banner view that is no longer displayed. The view is removed from its parent and
+   * stops forwarding events to its previous listener. It is destroyed instead if it cannot be
+   * reused or the pool is full.
+   */
+  void release(@NonNull BannerView view) {
+    ViewParent parent = view.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(view);
+    }
+    view.setListener(null);
+
+    UnityBannerSize size = view.getSize();
+    if (!isReusable(view) || size == null) {
+      view.destroy();
+      return;
+    }
+
+    Activity activity = (Activity) view.getContext();
+    registerActivityLifecycleCallbacks(activity);
+    Map<String, ArrayDeque<BannerView>> activityViews = pooledViews.get(activity);
+    if (activityViews == null) {
+      activityViews = new HashMap<>();
+      pooledViews.put(activity, activityViews);
+    }
+    String key = getKey(view.getPlacementId(), size);
+    ArrayDeque<BannerView> views = activityViews.get(key);
+    if (views == null) {
+      views = new ArrayDeque<>();
+      activityViews.put(key, views);
+    }
+    if (views.contains(view)) {
+      return;
+    }
+    if (views.size() >= MAX_POOLED_VIEWS_PER_KEY) {
+      view.destroy();
+      return;
+    }
+    views.addLast(view);
+  }
+
+  /**
+   * Removes a banner view from the pool without destroying it, if it is pooled. Used when a view
+   * that was released is displayed again by its previous owner.
+   */
+  void remove(@NonNull BannerView view) {
+    UnityBannerSize size = view.getSize();
+    Map<String, ArrayDeque<BannerView>> activityViews = pooledViews.get(view.getContext());
+    if (size == null || activityViews == null) {
+      return;
+    }
+    ArrayDeque<BannerView> views = activityViews.get(getKey(view.getPlacementId(), size));
+    if (views != null) {
+      views.remove(view);
+    }
+  }
+
+  /** Destroys the released banner views created with the given activity. */
+  void clear(@NonNull Activity activity) {
+    Map<String, ArrayDeque<BannerView>> activityViews = pooledViews.remove(activity);
+    if (activityViews == null) {
+      return;
+    }
+    for (ArrayDeque<BannerView> views : activityViews.values()) {
+      for (BannerView view : views) {
+        view.destroy();
+      }
+    }
+  }
+
+  /** Returns the number of banner views created because none could be reused. */
+  public int getCreatedViewCount() {
+    return createdViewCount;
+  }
+
+  /** Returns the number of banner requests served with a released banner view. */
+  public int getReusedViewCount() {
+    return reusedViewCount;
+  }
+
+  private void registerActivityLifecycleCallbacks(@NonNull Activity activity) {
+    if (application != null) {
+      return;
+    }
+    application = activity.getApplication();
+    if (application != null) {
+      application.registerActivityLifecycleCallbacks(activityLifecycleCallbacks);
+    }
+  }
+
+  private static boolean isReusable(@NonNull BannerView view) {
+    if (!(view.getContext() instanceof Activity)) {
+      return false;
+    }
+    Activity activity = (Activity) view.getContext();
+    return !activity.isFinishing() && !activity.isDestroyed();
+  }
+
+  @NonNull
+  private static String getKey(@Nullable String placementId, @NonNull UnityBannerSize size) {
+    return placementId + "_" + size.getWidth() + "x" + size.getHeight();
+  }
+}
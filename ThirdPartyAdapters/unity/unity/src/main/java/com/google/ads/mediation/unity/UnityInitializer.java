@@ -36,6 +36,9 @@ public class UnityInitializer {
 
   private final UnityAdsWrapper unityAdsWrapper;
 
+  /** Whether the mediation meta data was committed to Unity Ads SDK by this process. */
+  private boolean mediationMetaDataCommitted;
+
   /**
    * Returns a {@link com.google.ads.mediation.unity.UnityInitializer} instance.
    *
@@ -75,13 +78,23 @@ public class UnityInitializer {
       return;
     }
 
-    // Set mediation meta data before initializing.
+    // Set mediation meta data before initializing. It only depends on the SDK and adapter
+    // versions, neither of which changes while the app runs, so it is committed once per process.
+    commitMediationMetaData(context);
+
+    unityAdsWrapper.initialize(context, gameId, initializationListener);
+  }
+
+  private synchronized void commitMediationMetaData(Context context) {
+    if (mediationMetaDataCommitted) {
+      return;
+    }
+
     MediationMetaData mediationMetaData = unityAdsWrapper.getMediationMetaData(context);
     mediationMetaData.setName(ADMOB);
     mediationMetaData.setVersion(unityAdsWrapper.getVersion());
     mediationMetaData.set(KEY_ADAPTER_VERSION, BuildConfig.ADAPTER_VERSION);
     mediationMetaData.commit();
-
-    unityAdsWrapper.initialize(context, gameId, initializationListener);
+    mediationMetaDataCommitted = true;
   }
 }
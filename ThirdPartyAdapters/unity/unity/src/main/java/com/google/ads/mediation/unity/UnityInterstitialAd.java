@@ -2,8 +2,10 @@ package com.google.ads.mediation.unity;
 
 import static com.google.ads.mediation.unity.UnityAdsAdapterUtils.createSDKError;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ADAPTER_ERROR_DOMAIN;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_AD_EXPIRED;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_CONTEXT_NOT_ACTIVITY;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_AD_EXPIRED;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_CONTEXT_NULL;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_MISSING_PARAMETERS;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_NON_ACTIVITY;
@@ -33,7 +35,6 @@ import com.unity3d.ads.UnityAds.UnityAdsShowError;
 import com.unity3d.ads.UnityAdsLoadOptions;
 import com.unity3d.ads.UnityAdsShowOptions;
 import java.lang.ref.WeakReference;
-import java.util.UUID;
 
 /**
  * The {@link UnityInterstitialAd} is used to load Unity Interstitial ads and mediate the callbacks
@@ -47,8 +48,8 @@ public class UnityInterstitialAd
   /** An Android {@link Activity} weak reference used to show ads. */
   private WeakReference<Activity> activityWeakReference;
 
-  /** Object ID used to track loaded/shown ads. */
-  private String objectId;
+  /** The load of the ad, which holds the object ID used to track loaded/shown ads. */
+  @Nullable private UnityAdsLoadTracker.Load load;
 
   /** Confiuration object for Interstitial Ads */
   private final MediationInterstitialAdConfiguration adConfiguration;
@@ -87,6 +88,9 @@ public class UnityInterstitialAd
             "Unity Ads interstitial ad successfully loaded for placement ID: %s", placementId);
     Log.d(UnityMediationAdapter.TAG, logMessage);
     this.placementId = placementId;
+    if (load != null) {
+      load.onLoaded();
+    }
     interstitialAdCallback = adLoadCallback.onSuccess(this);
   }
 
@@ -197,9 +201,9 @@ public class UnityInterstitialAd
             UnityAdsAdapterUtils.setCoppa(
                 MobileAds.getRequestConfiguration().getTagForChildDirectedTreatment(), context);
 
-            objectId = UUID.randomUUID().toString();
+            load = UnityAdsLoadTracker.getInstance().startLoad(placementId);
             UnityAdsLoadOptions unityAdsLoadOptions =
-                unityAdsLoader.createUnityAdsLoadOptionsWithId(objectId);
+                unityAdsLoader.createUnityAdsLoadOptionsWithId(load.getObjectId());
             if (adMarkup != null) {
               unityAdsLoadOptions.setAdMarkup(adMarkup);
             }
@@ -243,8 +247,22 @@ public class UnityInterstitialAd
           "Unity Ads received call to show before successfully loading an ad.");
     }
 
+    // Do not show a stale ad that Unity Ads would only fail to play once the user waited for it.
+    if (load != null && load.checkExpired()) {
+      AdError adError =
+          new AdError(
+              ERROR_AD_EXPIRED,
+              String.format(ERROR_MSG_AD_EXPIRED, placementId, load.getAdAgeMillis()),
+              ADAPTER_ERROR_DOMAIN);
+      Log.w(UnityMediationAdapter.TAG, adError.toString());
+      if (interstitialAdCallback != null) {
+        interstitialAdCallback.onAdFailedToShow(adError);
+      }
+      return;
+    }
+
     UnityAdsShowOptions unityAdsShowOptions =
-        unityAdsLoader.createUnityAdsShowOptionsWithId(objectId);
+        unityAdsLoader.createUnityAdsShowOptionsWithId(load != null ? load.getObjectId() : null);
     unityAdsShowOptions.set(KEY_WATERMARK, adConfiguration.getWatermark());
     // UnityAds can handle a null placement ID so show is always called here.
     unityAdsLoader.show(activityReference, placementId, unityAdsShowOptions, this);
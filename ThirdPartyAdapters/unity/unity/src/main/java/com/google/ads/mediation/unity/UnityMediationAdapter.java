@@ -77,7 +77,8 @@ public class UnityMediationAdapter extends RtbAdapter {
           ERROR_UNITY_ADS_NOT_SUPPORTED,
           ERROR_FINISH,
           ERROR_BANNER_SIZE_MISMATCH,
-          ERROR_INITIALIZATION_FAILURE
+          ERROR_INITIALIZATION_FAILURE,
+          ERROR_AD_EXPIRED
       })
   @interface AdapterError {
 
@@ -133,6 +134,11 @@ public class UnityMediationAdapter extends RtbAdapter {
    */
   static final int ERROR_INITIALIZATION_FAILURE = 111;
 
+  /**
+   * Tried to show an ad that was loaded longer ago than the ad expiration time.
+   */
+  static final int ERROR_AD_EXPIRED = 112;
+
   static final String ERROR_MSG_MISSING_PARAMETERS = "Missing or invalid server parameters.";
 
   static final String ERROR_MSG_NON_ACTIVITY =
@@ -140,6 +146,9 @@ public class UnityMediationAdapter extends RtbAdapter {
 
   static final String ERROR_MSG_CONTEXT_NULL = "Activity context is null.";
 
+  static final String ERROR_MSG_AD_EXPIRED =
+      "The Unity Ads ad for placement ID '%s' expired %d ms after it was loaded.";
+
   static final String ERROR_MSG_INITIALIZATION_FAILURE = "Unity Ads initialization failed: [%s] %s";
 
   /**
@@ -190,15 +199,56 @@ public class UnityMediationAdapter extends RtbAdapter {
   @Override
   public void collectSignals(
       @NonNull RtbSignalData rtbSignalData, @NonNull SignalCallbacks signalCallbacks) {
+    UnityBidTokenCache bidTokenCache = UnityBidTokenCache.getInstance();
+    String cacheKey =
+        bidTokenCache.isEnabled() ? UnityBidTokenCache.createKey(rtbSignalData) : null;
+    String cachedToken = cacheKey != null ? bidTokenCache.get(cacheKey) : null;
+    if (cachedToken != null) {
+      signalCallbacks.onSuccess(cachedToken);
+      return;
+    }
+
+    UnityBidTokenPrewarmer bidTokenPrewarmer = UnityBidTokenPrewarmer.getInstance();
+    String prewarmedToken =
+        bidTokenPrewarmer.isEnabled()
+            ? bidTokenPrewarmer.consume(
+                UnityBidTokenPrewarmer.createKey(
+                    rtbSignalData.getContext(), UnityBidTokenPrewarmer.ANY_REQUEST_KEY))
+            : null;
+    if (prewarmedToken != null) {
+      if (cacheKey != null) {
+        bidTokenCache.put(cacheKey, prewarmedToken);
+      }
+      signalCallbacks.onSuccess(prewarmedToken);
+      return;
+    }
+
     UnityAds.getToken(
         token -> {
           if (token == null) {
             token = "";
+          } else if (cacheKey != null && !token.isEmpty()) {
+            bidTokenCache.put(cacheKey, token);
           }
           signalCallbacks.onSuccess(token);
         });
   }
 
+  /** Generates a bid token for the first auction, if bid token prewarming is enabled. */
+  private static void prewarmBidToken(@NonNull Context context) {
+    UnityBidTokenPrewarmer bidTokenPrewarmer = UnityBidTokenPrewarmer.getInstance();
+    if (!bidTokenPrewarmer.isEnabled()) {
+      return;
+    }
+    String key = UnityBidTokenPrewarmer.createKey(context, UnityBidTokenPrewarmer.ANY_REQUEST_KEY);
+    UnityAds.getToken(
+        token -> {
+          if (token != null && !token.isEmpty()) {
+            bidTokenPrewarmer.put(key, token);
+          }
+        });
+  }
+
   @VisibleForTesting
   UnityMediationAdapter(
       UnityInitializer unityInitializer,
@@ -252,8 +302,11 @@ public class UnityMediationAdapter extends RtbAdapter {
 
   @Override
   public void initialize(@NonNull Context context,
-      @NonNull final InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull InitializationCompleteCallback callback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    final InitializationCompleteCallback initializationCompleteCallback =
+        UnityInitializationTelemetry.track(TAG, callback, null);
+
     HashSet<String> gameIDs = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       Bundle serverParameters = configuration.getServerParameters();
@@ -292,6 +345,7 @@ public class UnityMediationAdapter extends RtbAdapter {
           public void onInitializationComplete() {
             Log.d(TAG, "Unity Ads initialized successfully.");
             initializationCompleteCallback.onInitializationSucceeded();
+            prewarmBidToken(context);
           }
 
           @Override
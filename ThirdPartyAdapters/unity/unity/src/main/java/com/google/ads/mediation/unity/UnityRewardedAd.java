@@ -16,8 +16,10 @@ package com.google.ads.mediation.unity;
 
 import static com.google.ads.mediation.unity.UnityAdsAdapterUtils.createSDKError;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ADAPTER_ERROR_DOMAIN;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_AD_EXPIRED;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_CONTEXT_NOT_ACTIVITY;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_AD_EXPIRED;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_MISSING_PARAMETERS;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_NON_ACTIVITY;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.KEY_WATERMARK;
@@ -43,7 +45,6 @@ import com.unity3d.ads.UnityAds.UnityAdsLoadError;
 import com.unity3d.ads.UnityAds.UnityAdsShowError;
 import com.unity3d.ads.UnityAdsLoadOptions;
 import com.unity3d.ads.UnityAdsShowOptions;
-import java.util.UUID;
 
 /**
  * The {@link UnityRewardedAd} is used to load Unity Rewarded ads and mediate the callbacks between
@@ -75,8 +76,8 @@ public class UnityRewardedAd implements MediationRewardedAd {
   /** Placement ID used to determine what type of ad to load. */
   @Nullable private String placementId;
 
-  /** Object ID used to track loaded/shown ads. */
-  @Nullable private String objectId;
+  /** The load of the ad, which holds the object ID used to track loaded/shown ads. */
+  @Nullable private UnityAdsLoadTracker.Load load;
 
   /** IUnityAdsLoadListener instance. */
   @VisibleForTesting
@@ -89,6 +90,9 @@ public class UnityRewardedAd implements MediationRewardedAd {
                   "Unity Ads rewarded ad successfully loaded placement ID: %s", placementId);
           Log.d(TAG, logMessage);
           UnityRewardedAd.this.placementId = placementId;
+          if (load != null) {
+            load.onLoaded();
+          }
           mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(UnityRewardedAd.this);
         }
 
@@ -163,8 +167,22 @@ public class UnityRewardedAd implements MediationRewardedAd {
       Log.w(TAG, "Unity Ads received call to show before successfully loading an ad.");
     }
 
+    // Do not show a stale ad that Unity Ads would only fail to play once the user waited for it.
+    if (load != null && load.checkExpired()) {
+      AdError showError =
+          new AdError(
+              ERROR_AD_EXPIRED,
+              String.format(ERROR_MSG_AD_EXPIRED, placementId, load.getAdAgeMillis()),
+              ADAPTER_ERROR_DOMAIN);
+      Log.w(TAG, showError.toString());
+      if (mediationRewardedAdCallback != null) {
+        mediationRewardedAdCallback.onAdFailedToShow(showError);
+      }
+      return;
+    }
+
     UnityAdsShowOptions unityAdsShowOptions =
-        unityAdsLoader.createUnityAdsShowOptionsWithId(objectId);
+        unityAdsLoader.createUnityAdsShowOptionsWithId(load != null ? load.getObjectId() : null);
     unityAdsShowOptions.set(KEY_WATERMARK, mediationRewardedAdConfiguration.getWatermark());
 
     // UnityAds can handle a null placement ID so show is always called here.
@@ -248,9 +266,9 @@ public class UnityRewardedAd implements MediationRewardedAd {
       UnityAdsAdapterUtils.setCoppa(
           mediationRewardedAdConfiguration.taggedForChildDirectedTreatment(), context);
 
-      objectId = UUID.randomUUID().toString();
+      load = UnityAdsLoadTracker.getInstance().startLoad(placementId);
       UnityAdsLoadOptions unityAdsLoadOptions =
-          unityAdsLoader.createUnityAdsLoadOptionsWithId(objectId);
+          unityAdsLoader.createUnityAdsLoadOptionsWithId(load.getObjectId());
       if (adMarkup != null) {
         unityAdsLoadOptions.setAdMarkup(adMarkup);
       }